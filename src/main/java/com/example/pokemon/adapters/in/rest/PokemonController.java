@@ -0,0 +1,119 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.in.rest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.pokemon.adapters.in.web.dto.PokemonDto;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.model.PokemonLookup;
+import com.example.pokemon.domain.ports.in.QueryPokemonUseCase;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * PokemonController
+ *
+ * API REST/JSON con los mismos datos que el endpoint SOAP, para servicios
+ * internos que no necesitan el sobre SOAP (sin SAAJ ni JAXB por petición).
+ *
+ * - GET /api/pokemon/{name}: agregado completo ({@code includeEncounters=true}
+ *   añade las ubicaciones, que cuestan una llamada remota más).
+ * - GET /api/pokemon/{name}/abilities, /base-experience, /held-items, /id,
+ *   /location-area-encounters: un campo, con el mismo {@link FetchPlan} que la
+ *   operación SOAP equivalente. Un campo ausente en PokeAPI (p.ej. la
+ *   experiencia base de algunas formas alternativas) se devuelve como
+ *   {@code null} en el JSON.
+ * - Usa {@link QueryPokemonUseCase} (caché, alias y dataset local incluidos)
+ *   en su variante reactiva: devuelve {@link Mono} y el hilo del servlet se
+ *   libera mientras se espera a PokeAPI (procesamiento asíncrono de Spring MVC).
+ * - Datos caducados: cabeceras {@code X-Data-Freshness} (STALE / DEGRADED) y
+ *   {@code Age}, equivalentes a la cabecera SOAP {@code DataFreshness}.
+ * - Errores: {@link PokemonRestExceptionHandler}.
+ */
+@RestController
+@RequestMapping("/api/pokemon")
+@Tag(name = "Pokémon", description = "Consulta de Pokémon (misma información que el servicio SOAP)")
+@RequiredArgsConstructor
+public class PokemonController {
+
+	/** Cabecera con la frescura de datos servidos desde caché caducada. */
+	public static final String FRESHNESS_HEADER = "X-Data-Freshness";
+
+	/** Caso de uso del dominio para consultas de Pokémon. */
+	private final QueryPokemonUseCase queryPokemonUseCase;
+
+	@Operation(summary = "Agregado completo de un Pokémon",
+			description = "Id, nombre, experiencia base, habilidades e ítems; con includeEncounters=true, también ubicaciones.")
+	@GetMapping("/{name}")
+	public Mono<ResponseEntity<PokemonDto>> pokemon(@PathVariable String name,
+			@RequestParam(defaultValue = "false") boolean includeEncounters) {
+		return respond(name, includeEncounters ? FetchPlan.FULL : FetchPlan.BASE, PokemonDto::from);
+	}
+
+	@Operation(summary = "Habilidades de un Pokémon")
+	@GetMapping("/{name}/abilities")
+	public Mono<ResponseEntity<Map<String, List<String>>>> abilities(@PathVariable String name) {
+		return respond(name, FetchPlan.BASE, p -> Map.of("abilities", p.getAbilities()));
+	}
+
+	@Operation(summary = "Experiencia base de un Pokémon")
+	@GetMapping("/{name}/base-experience")
+	public Mono<ResponseEntity<Map<String, Integer>>> baseExperience(@PathVariable String name) {
+		return respond(name, FetchPlan.BASE, p -> Collections.singletonMap("baseExperience", p.getBaseExperience()));
+	}
+
+	@Operation(summary = "Ítems que puede sostener un Pokémon")
+	@GetMapping("/{name}/held-items")
+	public Mono<ResponseEntity<Map<String, List<String>>>> heldItems(@PathVariable String name) {
+		return respond(name, FetchPlan.BASE, p -> Map.of("heldItems", p.getHeldItems()));
+	}
+
+	@Operation(summary = "Identificador de un Pokémon")
+	@GetMapping("/{name}/id")
+	public Mono<ResponseEntity<Map<String, Integer>>> id(@PathVariable String name) {
+		return respond(name, FetchPlan.BASE, p -> Collections.singletonMap("id", p.getId()));
+	}
+
+	@Operation(summary = "Ubicaciones donde puede encontrarse un Pokémon")
+	@GetMapping("/{name}/location-area-encounters")
+	public Mono<ResponseEntity<Map<String, List<String>>>> locationAreaEncounters(@PathVariable String name) {
+		return respond(name, FetchPlan.FULL, p -> Map.of("locationAreaEncounters", p.getLocationAreaEncounters()));
+	}
+
+	/**
+	 * Consulta el Pokémon y construye la respuesta con las cabeceras de frescura.
+	 *
+	 * @param name   nombre o id del Pokémon
+	 * @param plan   partes del agregado que necesita la operación
+	 * @param mapper agregado → cuerpo JSON
+	 * @return respuesta 200; los errores los traduce {@link PokemonRestExceptionHandler}
+	 */
+	private <T> Mono<ResponseEntity<T>> respond(String name, FetchPlan plan, Function<Pokemon, T> mapper) {
+		return queryPokemonUseCase.lookupReactive(name, plan).map(lookup -> {
+			ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+			if (lookup.isStale()) {
+				response.header(FRESHNESS_HEADER, lookup.getFreshness().name())
+						.header(HttpHeaders.AGE, Long.toString(lookup.getAge().toSeconds()));
+			}
+			return response.body(mapper.apply(lookup.getPokemon()));
+		});
+	}
+
+}
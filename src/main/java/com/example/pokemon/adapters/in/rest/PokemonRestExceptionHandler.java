@@ -0,0 +1,67 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.in.rest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.example.pokemon.adapters.in.web.dto.ErrorDetailDto;
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.common.exceptions.RemoteClientException;
+import com.example.pokemon.common.exceptions.RemoteUnavailableException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PokemonRestExceptionHandler
+ *
+ * Traduce las excepciones del caso de uso a respuestas HTTP de
+ * {@link PokemonController}, con el mismo detalle que los SOAP Faults
+ * ({@link ErrorDetailDto}):
+ *
+ * - {@link IllegalArgumentException} (nombre vacío) → 400.
+ * - {@link PokemonNotFoundException} → 404.
+ * - {@link RemoteUnavailableException} (límite de concurrencia o circuito
+ *   abierto) → 503 con {@code Retry-After} y {@code retryAfterSeconds}.
+ * - Otros {@link RemoteClientException} (PokeAPI caído, errores de red) → 502.
+ */
+@RestControllerAdvice(assignableTypes = PokemonController.class)
+@Slf4j
+public class PokemonRestExceptionHandler {
+
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<ErrorDetailDto> badRequest(IllegalArgumentException ex) {
+		return error(HttpStatus.BAD_REQUEST, "Petición no válida", ex, null);
+	}
+
+	@ExceptionHandler(PokemonNotFoundException.class)
+	public ResponseEntity<ErrorDetailDto> notFound(PokemonNotFoundException ex) {
+		return error(HttpStatus.NOT_FOUND, "Pokémon no encontrado", ex, null);
+	}
+
+	@ExceptionHandler(RemoteUnavailableException.class)
+	public ResponseEntity<ErrorDetailDto> unavailable(RemoteUnavailableException ex) {
+		return error(HttpStatus.SERVICE_UNAVAILABLE, "PokeAPI no disponible temporalmente", ex,
+				ex.getRetryAfterSeconds());
+	}
+
+	@ExceptionHandler(RemoteClientException.class)
+	public ResponseEntity<ErrorDetailDto> badGateway(RemoteClientException ex) {
+		log.warn("PokeAPI error serving REST request: {}", ex.getMessage());
+		return error(HttpStatus.BAD_GATEWAY, "Error consultando PokeAPI", ex, null);
+	}
+
+	private static ResponseEntity<ErrorDetailDto> error(HttpStatus status, String message, Exception ex,
+			Integer retryAfterSeconds) {
+		ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+		if (retryAfterSeconds != null) {
+			response.header(HttpHeaders.RETRY_AFTER, retryAfterSeconds.toString());
+		}
+		return response.body(new ErrorDetailDto(message, ex.getMessage(), retryAfterSeconds));
+	}
+
+}
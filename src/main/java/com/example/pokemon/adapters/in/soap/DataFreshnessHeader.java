@@ -0,0 +1,85 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.in.soap;
+
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapHeader;
+import org.springframework.ws.soap.SoapMessage;
+
+import com.example.pokemon.domain.model.PokemonLookup;
+import com.example.pokemon.soap.schemas.DataFreshness;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+
+/**
+ * Helper para marcar respuestas SOAP servidas con datos caducados.
+ *
+ * Si el {@link PokemonLookup} no es FRESH, añade a la cabecera SOAP de la
+ * respuesta un elemento {@link DataFreshness} (ver pokemon.xsd) con el estado
+ * (STALE / DEGRADED) y la antigüedad de los datos. Las respuestas frescas no
+ * llevan cabecera.
+ */
+public final class DataFreshnessHeader {
+
+	private DataFreshnessHeader() {
+		// Constructor privado: clase utilitaria
+	}
+
+	/**
+	 * Contexto JAXB, creado solo al escribir la primera cabecera: crearlo lee
+	 * recursos del classpath y {@link #of(PokemonLookup)} se usa dentro del
+	 * batch reactivo, en los hilos de Reactor.
+	 */
+	private static final class Jaxb {
+
+		static final JAXBContext CONTEXT;
+
+		static {
+			try {
+				CONTEXT = JAXBContext.newInstance(DataFreshness.class);
+			} catch (JAXBException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+	}
+
+	/**
+	 * Añade la cabecera {@code DataFreshness} si los datos no están frescos.
+	 *
+	 * @param messageContext contexto del mensaje SOAP
+	 * @param lookup         resultado de la consulta
+	 */
+	public static void addTo(MessageContext messageContext, PokemonLookup lookup) {
+		DataFreshness freshness = of(lookup);
+		if (freshness == null) {
+			return;
+		}
+		try {
+			SoapHeader header = ((SoapMessage) messageContext.getResponse()).getSoapHeader();
+			Jaxb.CONTEXT.createMarshaller().marshal(freshness, header.getResult());
+		} catch (JAXBException e) {
+			throw new RuntimeException("Error construyendo la cabecera DataFreshness", e);
+		}
+	}
+
+	/**
+	 * Elemento {@code DataFreshness} de una consulta (también se usa dentro de
+	 * cada resultado de un batch).
+	 *
+	 * @param lookup resultado de la consulta
+	 * @return elemento con estado y antigüedad, o null si los datos están frescos
+	 */
+	public static DataFreshness of(PokemonLookup lookup) {
+		if (!lookup.isStale()) {
+			return null;
+		}
+		DataFreshness freshness = new DataFreshness();
+		freshness.setStatus(lookup.getFreshness().name());
+		freshness.setAgeSeconds(lookup.getAge().toSeconds());
+		return freshness;
+	}
+
+}
@@ -31,6 +31,7 @@ import org.springframework.ws.soap.server.endpoint.SoapFaultMappingExceptionReso
  *        <ErrorDetail xmlns="http://example.com/pokemon/soap/schemas">
  *          <errorMessage>...</errorMessage>
  *          <cause>...</cause>
+ *          <retryAfterSeconds>...</retryAfterSeconds>   (solo errores transitorios)
  *        </ErrorDetail>
  *      </detail>
  *
@@ -72,10 +73,15 @@ public class GlobalSoapExceptionResolver extends SoapFaultMappingExceptionResolv
                 ? ex.getCause().getMessage()
                 : "No cause available";
 
+        Integer retryAfterSeconds = SoapFaultHelper.retryAfterSeconds(ex);
+
         String xml =
                 "<ErrorDetail xmlns=\"" + NS + "\">" +
                     "<errorMessage>" + escapeXml(errorMessage) + "</errorMessage>" +
                     "<cause>" + escapeXml(causeMessage) + "</cause>" +
+                    (retryAfterSeconds != null
+                            ? "<retryAfterSeconds>" + retryAfterSeconds + "</retryAfterSeconds>"
+                            : "") +
                 "</ErrorDetail>";
 
         // 5) Inserta el fragmento XML dentro del detalle usando Transformer
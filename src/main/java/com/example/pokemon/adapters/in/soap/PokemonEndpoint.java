@@ -3,7 +3,7 @@
  */
 package com.example.pokemon.adapters.in.soap;
 
-import java.util.Optional;
+import java.util.List;
 
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.endpoint.annotation.Endpoint;
@@ -11,6 +11,8 @@ import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
 import org.springframework.ws.server.endpoint.annotation.RequestPayload;
 import org.springframework.ws.server.endpoint.annotation.ResponsePayload;
 
+import com.example.pokemon.config.SoapBatchProperties;
+import com.example.pokemon.domain.model.FetchPlan;
 import com.example.pokemon.domain.model.Pokemon;
 import com.example.pokemon.domain.ports.in.QueryPokemonUseCase;
 import com.example.pokemon.soap.schemas.AbilitiesRequest;
@@ -25,8 +27,16 @@ import com.example.pokemon.soap.schemas.LocationAreaEncountersRequest;
 import com.example.pokemon.soap.schemas.LocationAreaEncountersResponse;
 import com.example.pokemon.soap.schemas.NameRequest;
 import com.example.pokemon.soap.schemas.NameResponse;
+import com.example.pokemon.soap.schemas.PokemonBatchRequest;
+import com.example.pokemon.soap.schemas.PokemonBatchResponse;
+import com.example.pokemon.soap.schemas.PokemonBatchResult;
+import com.example.pokemon.soap.schemas.PokemonData;
+import com.example.pokemon.soap.schemas.PokemonSummaryRequest;
+import com.example.pokemon.soap.schemas.PokemonSummaryResponse;
 
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Endpoint SOAP para exponer operaciones relacionadas con Pokémon.
@@ -42,7 +52,19 @@ import lombok.RequiredArgsConstructor;
  *   implementación concreta.
  * - Devuelve siempre un objeto de respuesta SOAP con la información solicitada.
  * - Uso de Streams para poblar listas de respuesta.
- * - Envoltorio con Optional para mejorar legibilidad en el manejo de excepciones.
+ * - Un nombre nulo o una consulta fallida se responden con un SOAP Fault
+ *   ({@link SoapFaultHelper}).
+ * - Cada operación indica su {@link FetchPlan}: solo LocationAreaEncounters
+ *   necesita la lista de encounters; el resto evita esa llamada remota.
+ * - Si los datos vienen de caché caducada, la respuesta lleva la cabecera
+ *   SOAP {@code DataFreshness} (ver {@link DataFreshnessHeader}).
+ * - PokemonSummary devuelve el agregado completo en una llamada (una sola
+ *   consulta), en lugar de las seis operaciones de un campo.
+ * - PokemonBatch resuelve varios nombres en una petición, en paralelo con
+ *   límite ({@link SoapBatchProperties}); cada nombre lleva su resultado o su
+ *   {@code ErrorDetail}, sin Fault para el batch entero.
+ * - Las operaciones de un Pokémon pueden servir el payload ya serializado
+ *   ({@link SoapResponseCache}, opcional).
  */
 @Endpoint
 @RequiredArgsConstructor
@@ -57,6 +79,12 @@ public class PokemonEndpoint {
 	/** Caso de uso del dominio para consultas de Pokemon. */
 	private final QueryPokemonUseCase queryPokemonUseCase;
 
+	/** Límites de la operación batch. */
+	private final SoapBatchProperties batchProperties;
+
+	/** Payloads ya serializados de los nombres más consultados (opcional). */
+	private final SoapResponseCache responseCache;
+
 	// -----------------------------------
 	// 🔹 Métodos públicos SOAP
 	// -----------------------------------
@@ -70,7 +98,7 @@ public class PokemonEndpoint {
 	@PayloadRoot(namespace = NAMESPACE_URI, localPart = "AbilitiesRequest")
 	@ResponsePayload
 	public AbilitiesResponse abilities(@RequestPayload AbilitiesRequest request, MessageContext messageContext) {
-		return handleRequest(request.getName(), messageContext,
+		return handleRequest(AbilitiesResponse.class, request.getName(), messageContext, FetchPlan.BASE,
 				p -> {
 					var res = new AbilitiesResponse();
 					res.getAbilities().addAll(p.getAbilities());
@@ -88,7 +116,7 @@ public class PokemonEndpoint {
 	@PayloadRoot(namespace = NAMESPACE_URI, localPart = "BaseExperienceRequest")
 	@ResponsePayload
 	public BaseExperienceResponse baseExperience(@RequestPayload BaseExperienceRequest request, MessageContext messageContext) {
-		return handleRequest(request.getName(), messageContext,
+		return handleRequest(BaseExperienceResponse.class, request.getName(), messageContext, FetchPlan.BASE,
 				p -> {
 					var res = new BaseExperienceResponse();
 					res.setBaseExperience(p.getBaseExperience());
@@ -106,7 +134,7 @@ public class PokemonEndpoint {
 	@PayloadRoot(namespace = NAMESPACE_URI, localPart = "HeldItemsRequest")
 	@ResponsePayload
 	public HeldItemsResponse heldItems(@RequestPayload HeldItemsRequest request, MessageContext messageContext) {
-		return handleRequest(request.getName(), messageContext,
+		return handleRequest(HeldItemsResponse.class, request.getName(), messageContext, FetchPlan.BASE,
 				p -> {
 					var res = new HeldItemsResponse();
 					// Uso de streams para añadir ítems
@@ -125,7 +153,7 @@ public class PokemonEndpoint {
 	@PayloadRoot(namespace = NAMESPACE_URI, localPart = "IdRequest")
 	@ResponsePayload
 	public IdResponse id(@RequestPayload IdRequest request, MessageContext messageContext) {
-		return handleRequest(request.getName(), messageContext,
+		return handleRequest(IdResponse.class, request.getName(), messageContext, FetchPlan.BASE,
 				p -> {
 					var res = new IdResponse();
 					res.setId(p.getId());
@@ -143,7 +171,7 @@ public class PokemonEndpoint {
 	@PayloadRoot(namespace = NAMESPACE_URI, localPart = "NameRequest")
 	@ResponsePayload
 	public NameResponse name(@RequestPayload NameRequest request, MessageContext messageContext) {
-		return handleRequest(request.getName(), messageContext,
+		return handleRequest(NameResponse.class, request.getName(), messageContext, FetchPlan.BASE,
 				p -> {
 					var res = new NameResponse();
 					res.setName(p.getName());
@@ -162,7 +190,7 @@ public class PokemonEndpoint {
 	@ResponsePayload
 	public LocationAreaEncountersResponse locationAreaEncounters(@RequestPayload LocationAreaEncountersRequest request,
 			MessageContext messageContext) {
-		return handleRequest(request.getName(), messageContext,
+		return handleRequest(LocationAreaEncountersResponse.class, request.getName(), messageContext, FetchPlan.FULL,
 				p -> {
 					var res = new LocationAreaEncountersResponse();
 					// Streams para añadir encounters
@@ -172,6 +200,56 @@ public class PokemonEndpoint {
 				"ubicaciones");
 	}
 	
+	/**
+	 * Devuelve el agregado completo de un Pokémon (id, nombre, experiencia base,
+	 * habilidades, ítems y ubicaciones) a partir de una sola consulta.
+	 *
+	 * @param request mensaje SOAP con el nombre del Pokémon
+	 * @return agregado completo en el objeto de respuesta
+	 */
+	@PayloadRoot(namespace = NAMESPACE_URI, localPart = "PokemonSummaryRequest")
+	@ResponsePayload
+	public PokemonSummaryResponse summary(@RequestPayload PokemonSummaryRequest request,
+			MessageContext messageContext) {
+		return handleRequest(PokemonSummaryResponse.class, request.getName(), messageContext, FetchPlan.FULL,
+				p -> fillPokemonData(new PokemonSummaryResponse(), p),
+				"resumen");
+	}
+
+	/**
+	 * Devuelve varios Pokémon en una sola petición.
+	 *
+	 * Los nombres se resuelven en paralelo con la consulta reactiva (como mucho
+	 * {@code concurrency} a la vez, sin bloquear hilos de {@code boundedElastic},
+	 * que es donde corre la E/S de la caché en disco) y los resultados se devuelven en el orden de la petición. Un nombre
+	 * que falla lleva su {@code ErrorDetail}; solo una petición que supera
+	 * {@code maxNames} se rechaza con un Fault.
+	 *
+	 * @param request mensaje SOAP con la lista de nombres
+	 * @return un resultado por nombre
+	 */
+	@PayloadRoot(namespace = NAMESPACE_URI, localPart = "PokemonBatchRequest")
+	@ResponsePayload
+	public PokemonBatchResponse batch(@RequestPayload PokemonBatchRequest request, MessageContext messageContext) {
+		List<String> names = request.getName();
+		if (names.size() > batchProperties.getMaxNames()) {
+			SoapFaultHelper.createClientFault(
+					messageContext,
+					"El batch admite como máximo " + batchProperties.getMaxNames() + " nombres",
+					new IllegalArgumentException("Batch size " + names.size()));
+			return null;
+		}
+		FetchPlan plan = Boolean.TRUE.equals(request.isIncludeEncounters()) ? FetchPlan.FULL : FetchPlan.BASE;
+		// Un único block() en el hilo de la petición: las cargas no ocupan hilos de boundedElastic
+		List<PokemonBatchResult> results = Flux.fromIterable(names)
+				.flatMapSequential(n -> batchResult(n, plan), batchProperties.getConcurrency())
+				.collectList()
+				.block();
+		var res = new PokemonBatchResponse();
+		res.getResult().addAll(results);
+		return res;
+	}
+
 	// -----------------------------------
 	// 🔹 Método utilitario genérico
 	// -----------------------------------
@@ -179,35 +257,76 @@ public class PokemonEndpoint {
 	/**
 	 * Maneja las consultas de Pokémon de forma genérica y reduce duplicación.
 	 *
+	 * Con {@link SoapResponseCache} activa, el payload se escribe directamente
+	 * en la respuesta (desde caché si el agregado no ha cambiado) y se devuelve
+	 * null, de modo que Spring-WS no vuelve a serializarlo.
+	 *
+	 * @param responseType tipo de respuesta de la operación
 	 * @param name nombre del Pokémon solicitado
 	 * @param messageContext contexto SOAP
+	 * @param plan partes del agregado que necesita la operación
 	 * @param mapper función para mapear el Pokémon a una respuesta SOAP
 	 * @param entityLabel etiqueta descriptiva para mensajes de error
 	 * @return objeto de respuesta SOAP o null si ocurrió un error
 	 */
-	private <T> T handleRequest(String name, MessageContext messageContext,
+	private <T> T handleRequest(Class<T> responseType, String name, MessageContext messageContext, FetchPlan plan,
 			java.util.function.Function<Pokemon, T> mapper, String entityLabel) {
 
-		return Optional.ofNullable(name)
-				.map(n -> {
-					try {
-						var pokemon = queryPokemonUseCase.getPokemon(n);
-						return mapper.apply(pokemon);
-					} catch (RuntimeException ex) {
-						SoapFaultHelper.createClientFault(
-								messageContext,
-								"No se pudo obtener " + entityLabel + " del Pokémon: " + n,
-								ex);
-						return null;
-					}
+		if (name == null) {
+			SoapFaultHelper.createClientFault(
+					messageContext,
+					"El nombre del Pokémon no puede ser nulo",
+					new IllegalArgumentException("Name is null"));
+			return null;
+		}
+		try {
+			var lookup = queryPokemonUseCase.lookup(name, plan);
+			DataFreshnessHeader.addTo(messageContext, lookup);
+			if (responseCache.write(messageContext, responseType, lookup, mapper)) {
+				return null;
+			}
+			return mapper.apply(lookup.getPokemon());
+		} catch (RuntimeException ex) {
+			SoapFaultHelper.createClientFault(
+					messageContext,
+					"No se pudo obtener " + entityLabel + " del Pokémon: " + name,
+					ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Resultado de un nombre del batch: agregado + frescura, o detalle del error.
+	 */
+	private Mono<PokemonBatchResult> batchResult(String name, FetchPlan plan) {
+		return queryPokemonUseCase.lookupReactive(name, plan)
+				.map(lookup -> {
+					var result = new PokemonBatchResult();
+					result.setName(name);
+					result.setPokemon(fillPokemonData(new PokemonData(), lookup.getPokemon()));
+					result.setDataFreshness(DataFreshnessHeader.of(lookup));
+					return result;
 				})
-				.orElseGet(() -> {
-					SoapFaultHelper.createClientFault(
-							messageContext,
-							"El nombre del Pokémon no puede ser nulo",
-							new IllegalArgumentException("Name is null"));
-					return null;
+				.onErrorResume(RuntimeException.class, ex -> {
+					var result = new PokemonBatchResult();
+					result.setName(name);
+					result.setErrorDetail(SoapFaultHelper.errorDetail("No se pudo obtener el Pokémon: " + name, ex));
+					return Mono.just(result);
 				});
 	}
 
+	/**
+	 * Agregado de dominio → tipo {@code PokemonData} del XSD (o un subtipo, como
+	 * {@code PokemonSummaryResponse}).
+	 */
+	private static <T extends PokemonData> T fillPokemonData(T data, Pokemon p) {
+		data.setId(p.getId());
+		data.setName(p.getName());
+		data.setBaseExperience(p.getBaseExperience());
+		data.getAbilities().addAll(p.getAbilities());
+		data.getHeldItems().addAll(p.getHeldItems());
+		data.getEncounters().addAll(p.getLocationAreaEncounters());
+		return data;
+	}
+
 }
@@ -13,10 +13,12 @@ import org.springframework.ws.soap.SoapFault;
 import org.springframework.ws.soap.SoapFaultDetail;
 import org.springframework.ws.soap.SoapMessage;
 
+import com.example.pokemon.common.exceptions.RemoteUnavailableException;
 import com.example.pokemon.soap.schemas.ErrorDetail;
 
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
 
 /**
@@ -24,13 +26,62 @@ import jakarta.xml.bind.Marshaller;
  * 
  * Este helper permite centralizar la creación de faults y evita duplicar
  * el código de JAXB en cada endpoint.
+ *
+ * Si el error es transitorio ({@link RemoteUnavailableException}), el detalle
+ * incluye {@code retryAfterSeconds} para que el cliente sepa cuándo reintentar.
+ *
+ * El {@link JAXBContext} se crea una sola vez: crearlo es caro (reflexión e
+ * inicialización sincronizada en el runtime JAXB) y, con hilos virtuales,
+ * hacerlo en cada Fault serializaría los errores de PokeAPI en ráfaga.
  */
 public final class SoapFaultHelper {
+
+	private static final JAXBContext CONTEXT;
+
+	static {
+		try {
+			CONTEXT = JAXBContext.newInstance(ErrorDetail.class);
+		} catch (JAXBException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
 	
 	private SoapFaultHelper() {
         // Constructor privado: clase utilitaria
     }
 
+    /**
+     * Segundos recomendados antes de reintentar si el error es transitorio
+     * ({@link RemoteUnavailableException} en la excepción o en sus causas).
+     *
+     * @param ex excepción capturada (puede ser null)
+     * @return segundos a esperar, o null si no aplica
+     */
+    public static Integer retryAfterSeconds(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof RemoteUnavailableException unavailable) {
+                return unavailable.getRetryAfterSeconds();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Construye el {@link ErrorDetail} de un error (detalle de un Fault o de un
+     * elemento de un batch).
+     *
+     * @param userMessage mensaje legible para el consumidor
+     * @param ex excepción capturada (puede ser null)
+     * @return detalle con mensaje, causa y, si aplica, retryAfterSeconds
+     */
+    public static ErrorDetail errorDetail(String userMessage, Exception ex) {
+        ErrorDetail errorDetail = new ErrorDetail();
+        errorDetail.setErrorMessage(userMessage);
+        errorDetail.setCause(ex != null ? ex.getMessage() : null);
+        errorDetail.setRetryAfterSeconds(retryAfterSeconds(ex));
+        return errorDetail;
+    }
+
     /**
      * Crea un SOAP Fault tipo "Client" con detalle estructurado {@link ErrorDetail}.
      *
@@ -50,13 +101,10 @@ public final class SoapFaultHelper {
             SoapFaultDetail detail = fault.addFaultDetail();
 
             // Construir objeto ErrorDetail (JAXB)
-            ErrorDetail errorDetail = new ErrorDetail();
-            errorDetail.setErrorMessage(userMessage);
-            errorDetail.setCause(ex != null ? ex.getMessage() : null);
+            ErrorDetail errorDetail = errorDetail(userMessage, ex);
 
             // Marshalling JAXB
-            JAXBContext jaxbContext = JAXBContext.newInstance(ErrorDetail.class);
-            Marshaller marshaller = jaxbContext.createMarshaller();
+            Marshaller marshaller = CONTEXT.createMarshaller();
 
             QName detailQName = new QName("http://example.com/pokemon/soap/errors", "ErrorDetail");
             JAXBElement<ErrorDetail> jaxbElement = new JAXBElement<>(detailQName, ErrorDetail.class, errorDetail);
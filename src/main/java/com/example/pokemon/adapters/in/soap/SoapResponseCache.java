@@ -0,0 +1,151 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.in.soap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.function.Function;
+
+import javax.xml.transform.stream.StreamSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.xml.transform.TransformerHelper;
+
+import com.example.pokemon.config.SoapResponseCacheProperties;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.model.PokemonLookup;
+import com.example.pokemon.soap.schemas.ObjectFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SoapResponseCache
+ *
+ * Caché de payloads de respuesta SOAP ya serializados, por operación y
+ * Pokémon, para los nombres más consultados.
+ *
+ * - Clave: tipo de respuesta (identifica la operación) + nombre canónico del
+ *   Pokémon ({@link Pokemon#getName()}, así "Pikachu", "25" y "pikachu"
+ *   comparten entrada).
+ * - Versión: la de la entrada de la caché de Pokémon de la que sale el
+ *   agregado ({@link PokemonLookup#getVersion()}: instante de carga y plan).
+ *   Un acierto solo vale si coincide; cada refresco o recarga FULL la cambia y
+ *   la entrada se regenera. Comparar la versión es un {@code long}: no se
+ *   recorre el agregado ni se retiene (la entrada solo guarda versión y bytes,
+ *   que es lo que se pesa). La consulta al caso de uso sigue haciéndose en
+ *   cada petición (frescura, Faults).
+ * - Acierto: se evitan el mapeo a los tipos JAXB y el marshalling, pero no el
+ *   parseo: los bytes se vuelven a leer con un Transformer identidad
+ *   ({@link TransformerHelper}) hacia el payload de la respuesta, que en SAAJ
+ *   es un árbol DOM. El ahorro es la diferencia entre marshalling JAXB y ese
+ *   parseo.
+ * - Fallo: se mapea, se serializa una vez con JAXB y se guarda.
+ * - Acotada en bytes ({@code capacity}); métricas Micrometer
+ *   {@code cache.*{cache=soap-response}}.
+ *
+ * Desactivada por defecto ({@code app.soap.response-cache.enabled}); entonces,
+ * o si el agregado no tiene versión (caché de Pokémon desactivada),
+ * {@link #write} no hace nada y el endpoint devuelve el objeto como siempre.
+ */
+@Component
+@Slf4j
+public class SoapResponseCache {
+
+	/** Nombre de la caché en las métricas de Micrometer. */
+	public static final String CACHE_NAME = "soap-response";
+
+	private static final JAXBContext CONTEXT;
+
+	static {
+		try {
+			CONTEXT = JAXBContext.newInstance(ObjectFactory.class);
+		} catch (JAXBException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final boolean enabled;
+
+	private final Cache<Key, Entry> cache;
+
+	private final TransformerHelper transformerHelper = new TransformerHelper();
+
+	@Autowired
+	public SoapResponseCache(SoapResponseCacheProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+		this.enabled = properties.isEnabled();
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(properties.getCapacity().toBytes())
+				.weigher((Key key, Entry entry) -> entry.payload().length)
+				.recordStats()
+				.build();
+		if (enabled) {
+			meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+		}
+	}
+
+	/**
+	 * Escribe en la respuesta el payload de la operación para el Pokémon, desde
+	 * caché o serializándolo (y guardándolo) si no está o su versión no coincide.
+	 *
+	 * @param messageContext contexto SOAP con la respuesta a rellenar
+	 * @param responseType   tipo de respuesta de la operación
+	 * @param lookup         resultado de la consulta (agregado y versión)
+	 * @param mapper         agregado → respuesta JAXB (solo en fallo)
+	 * @return true si el payload se ha escrito (el endpoint debe devolver null);
+	 *         false si la caché está desactivada, el agregado no tiene versión o
+	 *         no se pudo serializar
+	 */
+	public <T> boolean write(MessageContext messageContext, Class<T> responseType, PokemonLookup lookup,
+			Function<Pokemon, T> mapper) {
+		if (!enabled || lookup.getVersion() == PokemonLookup.UNVERSIONED) {
+			return false;
+		}
+		Pokemon pokemon = lookup.getPokemon();
+		Key key = new Key(responseType, pokemon.getName());
+		Entry entry = cache.getIfPresent(key);
+		try {
+			if (entry == null || entry.version() != lookup.getVersion()) {
+				entry = new Entry(lookup.getVersion(), marshal(mapper.apply(pokemon)));
+				cache.put(key, entry);
+			}
+			transformerHelper.transform(new StreamSource(new ByteArrayInputStream(entry.payload())),
+					messageContext.getResponse().getPayloadResult());
+			return true;
+		} catch (Exception e) {
+			log.warn("Could not write cached {} for '{}': {}", responseType.getSimpleName(), pokemon.getName(),
+					e.toString());
+			cache.invalidate(key);
+			return false;
+		}
+	}
+
+	private static byte[] marshal(Object response) throws JAXBException {
+		Marshaller marshaller = CONTEXT.createMarshaller();
+		marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+		ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+		marshaller.marshal(response, out);
+		return out.toByteArray();
+	}
+
+	private record Key(Class<?> responseType, String name) {
+	}
+
+	/**
+	 * @param version {@link PokemonLookup#getVersion()} del agregado serializado
+	 * @param payload respuesta JAXB serializada (fragmento XML)
+	 */
+	private record Entry(long version, byte[] payload) {
+	}
+
+}
@@ -0,0 +1,29 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * ErrorDetailDto
+ *
+ * Cuerpo JSON de error de la API REST de Pokémon; mismos campos que el
+ * {@code ErrorDetail} de los SOAP Faults (error-detail.xsd).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "ErrorDetail", description = "Detalle de un error de consulta.")
+public record ErrorDetailDto(
+
+		@Schema(description = "Mensaje legible del error", example = "No se pudo obtener el Pokémon: missingno")
+		String errorMessage,
+
+		@Schema(description = "Causa técnica (opcional)", example = "Pokémon not found: missingno")
+		String cause,
+
+		@Schema(description = "Segundos recomendados antes de reintentar (solo errores transitorios)", example = "1")
+		Integer retryAfterSeconds
+) {
+}
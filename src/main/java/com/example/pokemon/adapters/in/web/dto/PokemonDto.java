@@ -0,0 +1,55 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.in.web.dto;
+
+import java.util.List;
+
+import com.example.pokemon.domain.model.Pokemon;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * PokemonDto
+ *
+ * Representación JSON del agregado {@link Pokemon} para la API REST (mismos
+ * campos que {@code PokemonSummaryResponse} en SOAP).
+ *
+ * - {@code locationAreaEncounters} solo se rellena cuando se pide
+ *   ({@code includeEncounters=true}); si no, es una lista vacía.
+ * - Campos null no se incluyen en la respuesta.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "Pokemon", description = "Agregado de un Pokémon (datos de PokeAPI).")
+public record PokemonDto(
+
+		@Schema(description = "Identificador de PokeAPI", example = "25")
+		Integer id,
+
+		@Schema(description = "Nombre tal como está en PokeAPI", example = "pikachu")
+		String name,
+
+		@Schema(description = "Experiencia base", example = "112")
+		Integer baseExperience,
+
+		@Schema(description = "Habilidades", example = "[\"static\", \"lightning-rod\"]")
+		List<String> abilities,
+
+		@Schema(description = "Ítems que puede sostener", example = "[\"oran-berry\"]")
+		List<String> heldItems,
+
+		@Schema(description = "Áreas donde puede encontrarse", example = "[\"viridian-forest-area\"]")
+		List<String> locationAreaEncounters
+) {
+
+	/**
+	 * @param pokemon agregado de dominio
+	 * @return DTO con los mismos datos
+	 */
+	public static PokemonDto from(Pokemon pokemon) {
+		return new PokemonDto(pokemon.getId(), pokemon.getName(), pokemon.getBaseExperience(),
+				pokemon.getAbilities(), pokemon.getHeldItems(), pokemon.getLocationAreaEncounters());
+	}
+
+}
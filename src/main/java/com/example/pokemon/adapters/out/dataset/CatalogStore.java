@@ -0,0 +1,207 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.dataset;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * CatalogStore
+ *
+ * Almacén local del catálogo que rellena {@link CatalogSyncJob}: un registro
+ * del dataset ({@link PokemonDatasetWriter#encode}) por Pokémon, más el
+ * progreso de la sincronización.
+ *
+ * Estructura del directorio:
+ * <pre>
+ * entries/&lt;nombre&gt;.rec   registro codificado de cada Pokémon
+ * index.properties       nombre → SHA-256 del registro
+ * checkpoint.properties  siguiente offset del listado, total y si terminó
+ * </pre>
+ *
+ * - El hash de contenido permite saltarse los registros que no han cambiado
+ *   en una re-sincronización (no se reescriben).
+ * - Todos los ficheros se escriben de forma atómica (temporal + move) y el
+ *   checkpoint se guarda después del índice y de los registros, así que tras
+ *   una interrupción nunca apunta más allá de lo guardado.
+ *
+ * No es seguro entre hilos: lo usa un único job a la vez.
+ */
+public class CatalogStore {
+
+	/** Resultado de guardar un registro. */
+	public enum PutResult {
+		ADDED, UPDATED, UNCHANGED
+	}
+
+	/**
+	 * Progreso de la sincronización.
+	 *
+	 * @param nextOffset siguiente posición del listado a procesar
+	 * @param total      tamaño del catálogo según la última página leída
+	 * @param complete   true si la última sincronización llegó al final
+	 */
+	public record Checkpoint(int nextOffset, int total, boolean complete) {
+
+		/** Sin sincronizaciones previas. */
+		public static final Checkpoint START = new Checkpoint(0, 0, false);
+
+	}
+
+	private static final String ENTRIES = "entries";
+	private static final String INDEX = "index.properties";
+	private static final String CHECKPOINT = "checkpoint.properties";
+
+	private final Path directory;
+
+	/** Hash del registro guardado por nombre (ordenado para un índice estable). */
+	private final Map<String, String> hashes = new TreeMap<>();
+
+	/**
+	 * Abre (o crea) el almacén en {@code directory}.
+	 *
+	 * @param directory directorio del almacén
+	 * @throws IOException si no se puede crear o leer
+	 */
+	public CatalogStore(Path directory) throws IOException {
+		this.directory = directory;
+		Files.createDirectories(directory.resolve(ENTRIES));
+		Properties index = load(directory.resolve(INDEX));
+		index.stringPropertyNames().forEach(name -> hashes.put(name, index.getProperty(name)));
+	}
+
+	/**
+	 * @return número de Pokémon guardados
+	 */
+	public int size() {
+		return hashes.size();
+	}
+
+	/**
+	 * Guarda el registro si su contenido cambió respecto al almacenado.
+	 *
+	 * @param name   nombre del Pokémon
+	 * @param record registro codificado
+	 * @return si se añadió, se actualizó o no había cambios
+	 * @throws IOException si falla la escritura
+	 */
+	public PutResult put(String name, byte[] record) throws IOException {
+		String hash = sha256(record);
+		String previous = hashes.get(name);
+		if (hash.equals(previous) && Files.exists(entry(name))) {
+			return PutResult.UNCHANGED;
+		}
+		writeAtomically(entry(name), out -> out.write(record));
+		hashes.put(name, hash);
+		return previous == null ? PutResult.ADDED : PutResult.UPDATED;
+	}
+
+	/**
+	 * @return último checkpoint guardado, o {@link Checkpoint#START}
+	 * @throws IOException si no se puede leer
+	 */
+	public Checkpoint checkpoint() throws IOException {
+		Properties properties = load(directory.resolve(CHECKPOINT));
+		if (properties.isEmpty()) {
+			return Checkpoint.START;
+		}
+		return new Checkpoint(Integer.parseInt(properties.getProperty("nextOffset", "0")),
+				Integer.parseInt(properties.getProperty("total", "0")),
+				Boolean.parseBoolean(properties.getProperty("complete", "false")));
+	}
+
+	/**
+	 * Persiste el índice de hashes y, después, el checkpoint.
+	 *
+	 * @param checkpoint progreso a guardar
+	 * @throws IOException si falla la escritura
+	 */
+	public void saveCheckpoint(Checkpoint checkpoint) throws IOException {
+		Properties index = new Properties();
+		index.putAll(hashes);
+		writeAtomically(directory.resolve(INDEX), out -> index.store(out, null));
+
+		Properties properties = new Properties();
+		properties.setProperty("nextOffset", Integer.toString(checkpoint.nextOffset()));
+		properties.setProperty("total", Integer.toString(checkpoint.total()));
+		properties.setProperty("complete", Boolean.toString(checkpoint.complete()));
+		writeAtomically(directory.resolve(CHECKPOINT), out -> properties.store(out, null));
+	}
+
+	/**
+	 * Vuelca todos los registros guardados en un writer de dataset.
+	 *
+	 * @param writer destino
+	 * @return el mismo writer
+	 * @throws IOException si falla la lectura de un registro
+	 */
+	public PokemonDatasetWriter exportTo(PokemonDatasetWriter writer) throws IOException {
+		for (String name : hashes.keySet()) {
+			try {
+				writer.addRecord(name, Files.readAllBytes(entry(name)));
+			} catch (NoSuchFileException e) {
+				// Índice por delante del registro (no debería ocurrir): se re-sincronizará
+			}
+		}
+		return writer;
+	}
+
+	private Path entry(String name) {
+		return directory.resolve(ENTRIES).resolve(URLEncoder.encode(name, StandardCharsets.UTF_8) + ".rec");
+	}
+
+	private static Properties load(Path file) throws IOException {
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(file)) {
+			properties.load(in);
+		} catch (NoSuchFileException e) {
+			// Almacén nuevo
+		}
+		return properties;
+	}
+
+	private static void writeAtomically(Path file, IoConsumer<OutputStream> content) throws IOException {
+		Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+		try {
+			try (OutputStream out = Files.newOutputStream(tmp)) {
+				content.accept(out);
+			}
+			try {
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	private static String sha256(byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	@FunctionalInterface
+	private interface IoConsumer<T> {
+		void accept(T value) throws IOException;
+	}
+
+}
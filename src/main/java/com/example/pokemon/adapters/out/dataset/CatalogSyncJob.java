@@ -0,0 +1,295 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.dataset;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.pokemon.adapters.out.pokeapi.PokeApiClient;
+import com.example.pokemon.adapters.out.pokeapi.codec.NamedResourcePage;
+import com.example.pokemon.config.CatalogSyncProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * CatalogSyncJob
+ *
+ * Recorre el catálogo completo de PokeAPI y lo deja en el dataset local, para
+ * que las consultas no dependan de lo que los usuarios hayan pedido antes.
+ *
+ * Flujo de una ejecución:
+ * <ol>
+ * <li>Lee el checkpoint del {@link CatalogStore}: si la última ejecución quedó
+ * a medias, reanuda en su offset; si terminó, empieza de nuevo (re-sync).</li>
+ * <li>Pagina {@code /pokemon?offset=&limit=} y, por cada página, descarga
+ * cada Pokémon con sus encounters con concurrencia acotada
+ * ({@code concurrency}), a través de {@link PokeApiClient} (caché en disco,
+ * límite adaptativo, reintentos...).</li>
+ * <li>Guarda cada registro solo si su hash de contenido cambió y escribe el
+ * checkpoint al acabar la página.</li>
+ * <li>Al llegar al final, si hubo cambios (o el fichero no existe o no
+ * coincide con el almacén), regenera el fichero del dataset y lo vuelve a
+ * mapear en {@link LocalDatasetPokemonAdapter}. Con el dataset desactivado
+ * solo se actualiza el almacén.</li>
+ * </ol>
+ *
+ * El {@link CatalogStore} se abre (y su directorio se crea) en la primera
+ * ejecución, no al arrancar: con el job desactivado no se toca el disco.
+ *
+ * Un fallo al descargar un Pokémon se registra y no detiene la página; un
+ * fallo del listado detiene la ejecución, que se reanudará en esa página.
+ *
+ * Progreso: un log INFO por página (procesados/total, entradas/s, fallos) y
+ * métricas {@code pokemon.catalog.sync.entries{result=added|updated|unchanged|failed}},
+ * {@code pokemon.catalog.sync.processed} y {@code pokemon.catalog.sync.total}.
+ */
+@Component
+@Slf4j
+public class CatalogSyncJob {
+
+	private final PokeApiClient client;
+	private final LocalDatasetPokemonAdapter dataset;
+	private final Path storeDirectory;
+
+	/** Se abre en la primera ejecución (bajo {@link #running}). */
+	private CatalogStore store;
+	private final int pageSize;
+	private final int concurrency;
+	private final boolean scheduled;
+
+	/** Evita dos ejecuciones simultáneas (programada + manual). */
+	private final ReentrantLock running = new ReentrantLock();
+
+	private volatile boolean stopRequested;
+
+	private final AtomicInteger processedGauge = new AtomicInteger();
+	private final AtomicInteger totalGauge = new AtomicInteger();
+
+	private Counter added;
+	private Counter updated;
+	private Counter unchanged;
+	private Counter failed;
+
+	@Autowired
+	public CatalogSyncJob(PokeApiClient client, LocalDatasetPokemonAdapter dataset, CatalogSyncProperties properties,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		this(client, dataset, properties.getDirectory(), null, properties.getPageSize(), properties.getConcurrency(),
+				properties.isEnabled());
+		meterRegistry.ifAvailable(this::bindTo);
+	}
+
+	/**
+	 * @param client      cliente de PokeAPI
+	 * @param dataset     dataset local a regenerar al terminar
+	 * @param store       almacén con registros y checkpoint
+	 * @param pageSize    tamaño de página del listado
+	 * @param concurrency descargas concurrentes
+	 * @param scheduled   true si la ejecución programada está activada
+	 */
+	public CatalogSyncJob(PokeApiClient client, LocalDatasetPokemonAdapter dataset, CatalogStore store, int pageSize,
+			int concurrency, boolean scheduled) {
+		this(client, dataset, null, store, pageSize, concurrency, scheduled);
+	}
+
+	private CatalogSyncJob(PokeApiClient client, LocalDatasetPokemonAdapter dataset, Path storeDirectory,
+			CatalogStore store, int pageSize, int concurrency, boolean scheduled) {
+		this.client = client;
+		this.dataset = dataset;
+		this.storeDirectory = storeDirectory;
+		this.store = store;
+		this.pageSize = pageSize;
+		this.concurrency = concurrency;
+		this.scheduled = scheduled;
+	}
+
+	private void bindTo(MeterRegistry registry) {
+		added = Counter.builder("pokemon.catalog.sync.entries").tag("result", "added").register(registry);
+		updated = Counter.builder("pokemon.catalog.sync.entries").tag("result", "updated").register(registry);
+		unchanged = Counter.builder("pokemon.catalog.sync.entries").tag("result", "unchanged").register(registry);
+		failed = Counter.builder("pokemon.catalog.sync.entries").tag("result", "failed").register(registry);
+		Gauge.builder("pokemon.catalog.sync.processed", processedGauge, AtomicInteger::get)
+				.description("Catalog entries processed by the running (or last) sync").register(registry);
+		Gauge.builder("pokemon.catalog.sync.total", totalGauge, AtomicInteger::get)
+				.description("Catalog size reported by PokeAPI").register(registry);
+	}
+
+	@Scheduled(cron = "${app.catalog-sync.cron:-}")
+	void scheduledRun() {
+		if (scheduled) {
+			run();
+		}
+	}
+
+	/**
+	 * Pide que la ejecución en curso se detenga al terminar la página actual (el
+	 * checkpoint queda guardado y la siguiente ejecución reanuda ahí).
+	 */
+	public void requestStop() {
+		stopRequested = true;
+	}
+
+	/**
+	 * Ejecuta (o reanuda) una sincronización completa.
+	 *
+	 * @return resumen de la ejecución
+	 * @throws IllegalStateException si ya hay una sincronización en curso
+	 */
+	public SyncReport run() {
+		if (!running.tryLock()) {
+			throw new IllegalStateException("Catalog sync already running");
+		}
+		try {
+			stopRequested = false;
+			return sync();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Catalog store I/O error", e);
+		} finally {
+			running.unlock();
+		}
+	}
+
+	private SyncReport sync() throws IOException {
+		long start = System.nanoTime();
+		if (store == null) {
+			store = new CatalogStore(storeDirectory);
+		}
+		CatalogStore.Checkpoint checkpoint = store.checkpoint();
+		int offset = checkpoint.complete() ? 0 : checkpoint.nextOffset();
+		int resumedFrom = offset;
+		int total = checkpoint.total();
+		Tally tally = new Tally();
+		processedGauge.set(0);
+		log.info("Catalog sync started at offset {} (pageSize={}, concurrency={})", offset, pageSize, concurrency);
+
+		boolean complete = false;
+		while (!stopRequested) {
+			NamedResourcePage page;
+			try {
+				page = client.listPokemon(offset, pageSize);
+			} catch (RuntimeException e) {
+				log.error("Catalog sync stopped at offset {}: {}", offset, e.getMessage());
+				break;
+			}
+			total = page.count();
+			totalGauge.set(total);
+			for (Outcome outcome : fetch(page.names())) {
+				tally.record(outcome);
+			}
+			offset += page.names().size();
+			complete = page.names().isEmpty() || offset >= total;
+			store.saveCheckpoint(new CatalogStore.Checkpoint(offset, total, complete));
+			processedGauge.set(tally.processed);
+			Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+			log.info("Catalog sync: {}/{} ({} new, {} updated, {} unchanged, {} failed) at {} entries/s", offset,
+					total, tally.added, tally.updated, tally.unchanged, tally.failed.size(),
+					String.format("%.1f", tally.processed / Math.max(elapsed.toNanos() / 1e9, 1e-9)));
+			if (complete) {
+				break;
+			}
+		}
+
+		Path file = dataset.getFile();
+		if (complete && file != null && (tally.added + tally.updated > 0 || !Files.exists(file)
+				|| dataset.size() != store.size())) {
+			store.exportTo(new PokemonDatasetWriter()).writeTo(file);
+			dataset.reload();
+		}
+		SyncReport report = new SyncReport(resumedFrom, total, tally.processed, tally.added, tally.updated,
+				tally.unchanged, List.copyOf(tally.failed), complete, Duration.ofNanos(System.nanoTime() - start));
+		log.info("Catalog sync {}: {}", complete ? "finished" : "interrupted", report);
+		return report;
+	}
+
+	/**
+	 * Descarga los Pokémon de una página con concurrencia acotada, conservando
+	 * el orden del listado. Usa el cliente reactivo: las descargas no ocupan
+	 * hilos de {@code boundedElastic}, donde corre la E/S de la caché en disco.
+	 */
+	private List<Outcome> fetch(List<String> names) {
+		return Flux.fromIterable(names)
+				.flatMapSequential(name -> client.getPokemonReactive(name, FetchPlan.FULL)
+						.map(pokemon -> new Outcome(name, pokemon, null))
+						.onErrorResume(e -> Mono.just(new Outcome(name, null, e))), concurrency)
+				.collectList()
+				.block();
+	}
+
+	/**
+	 * Resultado de descargar un Pokémon.
+	 */
+	private record Outcome(String name, Pokemon pokemon, Throwable error) {
+	}
+
+	/**
+	 * Contadores de una ejecución.
+	 */
+	private final class Tally {
+
+		int processed;
+		int added;
+		int updated;
+		int unchanged;
+		final List<String> failed = new ArrayList<>();
+
+		void record(Outcome outcome) throws IOException {
+			processed++;
+			if (outcome.error() != null) {
+				log.warn("Catalog sync could not fetch '{}': {}", outcome.name(), outcome.error().getMessage());
+				failed.add(outcome.name());
+				increment(CatalogSyncJob.this.failed);
+				return;
+			}
+			byte[] record;
+			try {
+				record = PokemonDatasetWriter.encode(outcome.pokemon(), true);
+			} catch (IOException | RuntimeException e) {
+				log.warn("Catalog sync could not encode '{}': {}", outcome.name(), e.getMessage());
+				failed.add(outcome.name());
+				increment(CatalogSyncJob.this.failed);
+				return;
+			}
+			switch (store.put(outcome.name(), record)) {
+			case ADDED -> {
+				added++;
+				increment(CatalogSyncJob.this.added);
+			}
+			case UPDATED -> {
+				updated++;
+				increment(CatalogSyncJob.this.updated);
+			}
+			case UNCHANGED -> {
+				unchanged++;
+				increment(CatalogSyncJob.this.unchanged);
+			}
+			}
+		}
+
+	}
+
+	private static void increment(Counter counter) {
+		if (counter != null) {
+			counter.increment();
+		}
+	}
+
+}
@@ -0,0 +1,119 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.dataset;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.config.PokemonDatasetProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.ports.out.LoadPokemonPort;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * LocalDatasetPokemonAdapter
+ *
+ * Adaptador de salida {@link LoadPokemonPort} sobre el dataset local mapeado en
+ * memoria ({@link PokemonDataset}): resuelve una consulta en microsegundos y
+ * sin red.
+ *
+ * - Si el fichero no existe o no es válido, el adaptador queda vacío (se
+ *   registra y cada consulta es un fallo); nunca impide arrancar.
+ * - {@link #reload()} vuelve a mapear el fichero tras regenerarlo; las
+ *   consultas en curso terminan sobre el mapeo anterior.
+ * - {@link #loadByName} lanza {@link PokemonNotFoundException} si el Pokémon no
+ *   está en el dataset: que no esté aquí no significa que no exista, por eso
+ *   normalmente se usa a través de {@link LocalFirstPokemonLoader}.
+ */
+@Component
+@Slf4j
+public class LocalDatasetPokemonAdapter implements LoadPokemonPort {
+
+	/** Fichero del dataset; null si está desactivado. */
+	private final Path file;
+
+	private volatile PokemonDataset dataset = PokemonDataset.empty();
+
+	@Autowired
+	public LocalDatasetPokemonAdapter(PokemonDatasetProperties properties) {
+		this(properties.isEnabled() ? properties.getPath() : null);
+	}
+
+	/**
+	 * @param file fichero del dataset, o null para un adaptador vacío
+	 */
+	public LocalDatasetPokemonAdapter(Path file) {
+		this.file = file;
+		reload();
+	}
+
+	/**
+	 * Mapea de nuevo el fichero del dataset (p.ej. tras regenerarlo).
+	 *
+	 * @return número de Pokémon disponibles tras la recarga
+	 */
+	public int reload() {
+		if (file == null) {
+			return 0;
+		}
+		if (!Files.isRegularFile(file)) {
+			log.info("Local Pokémon dataset not found at {}; all lookups will use PokeAPI", file);
+			dataset = PokemonDataset.empty();
+			return 0;
+		}
+		try {
+			dataset = PokemonDataset.open(file);
+			log.info("Local Pokémon dataset mapped: {} entries from {}", dataset.size(), file);
+		} catch (IOException e) {
+			log.warn("Cannot open local Pokémon dataset {}: {}", file, e.getMessage());
+			dataset = PokemonDataset.empty();
+		}
+		return dataset.size();
+	}
+
+	/**
+	 * @return fichero del dataset (null si está desactivado)
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * @return número de Pokémon del dataset actual
+	 */
+	public int size() {
+		return dataset.size();
+	}
+
+	/**
+	 * @param name nombre del Pokémon
+	 * @param plan partes del agregado requeridas
+	 * @return el agregado si el dataset lo contiene y cubre el plan
+	 */
+	public Optional<Pokemon> find(String name, FetchPlan plan) {
+		return dataset.find(name, plan);
+	}
+
+	@Override
+	public Pokemon loadByName(String name, FetchPlan plan) {
+		return find(name, plan)
+				.orElseThrow(() -> new PokemonNotFoundException("Pokémon not in local dataset: " + name));
+	}
+
+	/** Lectura en memoria (fichero mapeado): no necesita otro hilo. */
+	@Override
+	public Mono<Pokemon> loadByNameReactive(String name, FetchPlan plan) {
+		return Mono.fromCallable(() -> loadByName(name, plan));
+	}
+
+}
@@ -0,0 +1,101 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.dataset;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.example.pokemon.adapters.out.pokeapi.PokeApiClient;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.ports.out.LoadPokemonPort;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * LocalFirstPokemonLoader
+ *
+ * {@link LoadPokemonPort} principal: consulta primero el dataset local
+ * ({@link LocalDatasetPokemonAdapter}) y solo si no contiene el Pokémon (o no
+ * cubre el plan) recurre a PokeAPI ({@link PokeApiClient}).
+ *
+ * Métricas: {@code pokemon.dataset.lookups{result=hit|miss}}.
+ */
+@Primary
+@Component
+@Slf4j
+public class LocalFirstPokemonLoader implements LoadPokemonPort {
+
+	private final LocalDatasetPokemonAdapter local;
+
+	private final LoadPokemonPort remote;
+
+	private Counter hits;
+	private Counter misses;
+
+	@Autowired
+	public LocalFirstPokemonLoader(LocalDatasetPokemonAdapter local, PokeApiClient remote,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		this(local, (LoadPokemonPort) remote);
+		meterRegistry.ifAvailable(this::bindTo);
+	}
+
+	/**
+	 * @param local  dataset local
+	 * @param remote fuente a usar en los fallos
+	 */
+	public LocalFirstPokemonLoader(LocalDatasetPokemonAdapter local, LoadPokemonPort remote) {
+		this.local = local;
+		this.remote = remote;
+	}
+
+	private void bindTo(MeterRegistry registry) {
+		hits = Counter.builder("pokemon.dataset.lookups").tag("result", "hit").register(registry);
+		misses = Counter.builder("pokemon.dataset.lookups").tag("result", "miss").register(registry);
+	}
+
+	@Override
+	public Pokemon loadByName(String name, FetchPlan plan) {
+		Optional<Pokemon> pokemon = local.find(name, plan);
+		if (pokemon.isPresent()) {
+			increment(hits);
+			return pokemon.get();
+		}
+		increment(misses);
+		log.debug("Pokémon '{}' ({}) not in local dataset, loading from PokeAPI", name, plan);
+		return remote.loadByName(name, plan);
+	}
+
+	/**
+	 * El dataset está mapeado en memoria: se consulta en el hilo que se suscribe
+	 * y solo un fallo pasa a la carga reactiva de PokeAPI.
+	 */
+	@Override
+	public Mono<Pokemon> loadByNameReactive(String name, FetchPlan plan) {
+		return Mono.defer(() -> {
+			Optional<Pokemon> pokemon = local.find(name, plan);
+			if (pokemon.isPresent()) {
+				increment(hits);
+				return Mono.just(pokemon.get());
+			}
+			increment(misses);
+			log.debug("Pokémon '{}' ({}) not in local dataset, loading from PokeAPI", name, plan);
+			return remote.loadByNameReactive(name, plan);
+		});
+	}
+
+	private static void increment(Counter counter) {
+		if (counter != null) {
+			counter.increment();
+		}
+	}
+
+}
@@ -0,0 +1,279 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.dataset;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+
+/**
+ * PokemonDataset
+ *
+ * Lectura de un dataset binario de Pokémon mapeado en memoria
+ * ({@link FileChannel#map}): el sistema operativo pagina el fichero bajo
+ * demanda y una búsqueda no hace E/S explícita ni deserializa nada más que el
+ * registro encontrado.
+ *
+ * Formato (big-endian, generado por {@link PokemonDatasetWriter}):
+ * <pre>
+ * int    MAGIC ("PKDS")
+ * int    VERSION
+ * int    count           (registros)
+ * int    indexEntries    (nombre + id de cada registro)
+ * long   indexOffset
+ * ...    registros
+ * ...    índice: indexEntries × (long hash(clave), int offset), ordenado por hash
+ * </pre>
+ *
+ * Registro:
+ * <pre>
+ * byte   flags (bit 0: incluye encounters)
+ * int    id              ({@link #NULL_INT} si PokeAPI no lo da)
+ * int    baseExperience  ({@link #NULL_INT} si PokeAPI no lo da, p.ej. formas alternativas)
+ * str    name
+ * list   abilities, heldItems, locationAreaEncounters
+ * </pre>
+ * donde {@code str} = u16 longitud + UTF-8 y {@code list} = u16 n + n × str.
+ *
+ * Cada registro aparece en el índice por su nombre y por su id (en decimal),
+ * así que "25" se resuelve localmente igual que "pikachu". La búsqueda es
+ * binaria sobre el índice de tamaño fijo (O(log n)); en caso de colisión de
+ * hash se compara el nombre (o el id) del registro. Las lecturas usan accesos
+ * absolutos, así que una instancia es segura entre hilos.
+ */
+public final class PokemonDataset {
+
+	static final int MAGIC = 0x504B4453; // "PKDS"
+	static final int VERSION = 2;
+	static final int HEADER_BYTES = 4 + 4 + 4 + 4 + 8;
+	static final int INDEX_ENTRY_BYTES = 8 + 4;
+	static final int FLAG_ENCOUNTERS = 1;
+
+	/** Representa un {@code Integer} nulo del dominio (id o baseExperience). */
+	static final int NULL_INT = Integer.MIN_VALUE;
+
+	/** Offset del id dentro de un registro (tras los flags). */
+	static final int RECORD_ID_OFFSET = 1;
+
+	private static final PokemonDataset EMPTY = new PokemonDataset(ByteBuffer.allocate(0), 0, 0, 0);
+
+	private final ByteBuffer buffer;
+	private final int count;
+	private final int indexEntries;
+	private final int indexOffset;
+
+	private PokemonDataset(ByteBuffer buffer, int count, int indexEntries, int indexOffset) {
+		this.buffer = buffer;
+		this.count = count;
+		this.indexEntries = indexEntries;
+		this.indexOffset = indexOffset;
+	}
+
+	/**
+	 * @return dataset sin registros (toda búsqueda es un fallo)
+	 */
+	public static PokemonDataset empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Mapea el fichero en memoria y valida la cabecera.
+	 *
+	 * @param file fichero generado por {@link PokemonDatasetWriter}
+	 * @return dataset listo para consultas
+	 * @throws IOException si no se puede leer o el formato no es válido
+	 */
+	public static PokemonDataset open(Path file) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			// El mapeo sigue siendo válido tras cerrar el canal
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+			throw new IOException("Not a Pokémon dataset: " + file);
+		}
+		if (buffer.getInt(4) != VERSION) {
+			throw new IOException("Unsupported dataset version " + buffer.getInt(4) + ": " + file);
+		}
+		int count = buffer.getInt(8);
+		int indexEntries = buffer.getInt(12);
+		long indexOffset = buffer.getLong(16);
+		if (count < 0 || indexEntries < count || indexOffset < HEADER_BYTES
+				|| indexOffset + (long) indexEntries * INDEX_ENTRY_BYTES != buffer.capacity()) {
+			throw new IOException("Corrupt dataset index: " + file);
+		}
+		return new PokemonDataset(buffer, count, indexEntries, (int) indexOffset);
+	}
+
+	/**
+	 * @return número de Pokémon del dataset
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Busca un Pokémon por nombre o id (sin distinguir mayúsculas ni espacios
+	 * alrededor; "025" equivale a "25").
+	 *
+	 * @param name nombre o id del Pokémon
+	 * @param plan partes del agregado requeridas; un registro sin encounters no
+	 *             sirve para {@link FetchPlan#FULL}
+	 * @return el agregado, o vacío si no está (o no cubre el plan)
+	 */
+	public Optional<Pokemon> find(String name, FetchPlan plan) {
+		String normalized = normalize(name);
+		int id = parseId(normalized);
+		byte[] key = (id != NULL_INT ? Integer.toString(id) : normalized).getBytes(StandardCharsets.UTF_8);
+		long hash = hash(key);
+		int slot = lowerBound(hash);
+		for (; slot < indexEntries && hashAt(slot) == hash; slot++) {
+			int offset = buffer.getInt(indexOffset + slot * INDEX_ENTRY_BYTES + 8);
+			if (id != NULL_INT ? buffer.getInt(offset + RECORD_ID_OFFSET) == id : nameMatches(offset, key)) {
+				if (plan.includesEncounters() && (buffer.get(offset) & FLAG_ENCOUNTERS) == 0) {
+					return Optional.empty();
+				}
+				return Optional.of(readRecord(offset));
+			}
+		}
+		return Optional.empty();
+	}
+
+	/** Primer slot del índice con hash ≥ {@code hash}. */
+	private int lowerBound(long hash) {
+		int low = 0;
+		int high = indexEntries;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (hashAt(mid) < hash) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private long hashAt(int slot) {
+		return buffer.getLong(indexOffset + slot * INDEX_ENTRY_BYTES);
+	}
+
+	private boolean nameMatches(int offset, byte[] key) {
+		int nameOffset = offset + 1 + 4 + 4;
+		int length = Short.toUnsignedInt(buffer.getShort(nameOffset));
+		if (length != key.length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (buffer.get(nameOffset + 2 + i) != key[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Pokemon readRecord(int offset) {
+		Cursor cursor = new Cursor(offset);
+		byte flags = cursor.readByte();
+		Pokemon.PokemonBuilder builder = Pokemon.builder()
+				.id(cursor.readNullableInt())
+				.baseExperience(cursor.readNullableInt())
+				.name(cursor.readString())
+				.abilities(cursor.readList())
+				.heldItems(cursor.readList());
+		List<String> encounters = cursor.readList();
+		if ((flags & FLAG_ENCOUNTERS) != 0) {
+			builder.locationAreaEncounters(encounters);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Nombre canónico de búsqueda (trim + minúsculas), igual que en
+	 * {@code PokeApiClient}.
+	 */
+	static String normalize(String name) {
+		return name.trim().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * @param normalized nombre normalizado
+	 * @return id si el texto es numérico (admite ceros a la izquierda), o
+	 *         {@link #NULL_INT} si es un nombre
+	 */
+	static int parseId(String normalized) {
+		if (normalized.isEmpty() || normalized.length() > 9) {
+			return NULL_INT;
+		}
+		for (int i = 0; i < normalized.length(); i++) {
+			if (normalized.charAt(i) < '0' || normalized.charAt(i) > '9') {
+				return NULL_INT;
+			}
+		}
+		return Integer.parseInt(normalized);
+	}
+
+	/** FNV-1a de 64 bits sobre los bytes UTF-8 del nombre normalizado. */
+	static long hash(byte[] key) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : key) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * Lector secuencial con posición propia sobre el buffer compartido.
+	 */
+	private final class Cursor {
+
+		private int position;
+
+		Cursor(int position) {
+			this.position = position;
+		}
+
+		byte readByte() {
+			return buffer.get(position++);
+		}
+
+		Integer readNullableInt() {
+			int value = buffer.getInt(position);
+			position += 4;
+			return value == NULL_INT ? null : value;
+		}
+
+		String readString() {
+			int length = Short.toUnsignedInt(buffer.getShort(position));
+			byte[] bytes = new byte[length];
+			buffer.get(position + 2, bytes);
+			position += 2 + length;
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		List<String> readList() {
+			int size = Short.toUnsignedInt(buffer.getShort(position));
+			position += 2;
+			List<String> values = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				values.add(readString());
+			}
+			return values;
+		}
+
+	}
+
+}
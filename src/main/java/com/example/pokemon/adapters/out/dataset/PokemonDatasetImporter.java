@@ -0,0 +1,115 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.dataset;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import com.example.pokemon.adapters.out.pokeapi.codec.EncounterNamesJsonDecoder;
+import com.example.pokemon.adapters.out.pokeapi.codec.PokemonJsonDecoder;
+import com.example.pokemon.domain.model.Pokemon;
+import com.fasterxml.jackson.core.JsonFactory;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * PokemonDatasetImporter
+ *
+ * Construye el dataset de {@link PokemonDataset} a partir de un volcado JSON de
+ * PokeAPI con la estructura del repositorio {@code PokeAPI/api-data}:
+ *
+ * <pre>
+ * &lt;raíz&gt;/pokemon/&lt;id&gt;/index.json              → /pokemon/{id}
+ * &lt;raíz&gt;/pokemon/&lt;id&gt;/encounters/index.json   → /pokemon/{id}/encounters (opcional)
+ * </pre>
+ *
+ * Usa los mismos decodificadores en streaming que {@code PokeApiClient}, así
+ * que el dataset contiene exactamente los campos que el cliente remoto
+ * proyecta. Un Pokémon sin fichero de encounters se guarda solo para
+ * peticiones BASE.
+ *
+ * Uso desde línea de comandos (con el jar de Spring Boot):
+ *
+ * <pre>
+ * java -cp soap-pokeapi-hex.jar -Dloader.main=com.example.pokemon.adapters.out.dataset.PokemonDatasetImporter \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher &lt;raíz-volcado&gt; &lt;fichero-dataset&gt;
+ * </pre>
+ */
+@Slf4j
+public final class PokemonDatasetImporter {
+
+	private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+	private final PokemonJsonDecoder pokemonDecoder;
+	private final EncounterNamesJsonDecoder encountersDecoder;
+
+	public PokemonDatasetImporter() {
+		JsonFactory jsonFactory = new JsonFactory();
+		this.pokemonDecoder = new PokemonJsonDecoder(jsonFactory);
+		this.encountersDecoder = new EncounterNamesJsonDecoder(jsonFactory);
+	}
+
+	/**
+	 * Lee el volcado y escribe el dataset.
+	 *
+	 * @param dumpRoot raíz del volcado (contiene {@code pokemon/})
+	 * @param dataset  fichero de salida
+	 * @return número de Pokémon importados
+	 * @throws IOException si el volcado no existe o falla la escritura
+	 */
+	public int importDump(Path dumpRoot, Path dataset) throws IOException {
+		PokemonDatasetWriter writer = new PokemonDatasetWriter();
+		try (Stream<Path> resources = Files.list(dumpRoot.resolve("pokemon"))) {
+			for (Path resource : (Iterable<Path>) resources.sorted()::iterator) {
+				Path index = resource.resolve("index.json");
+				if (Files.isRegularFile(index)) {
+					add(writer, index, resource.resolve("encounters").resolve("index.json"));
+				}
+			}
+		}
+		writer.writeTo(dataset);
+		log.info("Imported {} Pokémon from {} into {}", writer.size(), dumpRoot, dataset);
+		return writer.size();
+	}
+
+	private void add(PokemonDatasetWriter writer, Path index, Path encounters) throws IOException {
+		Pokemon.PokemonBuilder builder;
+		try {
+			builder = pokemonDecoder.decode(read(index)).block();
+		} catch (RuntimeException e) {
+			log.warn("Skipping unreadable resource {}: {}", index, e.getMessage());
+			return;
+		}
+		boolean withEncounters = Files.isRegularFile(encounters);
+		if (withEncounters) {
+			List<String> names = encountersDecoder.decode(read(encounters)).block();
+			builder.locationAreaEncounters(names == null ? List.of() : names);
+		}
+		writer.add(builder.build(), withEncounters);
+	}
+
+	private static Flux<DataBuffer> read(Path file) {
+		return DataBufferUtils.read(file, DefaultDataBufferFactory.sharedInstance, READ_BUFFER_BYTES);
+	}
+
+	/**
+	 * @param args {@code <raíz-volcado> <fichero-dataset>}
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			log.error("Usage: PokemonDatasetImporter <dump-root> <dataset-file>");
+			System.exit(2);
+		}
+		new PokemonDatasetImporter().importDump(Path.of(args[0]), Path.of(args[1]));
+	}
+
+}
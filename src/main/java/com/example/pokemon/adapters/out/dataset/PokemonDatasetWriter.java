@@ -0,0 +1,177 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.dataset;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.pokemon.domain.model.Pokemon;
+
+/**
+ * PokemonDatasetWriter
+ *
+ * Genera el fichero binario que lee {@link PokemonDataset} (ver allí el
+ * formato). Los registros se acumulan en memoria (unos pocos cientos de bytes
+ * por Pokémon) y se escriben de una vez, con el índice (nombre e id de cada
+ * registro) ordenado por hash. Un id o baseExperience nulo se guarda como
+ * {@code PokemonDataset.NULL_INT}.
+ *
+ * La escritura es atómica (fichero temporal + move): un proceso que tenga el
+ * dataset anterior mapeado nunca ve un fichero a medias.
+ */
+public final class PokemonDatasetWriter {
+
+	/** Registro serializado por nombre normalizado (el último añadido gana). */
+	private final Map<String, byte[]> records = new LinkedHashMap<>();
+
+	/**
+	 * Añade (o reemplaza) un Pokémon.
+	 *
+	 * @param pokemon        agregado a guardar
+	 * @param withEncounters true si {@code locationAreaEncounters} es completo; si
+	 *                       no, el registro solo servirá peticiones BASE
+	 * @return este writer
+	 * @throws IOException si un campo excede los límites del formato
+	 */
+	public PokemonDatasetWriter add(Pokemon pokemon, boolean withEncounters) throws IOException {
+		records.put(PokemonDataset.normalize(pokemon.getName()), encode(pokemon, withEncounters));
+		return this;
+	}
+
+	/**
+	 * Añade (o reemplaza) un registro ya codificado con {@link #encode}.
+	 *
+	 * @param name   nombre del Pokémon (clave del índice)
+	 * @param record registro codificado
+	 * @return este writer
+	 */
+	public PokemonDatasetWriter addRecord(String name, byte[] record) {
+		records.put(PokemonDataset.normalize(name), record);
+		return this;
+	}
+
+	/**
+	 * Codifica un Pokémon en el formato de registro del dataset.
+	 *
+	 * @param pokemon        agregado a codificar
+	 * @param withEncounters true si {@code locationAreaEncounters} es completo
+	 * @return bytes del registro
+	 * @throws IOException si un campo excede los límites del formato
+	 */
+	public static byte[] encode(Pokemon pokemon, boolean withEncounters) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeByte(withEncounters ? PokemonDataset.FLAG_ENCOUNTERS : 0);
+		out.writeInt(orNull(pokemon.getId()));
+		out.writeInt(orNull(pokemon.getBaseExperience()));
+		writeString(out, PokemonDataset.normalize(pokemon.getName()));
+		writeList(out, pokemon.getAbilities());
+		writeList(out, pokemon.getHeldItems());
+		writeList(out, withEncounters ? pokemon.getLocationAreaEncounters() : List.of());
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @return número de Pokémon añadidos
+	 */
+	public int size() {
+		return records.size();
+	}
+
+	/**
+	 * Escribe el dataset en {@code file} de forma atómica.
+	 *
+	 * @param file destino
+	 * @throws IOException si falla la escritura
+	 */
+	public void writeTo(Path file) throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+		try {
+			try (OutputStream os = Files.newOutputStream(tmp);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+				write(out);
+			}
+			try {
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	private void write(DataOutputStream out) throws IOException {
+		List<long[]> entries = new ArrayList<>(2 * records.size());
+		long offset = PokemonDataset.HEADER_BYTES;
+		for (Map.Entry<String, byte[]> record : records.entrySet()) {
+			entries.add(new long[] { PokemonDataset.hash(record.getKey().getBytes(StandardCharsets.UTF_8)), offset });
+			int id = ByteBuffer.wrap(record.getValue()).getInt(PokemonDataset.RECORD_ID_OFFSET);
+			if (id != PokemonDataset.NULL_INT) {
+				byte[] idKey = Integer.toString(id).getBytes(StandardCharsets.UTF_8);
+				entries.add(new long[] { PokemonDataset.hash(idKey), offset });
+			}
+			offset += record.getValue().length;
+		}
+		long[][] index = entries.toArray(new long[0][]);
+		if (offset + (long) index.length * PokemonDataset.INDEX_ENTRY_BYTES > Integer.MAX_VALUE) {
+			throw new IOException("Dataset exceeds 2 GB");
+		}
+		Arrays.sort(index, Comparator.comparingLong(entry -> entry[0]));
+
+		out.writeInt(PokemonDataset.MAGIC);
+		out.writeInt(PokemonDataset.VERSION);
+		out.writeInt(records.size());
+		out.writeInt(index.length);
+		out.writeLong(offset);
+		for (byte[] record : records.values()) {
+			out.write(record);
+		}
+		for (long[] entry : index) {
+			out.writeLong(entry[0]);
+			out.writeInt((int) entry[1]);
+		}
+	}
+
+	private static int orNull(Integer value) {
+		return value == null ? PokemonDataset.NULL_INT : value;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > 0xFFFF) {
+			throw new IOException("String too long for dataset: " + value.substring(0, 32) + "...");
+		}
+		out.writeShort(bytes.length);
+		out.write(bytes);
+	}
+
+	private static void writeList(DataOutputStream out, List<String> values) throws IOException {
+		if (values.size() > 0xFFFF) {
+			throw new IOException("List too long for dataset: " + values.size());
+		}
+		out.writeShort(values.size());
+		for (String value : values) {
+			writeString(out, value);
+		}
+	}
+
+}
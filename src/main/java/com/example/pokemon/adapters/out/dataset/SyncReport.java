@@ -0,0 +1,33 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.dataset;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Resultado de una ejecución de {@link CatalogSyncJob}.
+ *
+ * @param resumedFrom offset del listado por el que empezó (0 si no reanudó)
+ * @param total       tamaño del catálogo según PokeAPI
+ * @param processed   entradas procesadas en esta ejecución
+ * @param added       registros nuevos
+ * @param updated     registros con contenido distinto al guardado
+ * @param unchanged   registros idénticos (hash) que no se reescribieron
+ * @param failed      nombres que no se pudieron obtener
+ * @param complete    true si se recorrió el catálogo hasta el final
+ * @param elapsed     duración de la ejecución
+ */
+public record SyncReport(int resumedFrom, int total, int processed, int added, int updated, int unchanged,
+		List<String> failed, boolean complete, Duration elapsed) {
+
+	/**
+	 * @return entradas procesadas por segundo
+	 */
+	public double throughput() {
+		double seconds = elapsed.toNanos() / 1e9;
+		return seconds > 0 ? processed / seconds : 0;
+	}
+
+}
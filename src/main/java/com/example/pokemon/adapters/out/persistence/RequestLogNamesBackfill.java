@@ -0,0 +1,121 @@
+/**
+ *
+ */
+package com.example.pokemon.adapters.out.persistence;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.pokemon.adapters.out.persistence.entity.RequestLog;
+import com.example.pokemon.adapters.out.persistence.repo.RequestLogRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RequestLogNamesBackfill
+ *
+ * Rellena los Pokémon consultados de los registros guardados antes de la tabla
+ * request_log_pokemon, extrayéndolos de su request_payload
+ * ({@link RequestLogPersistenceAdapter#requestedNames(String)}).
+ *
+ * - Se ejecuta al arrancar como {@link ApplicationRunner} con la máxima
+ *   precedencia: antes de la precarga de la caché, que lee el top de nombres de
+ *   esa tabla.
+ * - Una transacción por lote de {@code batchSize} registros, vaciando el
+ *   contexto de persistencia entre lotes: el historial puede ser grande.
+ * - Los registros cuyo payload no contiene ningún nombre se vuelven a revisar
+ *   en cada arranque (no hay dónde marcarlos); son pocos y el recorrido es por
+ *   lotes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class RequestLogNamesBackfill implements ApplicationRunner {
+
+	/** Registros por lote (y por transacción). */
+	private static final int BATCH_SIZE = 500;
+
+	private final RequestLogRepository requestLogRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final EntityManager entityManager;
+	private final int batchSize;
+
+	@Autowired
+	public RequestLogNamesBackfill(RequestLogRepository requestLogRepository,
+			PlatformTransactionManager transactionManager, EntityManager entityManager) {
+		this(requestLogRepository, new TransactionTemplate(transactionManager), entityManager, BATCH_SIZE);
+	}
+
+	RequestLogNamesBackfill(RequestLogRepository requestLogRepository, TransactionTemplate transactionTemplate,
+			EntityManager entityManager, int batchSize) {
+		this.requestLogRepository = requestLogRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.entityManager = entityManager;
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		try {
+			backfill();
+		} catch (RuntimeException e) {
+			log.warn("Request log name backfill skipped: {}", e.toString());
+		}
+	}
+
+	/**
+	 * Recorre por lotes los registros sin nombres y rellena los que tienen
+	 * alguno en su payload.
+	 *
+	 * @return registros actualizados
+	 */
+	public int backfill() {
+		int updated = 0;
+		long afterId = 0;
+		Batch batch;
+		do {
+			long from = afterId;
+			batch = transactionTemplate.execute(status -> backfillBatch(from));
+			updated += batch.updated();
+			afterId = batch.lastId();
+		} while (batch.size() == batchSize);
+		if (updated > 0) {
+			log.info("Backfilled requested Pokémon names for {} request logs", updated);
+		}
+		return updated;
+	}
+
+	private Batch backfillBatch(long afterId) {
+		List<RequestLog> entries = requestLogRepository.findWithoutPokemonNames(afterId,
+				PageRequest.of(0, batchSize));
+		int updated = 0;
+		long lastId = afterId;
+		for (RequestLog entry : entries) {
+			lastId = entry.getId();
+			List<String> names = RequestLogPersistenceAdapter.requestedNames(entry.getRequestPayload());
+			if (!names.isEmpty()) {
+				entry.getPokemonNames().addAll(names);
+				updated++;
+			}
+		}
+		// Escribe el lote y suelta sus entidades antes del siguiente
+		entityManager.flush();
+		entityManager.clear();
+		return new Batch(entries.size(), updated, lastId);
+	}
+
+	/** Resultado de un lote: registros leídos, actualizados y último id visto. */
+	private record Batch(int size, int updated, long lastId) {
+	}
+
+}
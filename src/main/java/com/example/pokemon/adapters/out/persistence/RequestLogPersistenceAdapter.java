@@ -4,8 +4,16 @@
 package com.example.pokemon.adapters.out.persistence;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -16,6 +24,7 @@ import com.example.pokemon.adapters.out.persistence.repo.RequestLogRepository;
 import com.example.pokemon.adapters.out.persistence.spec.RequestLogSpecifications;
 import com.example.pokemon.domain.model.RequestLogFilterDTO;
 import com.example.pokemon.domain.ports.out.LogsQueryPort;
+import com.example.pokemon.domain.ports.out.RequestHistoryPort;
 import com.example.pokemon.domain.ports.out.SaveRequestLogPort;
 
 import lombok.RequiredArgsConstructor;
@@ -26,14 +35,25 @@ import lombok.RequiredArgsConstructor;
  * Adaptador de infraestructura que implementa los puertos de salida:
  * - SaveRequestLogPort: persiste registros.
  * - LogsQueryPort: consulta paginada con filtros dinámicos (Specifications).
+ * - RequestHistoryPort: Pokémon más consultados (para precalentar la caché).
  *
  * Detalles:
  * - Centraliza la conversión de RequestLogFilterDTO → Specification.
  * - Evita que la capa de aplicación conozca JPA/Hibernate.
+ * - Extrae del payload SOAP los Pokémon consultados (todos los elementos
+ *   {@code name}, también los de un batch) y los guarda en su propia tabla, en
+ *   forma canónica: "Pikachu " y "pikachu", o "025" y "25", cuentan como el
+ *   mismo Pokémon.
+ * - Los registros guardados antes de esa tabla se rellenan al arrancar desde
+ *   su request_payload ({@link RequestLogNamesBackfill}).
  */
 @Component
 @RequiredArgsConstructor
-public class RequestLogPersistenceAdapter implements SaveRequestLogPort, LogsQueryPort {
+public class RequestLogPersistenceAdapter implements SaveRequestLogPort, LogsQueryPort, RequestHistoryPort {
+
+	/** Elemento {@code <name>} (con o sin prefijo) de los *Request de pokemon.xsd. */
+	private static final Pattern REQUESTED_NAME = Pattern.compile("<(?:[\\w-]+:)?name>\\s*([^<]{1,100}?)\\s*</(?:[\\w-]+:)?name>");
+
 	
 	/**
      * Repositorio JPA para {@link RequestLog}.
@@ -70,6 +90,7 @@ public class RequestLogPersistenceAdapter implements SaveRequestLogPort, LogsQue
 				.durationMs(durationMs)
 				.requestPayload(requestPayload)
 				.responsePayload(responsePayload)
+				.pokemonNames(requestedNames(requestPayload))
 				.build();
 
 		// Persistencia del log en la base de datos.
@@ -95,6 +116,44 @@ public class RequestLogPersistenceAdapter implements SaveRequestLogPort, LogsQue
         return requestLogRepository.findAll(spec, pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findTopRequestedNames(OffsetDateTime since, int limit) {
+        return requestLogRepository.findTopPokemonNames(since, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Extrae los Pokémon consultados de un payload SOAP.
+     *
+     * @param requestPayload XML del request (puede ser null)
+     * @return nombres en forma canónica ({@link #canonical(String)}), sin repetir
+     *         y en orden de aparición; vacía si no hay elementos {@code name}
+     */
+    static List<String> requestedNames(String requestPayload) {
+        if (requestPayload == null) {
+            return new ArrayList<>();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        Matcher matcher = REQUESTED_NAME.matcher(requestPayload);
+        while (matcher.find()) {
+            names.add(canonical(matcher.group(1)));
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * Misma forma canónica que el índice de alias de la caché: trim +
+     * minúsculas, y los ids numéricos sin ceros a la izquierda.
+     */
+    static String canonical(String raw) {
+        String name = raw.trim().toLowerCase(Locale.ROOT);
+        if (name.isEmpty() || name.length() > 9 || !name.chars().allMatch(c -> c >= '0' && c <= '9')) {
+            return name;
+        }
+        int id = Integer.parseInt(name);
+        return id > 0 ? Integer.toString(id) : name;
+    }
+
     /**
      * Delegación simple a findAll(pageable).
      */
@@ -4,12 +4,18 @@
 package com.example.pokemon.adapters.out.persistence.entity;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -31,6 +37,10 @@ import lombok.Setter;
  * - durationMs      : duración en milisegundos (nullable).
  * - requestPayload  : cuerpo del request (Lob, nullable).
  * - responsePayload : cuerpo de la respuesta (Lob, nullable).
+ * - pokemonNames    : Pokémon consultados, normalizados y sin repetir (tabla
+ *                     request_log_pokemon); permite agregar la demanda sin
+ *                     parsear los payloads SOAP. Una petición batch aporta
+ *                     todos sus nombres.
  *
  * Notas:
  * - Los campos requestPayload/responsePayload están marcados como {@link LOB} para soportar grandes cuerpos JSON/XML.
@@ -95,4 +105,16 @@ public class RequestLog {
     @Column(name = "response_payload", columnDefinition = "CLOB")
     private String responsePayload;
 
+	/**
+	 * Nombres (o ids) de los Pokémon consultados, en forma canónica (minúsculas,
+	 * sin espacios, ids sin ceros iniciales) y sin repetir. Vacía si la petición
+	 * no incluye ninguno.
+	 */
+	@ElementCollection
+	@CollectionTable(name = "request_log_pokemon", joinColumns = @JoinColumn(name = "request_log_id"),
+			indexes = @Index(name = "idx_request_log_pokemon_by_name", columnList = "pokemon_name"))
+	@Column(name = "pokemon_name", nullable = false, length = 100)
+	@Builder.Default
+    private List<String> pokemonNames = new ArrayList<>();
+
 }
@@ -3,8 +3,14 @@
  */
 package com.example.pokemon.adapters.out.persistence.repo;
 
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.pokemon.adapters.out.persistence.entity.RequestLog;
@@ -17,8 +23,34 @@ import com.example.pokemon.adapters.out.persistence.entity.RequestLog;
  * - Extiende JpaSpecificationExecutor para ejecutar Specifications dinámicas.
  *
  * No definimos métodos derivables adicionales aquí porque usamos Specifications
- * (flexibilidad y menor cantidad de firmas).
+ * (flexibilidad y menor cantidad de firmas); las excepciones son la agregación
+ * de demanda por Pokémon y la búsqueda de registros sin nombres extraídos, que
+ * no se pueden expresar como Specification.
  */
 @Repository
 public interface RequestLogRepository extends JpaRepository<RequestLog, Long>, JpaSpecificationExecutor<RequestLog> {
+
+	/**
+	 * Pokémon más consultados desde {@code since}, de más a menos peticiones.
+	 *
+	 * @param since    inicio de la ventana de historial
+	 * @param pageable tamaño del top (primera página)
+	 * @return nombres normalizados
+	 */
+	@Query("select n from RequestLog r join r.pokemonNames n where r.requestDate >= :since"
+			+ " group by n order by count(n) desc")
+	List<String> findTopPokemonNames(@Param("since") OffsetDateTime since, Pageable pageable);
+
+	/**
+	 * Registros con payload pero sin Pokémon extraídos (anteriores a la tabla
+	 * request_log_pokemon), por id ascendente.
+	 *
+	 * @param afterId  último id ya procesado
+	 * @param pageable tamaño del lote (primera página)
+	 * @return registros pendientes de extraer
+	 */
+	@Query("select r from RequestLog r where r.id > :afterId and r.requestPayload is not null"
+			+ " and r.pokemonNames is empty order by r.id")
+	List<RequestLog> findWithoutPokemonNames(@Param("afterId") long afterId, Pageable pageable);
+
 }
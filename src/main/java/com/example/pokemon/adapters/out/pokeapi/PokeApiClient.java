@@ -4,20 +4,39 @@
 package com.example.pokemon.adapters.out.pokeapi;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import com.example.pokemon.adapters.out.pokeapi.dto.EncounterDTO;
-import com.example.pokemon.adapters.out.pokeapi.dto.PokeApiPokemonDTO;
+import com.example.pokemon.adapters.out.pokeapi.codec.EncounterNamesJsonDecoder;
+import com.example.pokemon.adapters.out.pokeapi.codec.NamedResourcePage;
+import com.example.pokemon.adapters.out.pokeapi.codec.NamedResourcePageJsonDecoder;
+import com.example.pokemon.adapters.out.pokeapi.codec.PokemonJsonDecoder;
+import com.example.pokemon.adapters.out.pokeapi.diskcache.CachedResponse;
+import com.example.pokemon.adapters.out.pokeapi.diskcache.PokeApiDiskCache;
+import com.example.pokemon.adapters.out.pokeapi.diskcache.RecordCodec;
+import com.example.pokemon.adapters.out.pokeapi.resilience.PokeApiResilience;
+import com.example.pokemon.common.concurrent.SingleFlight;
 import com.example.pokemon.common.exceptions.PokemonNotFoundException;
 import com.example.pokemon.common.exceptions.RemoteClientException;
+import com.example.pokemon.common.exceptions.RemoteServerException;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.ports.out.LoadPokemonPort;
+import com.fasterxml.jackson.core.JsonFactory;
 
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Cliente adaptador que consume la API pública de
@@ -33,16 +52,28 @@ import reactor.core.publisher.Mono;
  * <li>Manejar errores HTTP y de red, transformándolos en excepciones del
  * dominio: {@link PokemonNotFoundException},
  * {@link RemoteClientException}.</li>
+ * <li>Deduplicar consultas concurrentes del mismo Pokémon: los llamadores
+ * simultáneos comparten una única petición saliente ({@link SingleFlight}).</li>
+ * <li>Decodificar las respuestas directamente al modelo de dominio
+ * {@link Pokemon}, sin DTOs intermedios ni mapeo posterior.</li>
+ * <li>Persistir cada respuesta proyectada en {@link PokeApiDiskCache} y
+ * revalidarla con GET condicional (ETag / Last-Modified) cuando caduca.</li>
+ * <li>Proteger cada llamada con {@link PokeApiResilience}: si PokeAPI se
+ * degrada, los llamadores fallan al momento con
+ * {@link com.example.pokemon.common.exceptions.RemoteUnavailableException} en
+ * lugar de acumularse bloqueados.</li>
  * </ul>
  *
  * <p>
- * Este cliente se inyecta en los casos de uso (application layer), encapsulando
- * toda la comunicación HTTP con la API externa.
+ * Implementa {@link LoadPokemonPort}; los casos de uso lo reciben a través del
+ * puerto (normalmente detrás del dataset local, ver
+ * {@code LocalFirstPokemonLoader}), encapsulando toda la comunicación HTTP con
+ * la API externa.
  * </p>
  */
 @Component
 @RequiredArgsConstructor
-public class PokeApiClient {
+public class PokeApiClient implements LoadPokemonPort {
 
 	/**
 	 * Cliente HTTP reactivo de Spring WebFlux configurado para apuntar a la URL
@@ -52,22 +83,66 @@ public class PokeApiClient {
 	 */
 	private final WebClient pokeApiWebClient;
 
+	/**
+	 * Caché persistente de respuestas proyectadas (sobrevive a reinicios).
+	 */
+	private final PokeApiDiskCache diskCache;
+
+	/**
+	 * Límite adaptativo de concurrencia + circuit breaker de cada llamada HTTP.
+	 */
+	private final PokeApiResilience resilience;
+
+	/**
+	 * Peticiones en vuelo por (nombre normalizado, plan). Los llamadores
+	 * concurrentes de la misma clave reciben el mismo resultado o excepción.
+	 */
+	private final SingleFlight<FlightKey, Pokemon> inFlight = new SingleFlight<>();
+
+	/**
+	 * Fábrica de parsers compartida (thread-safe) por ambos decodificadores.
+	 */
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	/**
+	 * Decodificador en streaming de <b>/pokemon/{name}</b> a
+	 * {@link Pokemon.PokemonBuilder}: el cuerpo (varios MB) nunca se acumula
+	 * completo y solo se materializan los campos del dominio.
+	 */
+	private final PokemonJsonDecoder pokemonDecoder = new PokemonJsonDecoder(JSON_FACTORY);
+
+	/**
+	 * Decodificador en streaming de <b>/pokemon/{name}/encounters</b> a la lista
+	 * de nombres de área.
+	 */
+	private final EncounterNamesJsonDecoder encountersDecoder = new EncounterNamesJsonDecoder(JSON_FACTORY);
+
+	/**
+	 * Decodificador en streaming de las páginas de <b>/pokemon</b> (catálogo).
+	 */
+	private final NamedResourcePageJsonDecoder pageDecoder = new NamedResourcePageJsonDecoder(JSON_FACTORY);
+
 	/**
 	 * Obtiene la información de un Pokémon específico desde PokeAPI.
 	 *
 	 * Flujo del método:
 	 * <ol>
-	 * <li>Consulta <b>/pokemon/{name}</b> → datos principales (id, nombre,
-	 * experiencia base, habilidades, ítems).</li>
+	 * <li>Lanza en paralelo <b>/pokemon/{name}</b> (datos principales: id, nombre,
+	 * experiencia base, habilidades, ítems) y <b>/pokemon/{name}/encounters</b>
+	 * (ubicaciones donde aparece el Pokémon).</li>
+	 * <li>Combina ambas respuestas con {@link Mono#zip} y bloquea una única vez,
+	 * de modo que la latencia total es ~1 RTT en lugar de 2 RTT
+	 * secuenciales.</li>
 	 * <li>Si la respuesta es 404, lanza {@link PokemonNotFoundException}.</li>
-	 * <li>Si ocurre un error 5xx, lanza {@link RemoteClientException}.</li>
+	 * <li>Si ocurre un error 5xx o de red, se reintenta con backoff según
+	 * {@code RetryPolicy}; si persiste, lanza {@link RemoteClientException}.</li>
 	 * <li>Valida que la respuesta no sea nula (cuerpo vacío).</li>
-	 * <li>Consulta <b>/pokemon/{name}/encounters</b> → ubicaciones donde aparece el
-	 * Pokémon.</li>
-	 * <li>Devuelve un {@link PokeApiPokemonDTO} que combina la información base +
-	 * los encuentros.</li>
+	 * <li>Devuelve un {@link Pokemon} que combina la información base + los
+	 * encuentros.</li>
 	 * </ol>
 	 *
+	 * Si una de las dos llamadas falla, {@link Mono#zip} cancela la otra.
+	 *
 	 * Manejo de errores:
 	 * <ul>
 	 * <li>{@link WebClientResponseException.NotFound} → el Pokémon no existe.</li>
@@ -78,47 +153,280 @@ public class PokeApiClient {
 	 * </ul>
 	 *
 	 * @param name nombre del Pokémon a consultar (ej: "pikachu")
-	 * @return DTO con datos combinados del Pokémon
+	 * @return agregado de dominio con datos combinados del Pokémon
+	 * @throws PokemonNotFoundException si no existe el Pokémon en la API
+	 * @throws RemoteClientException    si hay errores de red o del servidor remoto
+	 */
+	public Pokemon getPokemon(String name) {
+		return getPokemon(name, FetchPlan.FULL);
+	}
+
+	/**
+	 * Variante de {@link #getPokemon(String)} que solo consulta los recursos
+	 * descritos por el {@link FetchPlan}.
+	 *
+	 * Con {@link FetchPlan#BASE} no se llama a <b>/pokemon/{name}/encounters</b> y
+	 * el agregado devuelto tiene la lista de encounters vacía.
+	 *
+	 * Las llamadas concurrentes con el mismo nombre normalizado (trim + minúsculas)
+	 * y el mismo plan se unen a la petición en curso en lugar de lanzar otra.
+	 *
+	 * @param name nombre del Pokémon a consultar (ej: "pikachu")
+	 * @param plan partes del agregado que necesita el llamador
+	 * @return agregado de dominio con los datos solicitados del Pokémon
 	 * @throws PokemonNotFoundException si no existe el Pokémon en la API
 	 * @throws RemoteClientException    si hay errores de red o del servidor remoto
 	 */
-	public PokeApiPokemonDTO getPokemon(String name) {
-		try {
-			// 1) Consulta de datos principales del Pokémon
-			PokeApiPokemonDTO baseData = pokeApiWebClient.get().uri("/pokemon/{name}", name).retrieve()
-					.onStatus(HttpStatusCode::is4xxClientError, response -> {
-						if (response.statusCode().value() == 404) {
-							return Mono.error(new PokemonNotFoundException("Pokémon not found: " + name));
-						}
-						return Mono.error(
-								new RemoteClientException("Client error from PokeAPI: " + response.statusCode()));
-					})
-					.onStatus(HttpStatusCode::is5xxServerError,
-							response -> Mono.error(
-									new RemoteClientException("Server error from PokeAPI: " + response.statusCode())))
-					.bodyToMono(PokeApiPokemonDTO.class).block();
-
-			if (baseData == null) {
-				throw new RemoteClientException("Empty body from PokeAPI for: " + name);
-			}
-
-			// 2) Consulta de encounters (lugares donde aparece el Pokémon)
-			List<EncounterDTO> encounters = pokeApiWebClient.get().uri("/pokemon/{name}/encounters", name).retrieve()
-					.onStatus(HttpStatusCode::is5xxServerError,
-							response -> Mono.error(new RemoteClientException(
-									"Server error from PokeAPI (encounters): " + response.statusCode())))
-					.bodyToFlux(EncounterDTO.class).collectList().block();
-
-			// 3) Combina la información base + los encuentros en un nuevo DTO inmutable
-			return new PokeApiPokemonDTO(baseData.id(), baseData.name(), baseData.base_experience(),
-					baseData.abilities(), baseData.held_items(), encounters);
-		} catch (WebClientResponseException.NotFound e) {
-			throw new PokemonNotFoundException("Pokémon not found: " + name, e);
-		} catch (WebClientRequestException e) {
-			throw new RemoteClientException("Network error calling PokeAPI", e);
-		} catch (Exception e) {
-			throw new RemoteClientException("Unexpected error calling PokeAPI", e);
+	public Pokemon getPokemon(String name, FetchPlan plan) {
+		// Las variantes de mayúsculas/espacios de un mismo nombre comparten petición
+		String normalized = name.trim().toLowerCase(Locale.ROOT);
+		return inFlight.execute(new FlightKey(normalized, plan), () -> request(normalized, plan).toFuture());
+	}
+
+	/**
+	 * Variante no bloqueante de {@link #getPokemon(String, FetchPlan)}: misma
+	 * deduplicación de peticiones en vuelo, sin {@code block()}. El Mono se
+	 * completa en el hilo de Netty que recibe la respuesta.
+	 *
+	 * Cancelar la suscripción no cancela la petición compartida (otros
+	 * llamadores pueden estar esperándola).
+	 *
+	 * @param name nombre del Pokémon a consultar (ej: "pikachu")
+	 * @param plan partes del agregado que necesita el llamador
+	 * @return Mono diferido con el agregado, o error con las excepciones de
+	 *         {@link #getPokemon(String, FetchPlan)}
+	 */
+	public Mono<Pokemon> getPokemonReactive(String name, FetchPlan plan) {
+		return Mono.defer(() -> {
+			String normalized = name.trim().toLowerCase(Locale.ROOT);
+			return Mono.fromFuture(
+					() -> inFlight.submit(new FlightKey(normalized, plan), () -> request(normalized, plan).toFuture()),
+					true);
+		});
+	}
+
+	@Override
+	public Pokemon loadByName(String name, FetchPlan plan) {
+		return getPokemon(name, plan);
+	}
+
+	@Override
+	public Mono<Pokemon> loadByNameReactive(String name, FetchPlan plan) {
+		return getPokemonReactive(name, plan);
+	}
+
+	/**
+	 * Página del catálogo de Pokémon: <b>/pokemon?offset={offset}&amp;limit={limit}</b>.
+	 *
+	 * No pasa por la caché en disco (el listado crece con cada generación), pero
+	 * sí por las protecciones de {@link PokeApiResilience} (límite, breaker,
+	 * reintentos).
+	 *
+	 * @param offset posición del primer recurso
+	 * @param limit  tamaño de página
+	 * @return total del catálogo y nombres de la página
+	 * @throws RemoteClientException si hay errores de red o del servidor remoto
+	 */
+	public NamedResourcePage listPokemon(int offset, int limit) {
+		return resilience.protect(pokeApiWebClient.get()
+				.uri(uri -> uri.path("/pokemon").queryParam("offset", offset).queryParam("limit", limit).build())
+				.exchangeToMono(response -> {
+					HttpStatusCode status = response.statusCode();
+					if (status.is5xxServerError()) {
+						return Mono.error(new RemoteServerException("Server error from PokeAPI (catalog): " + status,
+								status.value()));
+					}
+					if (status.isError()) {
+						return Mono.error(new RemoteClientException("Client error from PokeAPI (catalog): " + status));
+					}
+					return pageDecoder.decode(response.bodyToFlux(DataBuffer.class));
+				}))
+				.switchIfEmpty(Mono.error(() -> new RemoteClientException("Empty body from PokeAPI catalog")))
+				.onErrorMap(e -> translateError("catalog", e))
+				.block();
+	}
+
+	/**
+	 * Construye la petición reactiva (aún sin suscribir) para el plan indicado.
+	 *
+	 * @param name nombre normalizado del Pokémon
+	 * @param plan partes del agregado a consultar
+	 * @return Mono que emite el agregado o falla con una excepción del dominio
+	 */
+	private Mono<Pokemon> request(String name, FetchPlan plan) {
+		// 1) Con plan FULL ambas consultas se suscriben a la vez; zip añade los
+		//    encuentros a los datos base
+		Mono<Pokemon> request = plan.includesEncounters()
+				? Mono.zip(fetchBaseData(name), fetchEncounters(name),
+						(baseData, encounters) -> baseData.toBuilder().locationAreaEncounters(encounters).build())
+				: fetchBaseData(name);
+
+		// 2) Vacío si /pokemon/{name} no devolvió cuerpo; 3) traducción de errores
+		return request
+				.switchIfEmpty(Mono.error(() -> new RemoteClientException("Empty body from PokeAPI for: " + name)))
+				.onErrorMap(e -> translateError(name, e));
+	}
+
+	/**
+	 * Traduce errores de WebClient a excepciones del dominio. Las excepciones del
+	 * dominio ya lanzadas en {@code onStatus} se propagan tal cual.
+	 *
+	 * @param name nombre del Pokémon consultado
+	 * @param e    error original
+	 * @return excepción del dominio equivalente
+	 */
+	private static Throwable translateError(String name, Throwable e) {
+		if (e instanceof PokemonNotFoundException || e instanceof RemoteClientException) {
+			return e;
 		}
+		if (e instanceof WebClientResponseException.NotFound) {
+			return new PokemonNotFoundException("Pokémon not found: " + name, e);
+		}
+		if (e instanceof WebClientRequestException) {
+			return new RemoteClientException("Network error calling PokeAPI", e);
+		}
+		return new RemoteClientException("Unexpected error calling PokeAPI", e);
+	}
+
+	/**
+	 * Consulta de datos principales del Pokémon: <b>/pokemon/{name}</b>.
+	 *
+	 * El cuerpo se decodifica en streaming con {@link PokemonJsonDecoder}; el
+	 * campo {@code location_area_encounters} del recurso (una URL) se descarta
+	 * porque los encounters se obtienen de su propio endpoint.
+	 *
+	 * @param name nombre del Pokémon
+	 * @return Mono diferido con los datos base (sin encounters)
+	 */
+	private Mono<Pokemon> fetchBaseData(String name) {
+		return fetchCached("/pokemon/{name}", name, RecordCodec.POKEMON_BASE,
+				body -> pokemonDecoder.decode(body).map(Pokemon.PokemonBuilder::build),
+				response -> {
+					HttpStatusCode status = response.statusCode();
+					if (status.value() == 404) {
+						return Mono.error(new PokemonNotFoundException("Pokémon not found: " + name));
+					}
+					if (status.is5xxServerError()) {
+						return Mono.error(new RemoteServerException("Server error from PokeAPI: " + status,
+								status.value()));
+					}
+					return Mono.error(new RemoteClientException("Client error from PokeAPI: " + status));
+				});
+	}
+
+	/**
+	 * Consulta de encounters (lugares donde aparece el Pokémon):
+	 * <b>/pokemon/{name}/encounters</b>.
+	 *
+	 * @param name nombre del Pokémon
+	 * @return Mono diferido con la lista (posiblemente vacía) de nombres de área
+	 */
+	private Mono<List<String>> fetchEncounters(String name) {
+		return fetchCached("/pokemon/{name}/encounters", name, RecordCodec.NAMES, encountersDecoder::decode,
+				response -> response.statusCode().is5xxServerError()
+						? Mono.error(new RemoteServerException(
+								"Server error from PokeAPI (encounters): " + response.statusCode(),
+								response.statusCode().value()))
+						: response.createError())
+				.defaultIfEmpty(List.of());
+	}
+
+	/**
+	 * GET de un recurso de PokeAPI respaldado por {@link PokeApiDiskCache}.
+	 *
+	 * <ol>
+	 * <li>Entrada fresca en disco → se devuelve sin tocar la red.</li>
+	 * <li>Entrada caducada → GET condicional con {@code If-None-Match} /
+	 * {@code If-Modified-Since}; un 304 renueva la entrada y la devuelve sin
+	 * descargar el cuerpo.</li>
+	 * <li>Sin entrada o 200 → se decodifica el cuerpo y se guarda junto con sus
+	 * validadores.</li>
+	 * </ol>
+	 *
+	 * La E/S de disco se ejecuta en {@link Schedulers#boundedElastic()}, nunca en
+	 * el event loop de Netty.
+	 *
+	 * @param uriTemplate  plantilla de la ruta (con {@code {name}})
+	 * @param name         nombre normalizado del Pokémon
+	 * @param codec        codec del registro guardado en disco
+	 * @param decoder      decodificador del cuerpo 200
+	 * @param errorHandler traducción de respuestas 4xx/5xx
+	 * @return Mono diferido con el registro proyectado
+	 */
+	private <T> Mono<T> fetchCached(String uriTemplate, String name, RecordCodec<T> codec,
+			Function<Flux<DataBuffer>, Mono<T>> decoder, Function<ClientResponse, Mono<T>> errorHandler) {
+		if (!diskCache.isEnabled()) {
+			return exchange(uriTemplate, name, null, codec, decoder, errorHandler);
+		}
+		return Mono.fromCallable(() -> diskCache.read(url(uriTemplate, name), codec))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(cached -> {
+					CachedResponse<T> entry = cached.orElse(null);
+					if (entry != null && diskCache.isFresh(entry)) {
+						return Mono.just(entry.value());
+					}
+					return exchange(uriTemplate, name, entry, codec, decoder, errorHandler);
+				});
+	}
+
+	/**
+	 * GET (condicional si hay entrada en disco) protegido por
+	 * {@link PokeApiResilience}. Solo el intercambio HTTP y la decodificación
+	 * cuentan para el limitador, la latencia observada y el circuito; la
+	 * escritura en disco se encadena después, ya liberados el permiso y la
+	 * conexión.
+	 */
+	private <T> Mono<T> exchange(String uriTemplate, String name, CachedResponse<T> cached, RecordCodec<T> codec,
+			Function<Flux<DataBuffer>, Mono<T>> decoder, Function<ClientResponse, Mono<T>> errorHandler) {
+		return resilience.protect(pokeApiWebClient.get().uri(uriTemplate, name)
+				.headers(headers -> {
+					if (cached != null && cached.etag() != null) {
+						headers.setIfNoneMatch(cached.etag());
+					}
+					if (cached != null && cached.lastModified() != null) {
+						headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+					}
+				})
+				.exchangeToMono(response -> {
+					if (response.statusCode().value() == 304 && cached != null) {
+						return Mono.just(cached.revalidated(diskCache.now()));
+					}
+					if (response.statusCode().isError()) {
+						// Los manejadores de error solo emiten la excepción traducida
+						return errorHandler.apply(response).then(Mono.<CachedResponse<T>>empty());
+					}
+					HttpHeaders headers = response.headers().asHttpHeaders();
+					String etag = headers.getETag();
+					String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+					return decoder.apply(response.bodyToFlux(DataBuffer.class))
+							.map(value -> new CachedResponse<>(value, etag, lastModified, diskCache.now()));
+				}))
+				.flatMap(entry -> store(uriTemplate, name, entry, codec));
+	}
+
+	private <T> Mono<T> store(String uriTemplate, String name, CachedResponse<T> entry, RecordCodec<T> codec) {
+		if (!diskCache.isEnabled()) {
+			return Mono.just(entry.value());
+		}
+		return Mono.fromRunnable(() -> diskCache.write(url(uriTemplate, name), entry, codec))
+				.subscribeOn(Schedulers.boundedElastic())
+				.thenReturn(entry.value());
+	}
+
+	/**
+	 * @return clave de la caché en disco (ruta expandida, p.ej. "/pokemon/pikachu")
+	 */
+	private static String url(String uriTemplate, String name) {
+		return uriTemplate.replace("{name}", name);
+	}
+
+	/**
+	 * Clave de deduplicación de peticiones en vuelo.
+	 *
+	 * @param name nombre normalizado del Pokémon
+	 * @param plan plan solicitado
+	 */
+	private record FlightKey(String name, FetchPlan plan) {
 	}
 
-}
\ No newline at end of file
+}
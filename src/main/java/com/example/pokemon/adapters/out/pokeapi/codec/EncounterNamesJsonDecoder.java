@@ -0,0 +1,70 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.codec;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.codec.DecodingException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * EncounterNamesJsonDecoder
+ *
+ * Decodifica <b>/pokemon/{name}/encounters</b> directamente a la lista de
+ * nombres de {@code location_area} ({@code [*].location_area.name}), saltando
+ * los {@code version_details} de cada encuentro sin materializarlos.
+ */
+public final class EncounterNamesJsonDecoder extends StreamingJsonDecoder<List<String>> {
+
+	public EncounterNamesJsonDecoder(JsonFactory jsonFactory) {
+		super(jsonFactory);
+	}
+
+	@Override
+	protected TokenSink<List<String>> newSink() {
+		return new EncounterNamesSink();
+	}
+
+	/**
+	 * Acumula {@code [*].location_area.name} en orden de aparición.
+	 */
+	private static final class EncounterNamesSink implements TokenSink<List<String>> {
+
+		private final List<String> names = new ArrayList<>();
+
+		/** Último campo visto en el objeto de cada encuentro (nivel 2). */
+		private String entryField;
+
+		/** Último campo visto dentro de location_area (nivel 3). */
+		private String areaField;
+
+		@Override
+		public void accept(JsonToken token, JsonParser parser, int depth) throws IOException {
+			if (depth == 1 && token == JsonToken.START_OBJECT) {
+				throw new DecodingException("Expected JSON array but found: " + token);
+			}
+			if (depth == 2 && token == JsonToken.FIELD_NAME) {
+				entryField = parser.currentName();
+			} else if (depth == 3 && "location_area".equals(entryField)) {
+				if (token == JsonToken.FIELD_NAME) {
+					areaField = parser.currentName();
+				} else if (token == JsonToken.VALUE_STRING && "name".equals(areaField)) {
+					names.add(parser.getText());
+				}
+			}
+		}
+
+		@Override
+		public List<String> finish() {
+			return names;
+		}
+
+	}
+
+}
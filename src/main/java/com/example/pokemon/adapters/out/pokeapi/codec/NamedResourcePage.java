@@ -0,0 +1,15 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.codec;
+
+import java.util.List;
+
+/**
+ * Página de un listado paginado de PokeAPI ({@code /pokemon?offset=&limit=}).
+ *
+ * @param count total de recursos del listado (no solo de esta página)
+ * @param names nombres de los recursos de esta página, en orden
+ */
+public record NamedResourcePage(int count, List<String> names) {
+}
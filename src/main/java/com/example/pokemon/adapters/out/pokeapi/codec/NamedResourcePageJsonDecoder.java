@@ -0,0 +1,73 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.codec;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.codec.DecodingException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * NamedResourcePageJsonDecoder
+ *
+ * Decodifica un listado paginado de PokeAPI
+ * ({@code {"count":n,"next":...,"results":[{"name":...,"url":...}]}}) a
+ * {@link NamedResourcePage}: solo {@code count} y {@code results[*].name}.
+ */
+public final class NamedResourcePageJsonDecoder extends StreamingJsonDecoder<NamedResourcePage> {
+
+	public NamedResourcePageJsonDecoder(JsonFactory jsonFactory) {
+		super(jsonFactory);
+	}
+
+	@Override
+	protected TokenSink<NamedResourcePage> newSink() {
+		return new PageSink();
+	}
+
+	private static final class PageSink implements TokenSink<NamedResourcePage> {
+
+		private final List<String> names = new ArrayList<>();
+
+		private int count;
+
+		/** Último campo de primer nivel. */
+		private String topField;
+
+		/** Último campo dentro de cada elemento de results (nivel 3). */
+		private String resultField;
+
+		@Override
+		public void accept(JsonToken token, JsonParser parser, int depth) throws IOException {
+			if (depth == 1) {
+				if (token == JsonToken.START_ARRAY) {
+					throw new DecodingException("Expected JSON object but found: " + token);
+				}
+				if (token == JsonToken.FIELD_NAME) {
+					topField = parser.currentName();
+				} else if (token == JsonToken.VALUE_NUMBER_INT && "count".equals(topField)) {
+					count = parser.getIntValue();
+				}
+			} else if (depth == 3 && "results".equals(topField)) {
+				if (token == JsonToken.FIELD_NAME) {
+					resultField = parser.currentName();
+				} else if (token == JsonToken.VALUE_STRING && "name".equals(resultField)) {
+					names.add(parser.getText());
+				}
+			}
+		}
+
+		@Override
+		public NamedResourcePage finish() {
+			return new NamedResourcePage(count, List.copyOf(names));
+		}
+
+	}
+
+}
@@ -0,0 +1,114 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.codec;
+
+import java.io.IOException;
+
+import org.springframework.core.codec.DecodingException;
+
+import com.example.pokemon.domain.model.Pokemon;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * PokemonJsonDecoder
+ *
+ * Decodifica <b>/pokemon/{name}</b> directamente sobre un
+ * {@link Pokemon.PokemonBuilder}, sin DTOs intermedios ni mapper.
+ *
+ * Extrae en una sola pasada:
+ * <ul>
+ * <li>{@code id}, {@code name}, {@code base_experience} (primer nivel)</li>
+ * <li>{@code abilities[*].ability.name} → {@code ability(..)}</li>
+ * <li>{@code held_items[*].item.name} → {@code heldItem(..)}</li>
+ * </ul>
+ * Cualquier otro subárbol ({@code moves}, {@code sprites}, ...) se salta sin
+ * leer sus valores.
+ *
+ * Se devuelve el builder (no el agregado) para que el cliente añada los
+ * encounters antes de un único {@code build()}; las listas resultantes son
+ * inmutables y nunca nulas gracias a {@code @Singular}.
+ */
+public final class PokemonJsonDecoder extends StreamingJsonDecoder<Pokemon.PokemonBuilder> {
+
+	public PokemonJsonDecoder(JsonFactory jsonFactory) {
+		super(jsonFactory);
+	}
+
+	@Override
+	protected TokenSink<Pokemon.PokemonBuilder> newSink() {
+		return new PokemonSink();
+	}
+
+	/**
+	 * Rellena el builder siguiendo el nombre de campo activo en cada nivel.
+	 */
+	private static final class PokemonSink implements TokenSink<Pokemon.PokemonBuilder> {
+
+		/** Anidamiento máximo que interesa: abilities[*].ability.name (nivel 4). */
+		private static final int MAX_DEPTH = 4;
+
+		private final Pokemon.PokemonBuilder builder = Pokemon.builder();
+
+		/** Último nombre de campo visto en cada nivel (1..MAX_DEPTH). */
+		private final String[] fieldAt = new String[MAX_DEPTH + 1];
+
+		/** Lista de primer nivel en curso: "abilities", "held_items" o null (saltar). */
+		private String list;
+
+		@Override
+		public void accept(JsonToken token, JsonParser parser, int depth) throws IOException {
+			if (depth == 1) {
+				acceptTopLevel(token, parser);
+				return;
+			}
+			if (list == null || depth > MAX_DEPTH) {
+				return;
+			}
+			if (token == JsonToken.FIELD_NAME) {
+				fieldAt[depth] = parser.currentName();
+			} else if (depth == MAX_DEPTH && token == JsonToken.VALUE_STRING && "name".equals(fieldAt[MAX_DEPTH])) {
+				// abilities[*].ability.name | held_items[*].item.name
+				if ("abilities".equals(list) && "ability".equals(fieldAt[3])) {
+					builder.ability(parser.getText());
+				} else if ("held_items".equals(list) && "item".equals(fieldAt[3])) {
+					builder.heldItem(parser.getText());
+				}
+			}
+		}
+
+		private void acceptTopLevel(JsonToken token, JsonParser parser) throws IOException {
+			switch (token) {
+			case START_ARRAY -> throw new DecodingException("Expected JSON object but found: " + token);
+			case FIELD_NAME -> {
+				fieldAt[1] = parser.currentName();
+				list = ("abilities".equals(fieldAt[1]) || "held_items".equals(fieldAt[1])) ? fieldAt[1] : null;
+			}
+			case VALUE_NUMBER_INT -> {
+				if ("id".equals(fieldAt[1])) {
+					builder.id(parser.getIntValue());
+				} else if ("base_experience".equals(fieldAt[1])) {
+					builder.baseExperience(parser.getIntValue());
+				}
+			}
+			case VALUE_STRING -> {
+				if ("name".equals(fieldAt[1])) {
+					builder.name(parser.getText());
+				}
+			}
+			default -> {
+				// START/END_OBJECT raíz, null y valores sin interés
+			}
+			}
+		}
+
+		@Override
+		public Pokemon.PokemonBuilder finish() {
+			return builder;
+		}
+
+	}
+
+}
@@ -0,0 +1,182 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * StreamingJsonDecoder
+ *
+ * Base de los decodificadores JSON en streaming de PokeAPI.
+ *
+ * Funcionamiento:
+ * - Alimenta un parser no bloqueante de Jackson con cada {@link DataBuffer} a
+ *   medida que llega y lo libera en cuanto se han consumido sus tokens: el
+ *   documento completo nunca se acumula en memoria.
+ * - Lleva la cuenta de profundidad y entrega cada token a un {@link TokenSink}
+ *   junto con su nivel de anidamiento; el sink decide qué conservar y salta el
+ *   resto sin materializarlo.
+ * - Valida que haya un único valor raíz completo.
+ *
+ * Un cuerpo vacío produce un {@link Mono} vacío (como {@code bodyToMono}).
+ *
+ * @param <T> tipo del resultado
+ */
+public abstract class StreamingJsonDecoder<T> {
+
+	private final JsonFactory jsonFactory;
+
+	protected StreamingJsonDecoder(JsonFactory jsonFactory) {
+		this.jsonFactory = jsonFactory;
+	}
+
+	/**
+	 * Decodifica un cuerpo HTTP en streaming.
+	 *
+	 * @param body flujo de buffers del cuerpo (cada buffer se libera aquí)
+	 * @return Mono con el resultado, vacío si el cuerpo está vacío
+	 */
+	public Mono<T> decode(Flux<DataBuffer> body) {
+		return Mono.defer(() -> {
+			Session session = new Session(newSink());
+			return body
+					.doOnNext(buffer -> {
+						try {
+							session.feed(buffer);
+						} finally {
+							DataBufferUtils.release(buffer);
+						}
+					})
+					.doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+					.then(Mono.fromCallable(session::finish));
+		});
+	}
+
+	/**
+	 * @return sink nuevo para una decodificación (no se comparte entre cuerpos)
+	 */
+	protected abstract TokenSink<T> newSink();
+
+	/**
+	 * Receptor de tokens de una decodificación.
+	 *
+	 * La profundidad es el nivel de anidamiento del token: el START/END del valor
+	 * raíz y sus campos/valores directos tienen profundidad 1; los hijos de un
+	 * contenedor de profundidad n tienen profundidad n + 1.
+	 *
+	 * @param <T> tipo del resultado
+	 */
+	protected interface TokenSink<T> {
+
+		/**
+		 * @param token  token actual
+		 * @param parser parser posicionado en el token (texto, números, nombre)
+		 * @param depth  profundidad del token
+		 * @throws IOException si el token no puede leerse
+		 */
+		void accept(JsonToken token, JsonParser parser, int depth) throws IOException;
+
+		/**
+		 * @return resultado tras consumir el valor raíz completo
+		 * @throws IOException si el resultado no puede construirse
+		 */
+		T finish() throws IOException;
+
+	}
+
+	/**
+	 * Estado de una decodificación: parser no bloqueante + sink.
+	 */
+	private final class Session {
+
+		private final JsonParser parser;
+		private final TokenSink<T> sink;
+
+		/** Profundidad actual en el documento de entrada (0 = fuera de la raíz). */
+		private int depth;
+
+		private boolean started;
+		private boolean completed;
+
+		Session(TokenSink<T> sink) {
+			try {
+				this.parser = jsonFactory.createNonBlockingByteBufferParser();
+			} catch (IOException e) {
+				throw new IllegalStateException("Non-blocking JSON parser not available", e);
+			}
+			this.sink = sink;
+		}
+
+		void feed(DataBuffer buffer) {
+			try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+				while (iterator.hasNext()) {
+					ByteBuffer chunk = iterator.next();
+					((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).feedInput(chunk);
+					drain();
+				}
+			} catch (IOException e) {
+				throw new DecodingException("JSON decoding error: " + e.getMessage(), e);
+			}
+		}
+
+		T finish() {
+			try {
+				parser.getNonBlockingInputFeeder().endOfInput();
+				drain();
+				if (!started) {
+					return null;
+				}
+				if (!completed) {
+					throw new DecodingException("Incomplete JSON value in response body");
+				}
+				return sink.finish();
+			} catch (IOException e) {
+				throw new DecodingException("JSON decoding error: " + e.getMessage(), e);
+			}
+		}
+
+		/** Procesa todos los tokens disponibles con la entrada recibida hasta ahora. */
+		private void drain() throws IOException {
+			JsonToken token;
+			while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+				handle(token);
+			}
+		}
+
+		private void handle(JsonToken token) throws IOException {
+			if (completed) {
+				throw new DecodingException("Unexpected content after JSON value: " + token);
+			}
+			if (depth == 0) {
+				if (!token.isStructStart()) {
+					throw new DecodingException("Expected JSON object or array but found: " + token);
+				}
+				started = true;
+			}
+			if (token.isStructStart()) {
+				sink.accept(token, parser, ++depth);
+			} else if (token.isStructEnd()) {
+				sink.accept(token, parser, depth--);
+				completed = depth == 0;
+			} else {
+				sink.accept(token, parser, depth);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,45 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.diskcache;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Respuesta de PokeAPI ya proyectada y guardada en disco, junto con los
+ * validadores HTTP necesarios para revalidarla.
+ *
+ * @param value        registro proyectado (no el cuerpo JSON original)
+ * @param etag         cabecera {@code ETag} de la respuesta, o null
+ * @param lastModified cabecera {@code Last-Modified} de la respuesta, o null
+ * @param fetchedAt    instante de la última descarga o revalidación (304)
+ * @param <T> tipo del registro proyectado
+ */
+public record CachedResponse<T>(T value, String etag, String lastModified, Instant fetchedAt) {
+
+	/**
+	 * @return true si la entrada aún puede servirse sin contactar con PokeAPI
+	 */
+	public boolean isFresh(Instant now, Duration ttl) {
+		return fetchedAt.plus(ttl).isAfter(now);
+	}
+
+	/**
+	 * @return true si hay algún validador para un GET condicional
+	 */
+	public boolean hasValidators() {
+		return etag != null || lastModified != null;
+	}
+
+	/**
+	 * Copia renovada tras un 304 Not Modified.
+	 *
+	 * @param now instante de la revalidación
+	 * @return misma entrada con {@code fetchedAt} actualizado
+	 */
+	public CachedResponse<T> revalidated(Instant now) {
+		return new CachedResponse<>(value, etag, lastModified, now);
+	}
+
+}
@@ -0,0 +1,218 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.diskcache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.pokemon.config.PokeApiDiskCacheProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PokeApiDiskCache
+ *
+ * Caché persistente en disco de respuestas de PokeAPI ya proyectadas, situada
+ * bajo {@link com.example.pokemon.adapters.out.pokeapi.PokeApiClient}: tras un
+ * reinicio las consultas se sirven desde disco en lugar de volver a descargar
+ * cada Pokémon.
+ *
+ * Formato (un fichero {@code <sha-256(url)>.bin} por recurso):
+ * <pre>
+ * int     MAGIC ("PKDC")
+ * byte    VERSION
+ * UTF     url (se comprueba al leer para descartar colisiones)
+ * long    fetchedAt (epoch millis)
+ * UTF     ETag ("" si no hay)
+ * UTF     Last-Modified ("" si no hay)
+ * ...     registro proyectado ({@link RecordCodec})
+ * </pre>
+ *
+ * Características:
+ * - Escritura atómica (fichero temporal + move): un lector nunca ve un fichero
+ *   a medias.
+ * - Best effort: un fichero corrupto o de otra versión se borra y cuenta como
+ *   fallo; los errores de E/S se registran y nunca hacen fallar la consulta.
+ * - La frescura ({@code ttl}) se evalúa con {@link CachedResponse#isFresh}; el
+ *   cliente revalida las entradas caducadas con un GET condicional.
+ *
+ * Las operaciones son bloqueantes: el cliente las ejecuta fuera del event loop.
+ */
+@Component
+@Slf4j
+public class PokeApiDiskCache {
+
+	private static final int MAGIC = 0x504B4443; // "PKDC"
+	private static final byte VERSION = 1;
+
+	/** Directorio de la caché; null si está desactivada. */
+	private final Path directory;
+
+	private final Duration ttl;
+
+	private final Clock clock;
+
+	@Autowired
+	public PokeApiDiskCache(PokeApiDiskCacheProperties properties) {
+		this(properties.isEnabled() ? properties.getDirectory() : null, properties.getTtl(), Clock.systemUTC());
+	}
+
+	/**
+	 * @param directory directorio de la caché, o null para desactivarla
+	 * @param ttl       frescura de una entrada antes de revalidarla
+	 * @param clock     reloj para {@code fetchedAt} y la frescura
+	 */
+	public PokeApiDiskCache(Path directory, Duration ttl, Clock clock) {
+		this.directory = directory;
+		this.ttl = ttl;
+		this.clock = clock;
+		if (directory != null) {
+			try {
+				Files.createDirectories(directory);
+			} catch (IOException e) {
+				throw new IllegalStateException("Cannot create PokeAPI disk cache directory: " + directory, e);
+			}
+		}
+	}
+
+	/**
+	 * @return caché que nunca encuentra nada ni escribe (desactivada)
+	 */
+	public static PokeApiDiskCache disabled() {
+		return new PokeApiDiskCache(null, Duration.ZERO, Clock.systemUTC());
+	}
+
+	public boolean isEnabled() {
+		return directory != null;
+	}
+
+	/**
+	 * @return instante actual según el reloj de la caché
+	 */
+	public Instant now() {
+		return clock.instant();
+	}
+
+	/**
+	 * @return true si la entrada puede servirse sin revalidar
+	 */
+	public boolean isFresh(CachedResponse<?> entry) {
+		return entry.isFresh(now(), ttl);
+	}
+
+	/**
+	 * Lee la entrada de una URL.
+	 *
+	 * @param url   clave (ruta del recurso, p.ej. "/pokemon/pikachu")
+	 * @param codec codec del registro proyectado
+	 * @return entrada guardada, vacía si no existe o no es legible
+	 */
+	public <T> Optional<CachedResponse<T>> read(String url, RecordCodec<T> codec) {
+		if (directory == null) {
+			return Optional.empty();
+		}
+		Path file = fileFor(url);
+		try (InputStream raw = Files.newInputStream(file);
+				DataInputStream in = new DataInputStream(new BufferedInputStream(raw))) {
+			if (in.readInt() != MAGIC || in.readByte() != VERSION || !url.equals(in.readUTF())) {
+				throw new IOException("Unrecognized cache file");
+			}
+			Instant fetchedAt = Instant.ofEpochMilli(in.readLong());
+			String etag = emptyToNull(in.readUTF());
+			String lastModified = emptyToNull(in.readUTF());
+			return Optional.of(new CachedResponse<>(codec.read(in), etag, lastModified, fetchedAt));
+		} catch (NoSuchFileException e) {
+			return Optional.empty();
+		} catch (IOException | RuntimeException e) {
+			log.warn("Discarding unreadable PokeAPI disk cache entry {} ({}): {}", url, file, e.toString());
+			delete(file);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Guarda (o reemplaza) la entrada de una URL.
+	 *
+	 * @param url   clave (ruta del recurso)
+	 * @param entry entrada a guardar
+	 * @param codec codec del registro proyectado
+	 */
+	public <T> void write(String url, CachedResponse<T> entry, RecordCodec<T> codec) {
+		if (directory == null) {
+			return;
+		}
+		Path file = fileFor(url);
+		Path tmp = null;
+		try {
+			tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+			try (OutputStream raw = Files.newOutputStream(tmp);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(raw))) {
+				out.writeInt(MAGIC);
+				out.writeByte(VERSION);
+				out.writeUTF(url);
+				out.writeLong(entry.fetchedAt().toEpochMilli());
+				out.writeUTF(entry.etag() == null ? "" : entry.etag());
+				out.writeUTF(entry.lastModified() == null ? "" : entry.lastModified());
+				codec.write(out, entry.value());
+			}
+			move(tmp, file);
+		} catch (IOException | RuntimeException e) {
+			log.warn("Could not write PokeAPI disk cache entry {}: {}", url, e.toString());
+			if (tmp != null) {
+				delete(tmp);
+			}
+		}
+	}
+
+	private static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.debug("Could not delete {}: {}", file, e.toString());
+		}
+	}
+
+	private Path fileFor(String url) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+			return directory.resolve(HexFormat.of().formatHex(digest) + ".bin");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	private static String emptyToNull(String value) {
+		return value.isEmpty() ? null : value;
+	}
+
+}
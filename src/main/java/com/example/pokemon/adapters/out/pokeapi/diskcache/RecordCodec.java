@@ -0,0 +1,98 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.diskcache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.pokemon.domain.model.Pokemon;
+
+/**
+ * Serialización binaria compacta de los registros proyectados que guarda
+ * {@link PokeApiDiskCache}.
+ *
+ * Solo se escriben los campos que usa el dominio, con {@link DataOutput}
+ * (enteros de longitud fija y cadenas en UTF-8 modificado): un Pokémon ocupa
+ * unos cientos de bytes frente a los cientos de KB del JSON original.
+ *
+ * @param <T> tipo del registro
+ */
+public interface RecordCodec<T> {
+
+	void write(DataOutput out, T value) throws IOException;
+
+	T read(DataInput in) throws IOException;
+
+	/**
+	 * Datos base de <b>/pokemon/{name}</b> (sin encounters).
+	 */
+	RecordCodec<Pokemon> POKEMON_BASE = new RecordCodec<>() {
+
+		@Override
+		public void write(DataOutput out, Pokemon pokemon) throws IOException {
+			writeNullableInt(out, pokemon.getId());
+			out.writeUTF(pokemon.getName() == null ? "" : pokemon.getName());
+			writeNullableInt(out, pokemon.getBaseExperience());
+			NAMES.write(out, pokemon.getAbilities());
+			NAMES.write(out, pokemon.getHeldItems());
+		}
+
+		@Override
+		public Pokemon read(DataInput in) throws IOException {
+			Integer id = readNullableInt(in);
+			String name = in.readUTF();
+			return Pokemon.builder()
+					.id(id)
+					.name(name.isEmpty() ? null : name)
+					.baseExperience(readNullableInt(in))
+					.abilities(NAMES.read(in))
+					.heldItems(NAMES.read(in))
+					.build();
+		}
+
+		private void writeNullableInt(DataOutput out, Integer value) throws IOException {
+			out.writeBoolean(value != null);
+			if (value != null) {
+				out.writeInt(value);
+			}
+		}
+
+		private Integer readNullableInt(DataInput in) throws IOException {
+			return in.readBoolean() ? in.readInt() : null;
+		}
+
+	};
+
+	/**
+	 * Lista de nombres (p.ej. áreas de <b>/pokemon/{name}/encounters</b>).
+	 */
+	RecordCodec<List<String>> NAMES = new RecordCodec<>() {
+
+		@Override
+		public void write(DataOutput out, List<String> names) throws IOException {
+			out.writeInt(names.size());
+			for (String name : names) {
+				out.writeUTF(name);
+			}
+		}
+
+		@Override
+		public List<String> read(DataInput in) throws IOException {
+			int size = in.readInt();
+			if (size < 0) {
+				throw new IOException("Negative list size: " + size);
+			}
+			List<String> names = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				names.add(in.readUTF());
+			}
+			return List.copyOf(names);
+		}
+
+	};
+
+}
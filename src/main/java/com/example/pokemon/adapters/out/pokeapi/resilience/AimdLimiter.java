@@ -0,0 +1,156 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AimdLimiter
+ *
+ * Límite adaptativo de concurrencia saliente (Additive Increase /
+ * Multiplicative Decrease), guiado por la latencia observada.
+ *
+ * - Cada llamada necesita un permiso ({@link #tryAcquire()}); si ya hay
+ *   {@code limit} llamadas en vuelo se rechaza al momento en vez de encolar.
+ * - Una respuesta por debajo de {@code latencyThreshold} suma {@code 1/limit}
+ *   (≈ +1 por ventana completa de llamadas), solo si el límite se está usando
+ *   (al menos la mitad en vuelo) para no crecer en reposo.
+ * - Una respuesta lenta o un fallo (timeout, 5xx, red) multiplica el límite por
+ *   {@code backoffRatio}.
+ * - El límite se mantiene en [{@code minLimit}, {@code maxLimit}].
+ *
+ * Usa {@link ReentrantLock} en lugar de {@code synchronized}: las secciones
+ * críticas son mínimas y no fijan hilos virtuales a su portador.
+ */
+@Slf4j
+public class AimdLimiter {
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final long latencyThresholdNanos;
+	private final double backoffRatio;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private double limit;
+	private int inFlight;
+
+	/**
+	 * @param initialLimit     límite inicial
+	 * @param minLimit         límite mínimo (≥ 1)
+	 * @param maxLimit         límite máximo
+	 * @param latencyThreshold latencia por encima de la cual se reduce el límite
+	 * @param backoffRatio     factor de reducción, en (0, 1)
+	 */
+	public AimdLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio) {
+		if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+			throw new IllegalArgumentException("Invalid AIMD limiter configuration");
+		}
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyThresholdNanos = latencyThreshold.toNanos();
+		this.backoffRatio = backoffRatio;
+		this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+	}
+
+	/**
+	 * @return true si se concede un permiso (hay que liberarlo con
+	 *         {@link #onSuccess}, {@link #onDropped} o {@link #onIgnore})
+	 */
+	public boolean tryAcquire() {
+		lock.lock();
+		try {
+			if (inFlight >= (int) limit) {
+				return false;
+			}
+			inFlight++;
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Libera un permiso de una llamada completada con respuesta.
+	 *
+	 * @param rttNanos latencia observada
+	 */
+	public void onSuccess(long rttNanos) {
+		lock.lock();
+		try {
+			inFlight--;
+			if (rttNanos > latencyThresholdNanos) {
+				decrease();
+			} else if ((inFlight + 1) * 2 >= limit) {
+				update(Math.min(maxLimit, limit + 1.0 / limit));
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Libera un permiso de una llamada fallida por sobrecarga (timeout, 5xx, red).
+	 */
+	public void onDropped() {
+		lock.lock();
+		try {
+			inFlight--;
+			decrease();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Libera un permiso sin muestra de latencia (llamada cancelada).
+	 */
+	public void onIgnore() {
+		lock.lock();
+		try {
+			inFlight--;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return límite actual de llamadas concurrentes
+	 */
+	public int getLimit() {
+		lock.lock();
+		try {
+			return (int) limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return llamadas en vuelo
+	 */
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void decrease() {
+		update(Math.max(minLimit, limit * backoffRatio));
+	}
+
+	private void update(double newLimit) {
+		if ((int) newLimit != (int) limit) {
+			log.debug("PokeAPI concurrency limit {} -> {}", (int) limit, (int) newLimit);
+		}
+		limit = newLimit;
+	}
+
+}
@@ -0,0 +1,211 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CircuitBreaker
+ *
+ * Circuit breaker por tasa de fallos sobre una ventana de las últimas
+ * {@code windowSize} llamadas.
+ *
+ * Estados:
+ * - CLOSED: las llamadas pasan; con al menos {@code minimumCalls} en la ventana
+ *   y una tasa de fallos ≥ {@code failureRateThreshold} pasa a OPEN.
+ * - OPEN: se rechazan todas las llamadas durante {@code openDuration}
+ *   ({@link #retryAfter()} indica el tiempo restante).
+ * - HALF_OPEN: se dejan pasar hasta {@code halfOpenCalls} llamadas de prueba;
+ *   si todas van bien vuelve a CLOSED (ventana vacía), y al primer fallo a OPEN.
+ *
+ * Las transiciones se registran en el log; el estado se expone con
+ * {@link #getState()} para métricas.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+	/** Estados del breaker. */
+	public enum State {
+		CLOSED, HALF_OPEN, OPEN
+	}
+
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final long openDurationNanos;
+	private final int halfOpenCalls;
+	private final LongSupplier nanoClock;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/** Ventana circular de resultados (true = fallo). */
+	private final boolean[] window;
+	private int windowIndex;
+	private int windowCount;
+	private int windowFailures;
+
+	private State state = State.CLOSED;
+	private long openedAt;
+	private int halfOpenPermits;
+	private int halfOpenSuccesses;
+
+	/**
+	 * @param windowSize           llamadas consideradas para la tasa de fallos
+	 * @param minimumCalls         llamadas mínimas antes de evaluar la tasa
+	 * @param failureRateThreshold tasa de fallos (0..1] que abre el circuito
+	 * @param openDuration         tiempo en OPEN antes de probar (HALF_OPEN)
+	 * @param halfOpenCalls        llamadas de prueba en HALF_OPEN
+	 * @param nanoClock            reloj monotónico (System::nanoTime)
+	 */
+	public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration,
+			int halfOpenCalls, LongSupplier nanoClock) {
+		if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize || halfOpenCalls < 1
+				|| failureRateThreshold <= 0 || failureRateThreshold > 1) {
+			throw new IllegalArgumentException("Invalid circuit breaker configuration");
+		}
+		this.window = new boolean[windowSize];
+		this.minimumCalls = minimumCalls;
+		this.failureRateThreshold = failureRateThreshold;
+		this.openDurationNanos = openDuration.toNanos();
+		this.halfOpenCalls = halfOpenCalls;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * @return true si la llamada puede enviarse (hay que informar su resultado
+	 *         con {@link #onSuccess}, {@link #onFailure} o {@link #onIgnore})
+	 */
+	public boolean tryAcquire() {
+		lock.lock();
+		try {
+			if (state == State.OPEN) {
+				if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+					return false;
+				}
+				transition(State.HALF_OPEN);
+				halfOpenPermits = 0;
+				halfOpenSuccesses = 0;
+			}
+			if (state == State.HALF_OPEN) {
+				if (halfOpenPermits >= halfOpenCalls) {
+					return false;
+				}
+				halfOpenPermits++;
+			}
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void onSuccess() {
+		record(false);
+	}
+
+	public void onFailure() {
+		record(true);
+	}
+
+	/**
+	 * Devuelve el permiso sin contar resultado (llamada cancelada o rechazada
+	 * por otro mecanismo).
+	 */
+	public void onIgnore() {
+		lock.lock();
+		try {
+			if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+				halfOpenPermits--;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return tiempo restante hasta que se admitan llamadas de prueba (cero si no
+	 *         está abierto)
+	 */
+	public Duration retryAfter() {
+		lock.lock();
+		try {
+			if (state != State.OPEN) {
+				return Duration.ZERO;
+			}
+			long remaining = openDurationNanos - (nanoClock.getAsLong() - openedAt);
+			return Duration.ofNanos(Math.max(0, remaining));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public State getState() {
+		lock.lock();
+		try {
+			return state;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void record(boolean failure) {
+		lock.lock();
+		try {
+			switch (state) {
+			case HALF_OPEN -> {
+				if (failure) {
+					open();
+				} else if (++halfOpenSuccesses >= halfOpenCalls) {
+					resetWindow();
+					transition(State.CLOSED);
+				}
+			}
+			case CLOSED -> {
+				if (windowCount == window.length && window[windowIndex]) {
+					windowFailures--;
+				}
+				window[windowIndex] = failure;
+				windowIndex = (windowIndex + 1) % window.length;
+				windowCount = Math.min(window.length, windowCount + 1);
+				if (failure) {
+					windowFailures++;
+				}
+				if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+					open();
+				}
+			}
+			case OPEN -> {
+				// Resultado tardío de una llamada anterior a la apertura: se ignora
+			}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void open() {
+		openedAt = nanoClock.getAsLong();
+		transition(State.OPEN);
+	}
+
+	private void resetWindow() {
+		windowIndex = 0;
+		windowCount = 0;
+		windowFailures = 0;
+	}
+
+	private void transition(State to) {
+		if (state != to) {
+			if (to == State.OPEN) {
+				log.warn("PokeAPI circuit breaker {} -> OPEN ({} ms)", state, openDurationNanos / 1_000_000);
+			} else {
+				log.info("PokeAPI circuit breaker {} -> {}", state, to);
+			}
+			state = to;
+		}
+	}
+
+}
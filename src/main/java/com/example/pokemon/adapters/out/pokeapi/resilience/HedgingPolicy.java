@@ -0,0 +1,130 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.resilience;
+
+import java.time.Duration;
+
+import com.example.pokemon.common.exceptions.RemoteUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * HedgingPolicy
+ *
+ * Peticiones "hedged" para recortar la latencia de cola: si una llamada no ha
+ * terminado tras un retardo basado en percentil, se envía un único duplicado y
+ * se usa la primera respuesta; la otra se cancela.
+ *
+ * - Retardo: percentil {@code quantile} (p.ej. p95) de las latencias recientes,
+ *   acotado por abajo con {@code minDelay}; mientras no hay muestras
+ *   suficientes se usa {@code initialDelay}.
+ * - Presupuesto: los duplicados consumen de un {@link TokenBudget}, así que
+ *   nunca superan la fracción configurada del tráfico (no amplifican una caída).
+ * - Un error o respuesta de la petición original antes del retardo la resuelve
+ *   sin duplicado; si el duplicado es rechazado localmente (límite de
+ *   concurrencia, circuit breaker) simplemente no se envía.
+ *
+ * Métricas: {@code pokeapi.hedge.calls} (llamadas elegibles),
+ * {@code pokeapi.hedge.sent}, {@code pokeapi.hedge.won} y
+ * {@code pokeapi.hedge.denied} (sin presupuesto).
+ */
+public class HedgingPolicy {
+
+	private final LatencyTracker latencies;
+	private final TokenBudget budget;
+	private final double quantile;
+	private final Duration minDelay;
+	private final Duration initialDelay;
+
+	private Counter calls;
+	private Counter sent;
+	private Counter won;
+	private Counter denied;
+
+	/**
+	 * @param latencies    ventana de latencias observadas
+	 * @param budget       presupuesto de duplicados
+	 * @param quantile     percentil que dispara el duplicado (p.ej. 0.95)
+	 * @param minDelay     retardo mínimo antes de duplicar
+	 * @param initialDelay retardo mientras no hay muestras suficientes
+	 */
+	public HedgingPolicy(LatencyTracker latencies, TokenBudget budget, double quantile, Duration minDelay,
+			Duration initialDelay) {
+		this.latencies = latencies;
+		this.budget = budget;
+		this.quantile = quantile;
+		this.minDelay = minDelay;
+		this.initialDelay = initialDelay;
+	}
+
+	/**
+	 * Publica los contadores de hedging en Micrometer.
+	 *
+	 * @param registry registro de métricas
+	 */
+	public void bindTo(MeterRegistry registry) {
+		calls = Counter.builder("pokeapi.hedge.calls").description("PokeAPI calls eligible for hedging")
+				.register(registry);
+		sent = Counter.builder("pokeapi.hedge.sent").description("Hedged duplicate PokeAPI calls sent")
+				.register(registry);
+		won = Counter.builder("pokeapi.hedge.won").description("Hedged calls that answered first")
+				.register(registry);
+		denied = Counter.builder("pokeapi.hedge.denied").description("Hedges skipped for lack of budget")
+				.register(registry);
+	}
+
+	/**
+	 * @return retardo actual antes de enviar un duplicado
+	 */
+	public Duration currentDelay() {
+		long nanos = latencies.percentileNanos(quantile);
+		if (nanos < 0) {
+			return initialDelay;
+		}
+		Duration delay = Duration.ofNanos(nanos);
+		return delay.compareTo(minDelay) < 0 ? minDelay : delay;
+	}
+
+	/**
+	 * Aplica hedging a una llamada fría (cada suscripción envía una petición).
+	 *
+	 * @param attempt llamada a duplicar
+	 * @return llamada que emite la primera respuesta
+	 */
+	public <T> Mono<T> apply(Mono<T> attempt) {
+		return Mono.defer(() -> {
+			budget.deposit();
+			increment(calls);
+			Mono<T> primary = timed(attempt);
+			Mono<T> hedge = Mono.delay(currentDelay())
+					.then(Mono.defer(() -> {
+						if (!budget.tryWithdraw()) {
+							increment(denied);
+							return Mono.<T>never();
+						}
+						increment(sent);
+						return timed(attempt)
+								.onErrorResume(RemoteUnavailableException.class, e -> Mono.never())
+								.doOnNext(value -> increment(won));
+					}));
+			return Mono.firstWithSignal(primary, hedge);
+		});
+	}
+
+	private <T> Mono<T> timed(Mono<T> attempt) {
+		return Mono.defer(() -> {
+			long start = System.nanoTime();
+			return attempt.doOnSuccess(value -> latencies.record(System.nanoTime() - start));
+		});
+	}
+
+	private static void increment(Counter counter) {
+		if (counter != null) {
+			counter.increment();
+		}
+	}
+
+}
@@ -0,0 +1,85 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LatencyTracker
+ *
+ * Percentil de latencia sobre las últimas {@code windowSize} muestras.
+ *
+ * El percentil se recalcula (copia + ordenación de la ventana) como mucho cada
+ * {@code windowSize / 16} muestras nuevas y se cachea entre medias, de modo que
+ * consultarlo en cada petición es O(1).
+ */
+public class LatencyTracker {
+
+	private final long[] samples;
+	private final int minSamples;
+	private final int recomputeEvery;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private int index;
+	private int count;
+	private int sinceRecompute;
+	private double cachedQuantile = Double.NaN;
+	private long cachedNanos = -1;
+
+	/**
+	 * @param windowSize muestras retenidas
+	 * @param minSamples muestras necesarias antes de dar un percentil
+	 */
+	public LatencyTracker(int windowSize, int minSamples) {
+		if (windowSize < 1 || minSamples < 1 || minSamples > windowSize) {
+			throw new IllegalArgumentException("Invalid latency tracker configuration");
+		}
+		this.samples = new long[windowSize];
+		this.minSamples = minSamples;
+		this.recomputeEvery = Math.max(1, windowSize / 16);
+	}
+
+	/**
+	 * @param nanos latencia observada
+	 */
+	public void record(long nanos) {
+		lock.lock();
+		try {
+			samples[index] = nanos;
+			index = (index + 1) % samples.length;
+			count = Math.min(samples.length, count + 1);
+			sinceRecompute++;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @param quantile percentil en (0, 1], p.ej. 0.95
+	 * @return latencia del percentil en nanos, o -1 si aún no hay suficientes
+	 *         muestras
+	 */
+	public long percentileNanos(double quantile) {
+		lock.lock();
+		try {
+			if (count < minSamples) {
+				return -1;
+			}
+			if (cachedNanos < 0 || quantile != cachedQuantile || sinceRecompute >= recomputeEvery) {
+				long[] sorted = Arrays.copyOf(samples, count);
+				Arrays.sort(sorted);
+				int rank = (int) Math.ceil(quantile * count) - 1;
+				cachedNanos = sorted[Math.max(0, Math.min(count - 1, rank))];
+				cachedQuantile = quantile;
+				sinceRecompute = 0;
+			}
+			return cachedNanos;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+}
@@ -0,0 +1,281 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.common.exceptions.RemoteUnavailableException;
+import com.example.pokemon.config.PokeApiProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import reactor.core.publisher.Mono;
+
+/**
+ * PokeApiResilience
+ *
+ * Protecciones aplicadas a cada llamada HTTP saliente hacia PokeAPI:
+ * - {@link AimdLimiter}: límite adaptativo de concurrencia según la latencia.
+ * - {@link CircuitBreaker}: corta el tráfico cuando la tasa de fallos se dispara.
+ * - {@link HedgingPolicy} (opcional): duplica las llamadas que superan el
+ *   percentil de latencia configurado; cada intento pasa por los dos anteriores.
+ * - {@link RetryPolicy} (opcional): reintenta fallos transitorios (5xx, red) con
+ *   backoff exponencial con jitter y un presupuesto de reintentos. Cada
+ *   reintento vuelve a pasar por breaker, limitador y hedging.
+ *
+ * Si el breaker o el limitador rechazan la llamada, esta falla al momento con
+ * {@link RemoteUnavailableException} (subclase de {@code RemoteClientException})
+ * indicando cuándo reintentar, en lugar de dejar hilos bloqueados esperando a
+ * un PokeAPI lento.
+ *
+ * Clasificación de resultados: un 404 ({@link PokemonNotFoundException}) es una
+ * respuesta sana del remoto; cualquier otro error (5xx, red, timeout) cuenta
+ * como fallo. Las cancelaciones (p.ej. zip que descarta la otra rama) liberan
+ * el permiso sin muestra.
+ *
+ * Métricas (Micrometer):
+ * - {@code pokeapi.limiter.limit} / {@code pokeapi.limiter.inflight}
+ * - {@code pokeapi.circuit.state} (0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN)
+ * - {@code pokeapi.calls.rejected{reason=limiter|circuit}}
+ * - {@code pokeapi.hedge.*} y {@code pokeapi.retry.*} (ver cada política)
+ */
+@Component
+public class PokeApiResilience {
+
+	/** Limitador de concurrencia; null si está desactivado. */
+	private final AimdLimiter limiter;
+
+	/** Espera sugerida cuando el limitador rechaza una llamada. */
+	private final Duration limiterRetryAfter;
+
+	/** Circuit breaker; null si está desactivado. */
+	private final CircuitBreaker breaker;
+
+	/** Hedging de llamadas lentas; null si está desactivado. */
+	private final HedgingPolicy hedging;
+
+	/** Reintentos de fallos transitorios; null si están desactivados. */
+	private final RetryPolicy retry;
+
+	private Counter limiterRejections;
+	private Counter circuitRejections;
+
+	@Autowired
+	public PokeApiResilience(PokeApiProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+		this(limiter(properties.getLimiter()), properties.getLimiter().getRetryAfter(),
+				breaker(properties.getCircuitBreaker()), hedging(properties.getHedging()),
+				retry(properties.getRetry()));
+		meterRegistry.ifAvailable(this::bindTo);
+	}
+
+	/**
+	 * Construcción explícita de las protecciones (tests y {@link #disabled()});
+	 * las que no se indiquen quedan desactivadas.
+	 *
+	 * @param limiter           limitador de concurrencia, o null
+	 * @param limiterRetryAfter espera sugerida al rechazar por límite (null = 0)
+	 * @param breaker           circuit breaker, o null
+	 * @param hedging           política de hedging, o null
+	 * @param retry             política de reintentos, o null
+	 */
+	@Builder
+	private PokeApiResilience(AimdLimiter limiter, Duration limiterRetryAfter, CircuitBreaker breaker,
+			HedgingPolicy hedging, RetryPolicy retry) {
+		this.limiter = limiter;
+		this.limiterRetryAfter = limiterRetryAfter != null ? limiterRetryAfter : Duration.ZERO;
+		this.breaker = breaker;
+		this.hedging = hedging;
+		this.retry = retry;
+	}
+
+	/**
+	 * @return instancia sin protecciones (las llamadas pasan tal cual)
+	 */
+	public static PokeApiResilience disabled() {
+		return builder().build();
+	}
+
+	/**
+	 * Publica el estado del limitador, del breaker, del hedging y de los
+	 * reintentos en Micrometer.
+	 *
+	 * @param registry registro de métricas
+	 */
+	public void bindTo(MeterRegistry registry) {
+		if (limiter != null) {
+			Gauge.builder("pokeapi.limiter.limit", limiter, AimdLimiter::getLimit)
+					.description("Current adaptive concurrency limit for PokeAPI calls").register(registry);
+			Gauge.builder("pokeapi.limiter.inflight", limiter, AimdLimiter::getInFlight)
+					.description("PokeAPI calls currently in flight").register(registry);
+		}
+		if (breaker != null) {
+			Gauge.builder("pokeapi.circuit.state", breaker, b -> b.getState().ordinal())
+					.description("PokeAPI circuit breaker state (0=closed, 1=half-open, 2=open)").register(registry);
+		}
+		limiterRejections = Counter.builder("pokeapi.calls.rejected").tag("reason", "limiter").register(registry);
+		circuitRejections = Counter.builder("pokeapi.calls.rejected").tag("reason", "circuit").register(registry);
+		if (hedging != null) {
+			hedging.bindTo(registry);
+		}
+		if (retry != null) {
+			retry.bindTo(registry);
+		}
+	}
+
+	/**
+	 * Envuelve una llamada saliente (aún sin suscribir). Los permisos se piden al
+	 * suscribirse y se liberan al terminar, fallar o cancelarse.
+	 *
+	 * @param call llamada HTTP diferida
+	 * @return llamada protegida
+	 */
+	public <T> Mono<T> protect(Mono<T> call) {
+		Mono<T> guarded = guard(call);
+		Mono<T> hedged = hedging != null ? hedging.apply(guarded) : guarded;
+		return retry != null ? retry.apply(hedged) : hedged;
+	}
+
+	/**
+	 * Limitador + breaker para un único intento.
+	 */
+	private <T> Mono<T> guard(Mono<T> call) {
+		if (limiter == null && breaker == null) {
+			return call;
+		}
+		return Mono.defer(() -> {
+			if (breaker != null && !breaker.tryAcquire()) {
+				increment(circuitRejections);
+				return Mono.error(new RemoteUnavailableException("PokeAPI circuit breaker is open",
+						breaker.retryAfter()));
+			}
+			if (limiter != null && !limiter.tryAcquire()) {
+				if (breaker != null) {
+					breaker.onIgnore();
+				}
+				increment(limiterRejections);
+				return Mono.error(new RemoteUnavailableException(
+						"PokeAPI concurrency limit reached (limit=" + limiter.getLimit() + ")", limiterRetryAfter));
+			}
+			Permit permit = new Permit(System.nanoTime());
+			return call
+					.doOnSuccess(value -> permit.success())
+					.doOnError(permit::failure)
+					.doOnCancel(permit::ignore);
+		});
+	}
+
+	/**
+	 * @return limitador (null si está desactivado)
+	 */
+	public AimdLimiter getLimiter() {
+		return limiter;
+	}
+
+	/**
+	 * @return circuit breaker (null si está desactivado)
+	 */
+	public CircuitBreaker getBreaker() {
+		return breaker;
+	}
+
+	private static void increment(Counter counter) {
+		if (counter != null) {
+			counter.increment();
+		}
+	}
+
+	private static AimdLimiter limiter(PokeApiProperties.Limiter properties) {
+		if (!properties.isEnabled()) {
+			return null;
+		}
+		return new AimdLimiter(properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit(),
+				properties.getLatencyThreshold(), properties.getBackoffRatio());
+	}
+
+	private static HedgingPolicy hedging(PokeApiProperties.Hedging properties) {
+		if (!properties.isEnabled()) {
+			return null;
+		}
+		return new HedgingPolicy(new LatencyTracker(properties.getWindowSize(), properties.getMinSamples()),
+				new TokenBudget(properties.getBudgetRatio(), properties.getBudgetBurst()),
+				properties.getPercentile() / 100.0, properties.getMinDelay(), properties.getInitialDelay());
+	}
+
+	private static RetryPolicy retry(PokeApiProperties.Retry properties) {
+		if (!properties.isEnabled()) {
+			return null;
+		}
+		return new RetryPolicy(properties.getMaxAttempts(), properties.getBaseDelay(), properties.getMaxDelay(),
+				new TokenBudget(properties.getBudgetRatio(), properties.getBudgetBurst()));
+	}
+
+	private static CircuitBreaker breaker(PokeApiProperties.CircuitBreaker properties) {
+		if (!properties.isEnabled()) {
+			return null;
+		}
+		return new CircuitBreaker(properties.getWindowSize(), properties.getMinimumCalls(),
+				properties.getFailureRateThreshold() / 100.0, properties.getOpenDuration(),
+				properties.getHalfOpenCalls(), System::nanoTime);
+	}
+
+	/**
+	 * Permiso de una llamada en curso; se libera exactamente una vez.
+	 */
+	private final class Permit {
+
+		private final long startNanos;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		Permit(long startNanos) {
+			this.startNanos = startNanos;
+		}
+
+		void success() {
+			if (released.compareAndSet(false, true)) {
+				if (limiter != null) {
+					limiter.onSuccess(System.nanoTime() - startNanos);
+				}
+				if (breaker != null) {
+					breaker.onSuccess();
+				}
+			}
+		}
+
+		void failure(Throwable error) {
+			if (error instanceof PokemonNotFoundException) {
+				success();
+				return;
+			}
+			if (released.compareAndSet(false, true)) {
+				if (limiter != null) {
+					limiter.onDropped();
+				}
+				if (breaker != null) {
+					breaker.onFailure();
+				}
+			}
+		}
+
+		void ignore() {
+			if (released.compareAndSet(false, true)) {
+				if (limiter != null) {
+					limiter.onIgnore();
+				}
+				if (breaker != null) {
+					breaker.onIgnore();
+				}
+			}
+		}
+
+	}
+
+}
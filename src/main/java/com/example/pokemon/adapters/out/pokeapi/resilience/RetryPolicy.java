@@ -0,0 +1,130 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import com.example.pokemon.common.exceptions.RemoteServerException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * RetryPolicy
+ *
+ * Reintentos de GET idempotentes ante fallos transitorios de PokeAPI.
+ *
+ * - Reintentables: respuestas 5xx ({@link RemoteServerException}) y errores de
+ *   red/timeouts ({@link WebClientRequestException}). Un 404, otro 4xx o un
+ *   rechazo local (límite de concurrencia, circuit breaker) no se reintentan.
+ * - Backoff exponencial con "full jitter": antes del reintento n se espera un
+ *   tiempo aleatorio en [0, min(maxDelay, baseDelay · 2^(n-1))], lo que reparte
+ *   los reintentos de muchos clientes en lugar de sincronizarlos.
+ * - Presupuesto: cada reintento consume de un {@link TokenBudget} alimentado
+ *   por las llamadas normales, así que durante una caída los reintentos no
+ *   pueden multiplicar la carga más allá de la fracción configurada.
+ *
+ * Métricas: {@code pokeapi.retry.attempts{attempt=n}} (reintentos enviados por
+ * número de intento), {@code pokeapi.retry.denied} (sin presupuesto) y
+ * {@code pokeapi.retry.exhausted} (fallo tras agotar los intentos).
+ */
+public class RetryPolicy {
+
+	private final int maxAttempts;
+	private final Duration baseDelay;
+	private final Duration maxDelay;
+	private final TokenBudget budget;
+
+	private MeterRegistry registry;
+	private Counter denied;
+	private Counter exhausted;
+
+	/**
+	 * @param maxAttempts intentos totales (1 = sin reintentos)
+	 * @param baseDelay   tope del primer backoff
+	 * @param maxDelay    tope de cualquier backoff
+	 * @param budget      presupuesto de reintentos
+	 */
+	public RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, TokenBudget budget) {
+		if (maxAttempts < 1) {
+			throw new IllegalArgumentException("maxAttempts must be >= 1");
+		}
+		this.maxAttempts = maxAttempts;
+		this.baseDelay = baseDelay;
+		this.maxDelay = maxDelay;
+		this.budget = budget;
+	}
+
+	/**
+	 * Publica los contadores de reintentos en Micrometer.
+	 *
+	 * @param registry registro de métricas
+	 */
+	public void bindTo(MeterRegistry registry) {
+		this.registry = registry;
+		denied = Counter.builder("pokeapi.retry.denied").description("Retries skipped for lack of budget")
+				.register(registry);
+		exhausted = Counter.builder("pokeapi.retry.exhausted")
+				.description("PokeAPI calls that failed after all attempts").register(registry);
+	}
+
+	/**
+	 * @return true si el error es transitorio y la llamada puede repetirse
+	 */
+	public static boolean isRetryable(Throwable error) {
+		return error instanceof RemoteServerException || error instanceof WebClientRequestException;
+	}
+
+	/**
+	 * Aplica reintentos a una llamada fría (cada suscripción repite la petición).
+	 *
+	 * @param call llamada a reintentar
+	 * @return llamada con reintentos
+	 */
+	public <T> Mono<T> apply(Mono<T> call) {
+		return Mono.defer(() -> {
+			budget.deposit();
+			return call.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+				Throwable failure = signal.failure();
+				int attempt = (int) signal.totalRetries() + 2; // intento que se enviaría
+				if (!isRetryable(failure)) {
+					return Mono.error(failure);
+				}
+				if (attempt > maxAttempts) {
+					increment(exhausted);
+					return Mono.error(failure);
+				}
+				if (!budget.tryWithdraw()) {
+					increment(denied);
+					return Mono.error(failure);
+				}
+				if (registry != null) {
+					registry.counter("pokeapi.retry.attempts", "attempt", Integer.toString(attempt)).increment();
+				}
+				return Mono.delay(backoff(attempt - 1));
+			})));
+		});
+	}
+
+	/**
+	 * @param retry número de reintento (1 = primer reintento)
+	 * @return espera aleatoria en [0, min(maxDelay, baseDelay · 2^(retry-1))]
+	 */
+	Duration backoff(int retry) {
+		long cap = Math.min(maxDelay.toNanos(), baseDelay.toNanos() << Math.min(retry - 1, 30));
+		return Duration.ofNanos(cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1));
+	}
+
+	private static void increment(Counter counter) {
+		if (counter != null) {
+			counter.increment();
+		}
+	}
+
+}
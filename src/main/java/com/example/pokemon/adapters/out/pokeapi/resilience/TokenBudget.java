@@ -0,0 +1,82 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.resilience;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TokenBudget
+ *
+ * Presupuesto de peticiones extra (hedges, reintentos) proporcional al tráfico
+ * normal, con forma de token bucket:
+ * - Cada petición normal deposita {@code ratio} tokens (hasta {@code maxTokens}).
+ * - Cada petición extra consume 1 token; sin tokens, no se envía.
+ *
+ * Así las peticiones extra nunca superan ~{@code ratio} del tráfico sostenido
+ * (más una ráfaga inicial de {@code maxTokens}) y no pueden amplificar una
+ * caída del servicio remoto.
+ */
+public class TokenBudget {
+
+	private final double ratio;
+	private final double maxTokens;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private double tokens;
+
+	/**
+	 * @param ratio     tokens depositados por petición normal (p.ej. 0.1 = 10 %)
+	 * @param maxTokens capacidad del bucket (ráfaga máxima); empieza lleno
+	 */
+	public TokenBudget(double ratio, double maxTokens) {
+		if (ratio < 0 || maxTokens < 0) {
+			throw new IllegalArgumentException("Invalid token budget configuration");
+		}
+		this.ratio = ratio;
+		this.maxTokens = maxTokens;
+		this.tokens = maxTokens;
+	}
+
+	/**
+	 * Registra una petición normal.
+	 */
+	public void deposit() {
+		lock.lock();
+		try {
+			tokens = Math.min(maxTokens, tokens + ratio);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return true si hay presupuesto para una petición extra (y la descuenta)
+	 */
+	public boolean tryWithdraw() {
+		lock.lock();
+		try {
+			if (tokens < 1) {
+				return false;
+			}
+			tokens -= 1;
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return tokens disponibles
+	 */
+	public double available() {
+		lock.lock();
+		try {
+			return tokens;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+}
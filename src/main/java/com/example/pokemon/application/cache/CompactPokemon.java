@@ -0,0 +1,61 @@
+/**
+ *
+ */
+package com.example.pokemon.application.cache;
+
+import com.example.pokemon.domain.model.Pokemon;
+
+/**
+ * CompactPokemon
+ *
+ * Forma compacta de un {@link Pokemon} dentro de {@link PokemonCache}: las
+ * listas de abilities, held items y location-area encounters se guardan como
+ * arrays de códigos de un {@link StringDictionary} compartido, en lugar de
+ * repetir las mismas cadenas (a menudo largas, como
+ * "kanto-route-2-south-towards-viridian-city") en cada entrada.
+ *
+ * Se materializa de nuevo en el {@link Pokemon} de dominio en cada lectura.
+ *
+ * @param id             id del Pokémon, o {@link #NULL_INT} si no venía
+ * @param name           nombre del Pokémon
+ * @param baseExperience experiencia base, o {@link #NULL_INT} si no venía
+ * @param abilities      códigos de las abilities
+ * @param heldItems      códigos de los held items
+ * @param encounters     códigos de las location areas
+ */
+record CompactPokemon(int id, String name, int baseExperience, int[] abilities, int[] heldItems, int[] encounters) {
+
+	/** Representa un {@code Integer} nulo del dominio sin boxing. */
+	static final int NULL_INT = Integer.MIN_VALUE;
+
+	/**
+	 * @param pokemon    agregado de dominio
+	 * @param dictionary diccionario compartido
+	 * @return forma compacta del agregado
+	 */
+	static CompactPokemon encode(Pokemon pokemon, StringDictionary dictionary) {
+		return new CompactPokemon(orNull(pokemon.getId()), pokemon.getName(), orNull(pokemon.getBaseExperience()),
+				dictionary.encode(pokemon.getAbilities()), dictionary.encode(pokemon.getHeldItems()),
+				dictionary.encode(pokemon.getLocationAreaEncounters()));
+	}
+
+	/**
+	 * @param dictionary diccionario con el que se codificó
+	 * @return agregado de dominio equivalente al original
+	 */
+	Pokemon materialize(StringDictionary dictionary) {
+		return Pokemon.builder()
+				.id(id == NULL_INT ? null : id)
+				.name(name)
+				.baseExperience(baseExperience == NULL_INT ? null : baseExperience)
+				.abilities(dictionary.decode(abilities))
+				.heldItems(dictionary.decode(heldItems))
+				.locationAreaEncounters(dictionary.decode(encounters))
+				.build();
+	}
+
+	private static int orNull(Integer value) {
+		return value == null ? NULL_INT : value;
+	}
+
+}
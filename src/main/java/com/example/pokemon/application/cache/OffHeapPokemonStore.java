@@ -0,0 +1,307 @@
+/**
+ *
+ */
+package com.example.pokemon.application.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import com.example.pokemon.domain.model.FetchPlan;
+
+/**
+ * OffHeapPokemonStore
+ *
+ * Segundo nivel de {@link PokemonCache}: guarda las entradas expulsadas del
+ * nivel en heap serializadas en memoria directa ({@link ByteBuffer#allocateDirect}),
+ * fuera del heap y por tanto fuera del trabajo del GC.
+ *
+ * Diseño (log circular por segmentos):
+ * - El presupuesto total de bytes se reparte en {@code segments} buffers
+ *   directos de igual tamaño, reservados al arrancar; no crece nunca.
+ * - Las escrituras se añaden al final del segmento actual. Si no caben, se pasa
+ *   al siguiente segmento (circularmente) y sus entradas se expulsan en bloque:
+ *   expulsión FIFO por segmentos, sin fragmentación ni compactación.
+ * - Sobrescribir una clave deja bytes muertos que se recuperan al reutilizar
+ *   su segmento.
+ * - El índice (clave → segmento, offset, longitud) vive en heap; los datos
+ *   ({@link CompactPokemon}: códigos de diccionario + nombre) fuera de él.
+ *
+ * Todas las operaciones toman un {@link ReentrantLock}: son copias de unos
+ * cientos de bytes, mucho más baratas que la recarga que evitan.
+ */
+final class OffHeapPokemonStore {
+
+	/** plan + loadedAtNanos + id + baseExperience + longitud del nombre. */
+	private static final int HEADER_BYTES = 1 + Long.BYTES + 2 * Integer.BYTES + Short.BYTES;
+
+	/** Longitud de nombre reservada para un nombre nulo. */
+	private static final int NULL_NAME = 0xFFFF;
+
+	private final ByteBuffer[] segments;
+	private final List<List<String>> keysBySegment;
+	private final Map<String, Location> index = new HashMap<>();
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private int current;
+	private int position;
+	private long usedBytes;
+	private long evictions;
+	private long hits;
+	private long misses;
+
+	/**
+	 * @param capacityBytes presupuesto total de memoria directa
+	 * @param segmentCount  número de segmentos (granularidad de la expulsión)
+	 */
+	OffHeapPokemonStore(long capacityBytes, int segmentCount) {
+		long segmentBytes = capacityBytes / segmentCount;
+		if (segmentBytes <= 0 || segmentBytes > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Invalid off-heap segment size: " + segmentBytes + " bytes");
+		}
+		this.segments = new ByteBuffer[segmentCount];
+		this.keysBySegment = new ArrayList<>(segmentCount);
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = ByteBuffer.allocateDirect((int) segmentBytes);
+			keysBySegment.add(new ArrayList<>());
+		}
+	}
+
+	/**
+	 * Guarda (o reemplaza) la entrada de una clave.
+	 *
+	 * @return false si la entrada no cabe en un segmento y no se ha guardado
+	 */
+	boolean put(String key, Entry entry) {
+		byte[] name = entry.pokemon().name() == null ? null
+				: entry.pokemon().name().getBytes(StandardCharsets.UTF_8);
+		int length = sizeOf(entry.pokemon(), name);
+		lock.lock();
+		try {
+			int segmentBytes = segments[current].capacity();
+			if (length > segmentBytes || (name != null && name.length >= NULL_NAME)) {
+				return false;
+			}
+			if (position + length > segmentBytes) {
+				advance();
+			}
+			write(segments[current], position, entry, name);
+			Location previous = index.put(key, new Location(current, position, length));
+			if (previous != null) {
+				usedBytes -= previous.length();
+			}
+			keysBySegment.get(current).add(key);
+			position += length;
+			usedBytes += length;
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Extrae la entrada de una clave: si existe, se elimina del store (el
+	 * llamador la promociona al nivel en heap).
+	 *
+	 * @return entrada deserializada, o null si no está
+	 */
+	Entry take(String key) {
+		lock.lock();
+		try {
+			Location location = index.remove(key);
+			if (location == null) {
+				misses++;
+				return null;
+			}
+			hits++;
+			usedBytes -= location.length();
+			return read(segments[location.segment()], location.offset());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Recorre las entradas vivas sin extraerlas (p.ej. para el snapshot).
+	 */
+	void forEach(BiConsumer<String, Entry> action) {
+		lock.lock();
+		try {
+			index.forEach((key, location) -> action.accept(key,
+					read(segments[location.segment()], location.offset())));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Pasa al siguiente segmento y expulsa las entradas que aún apuntaban a él.
+	 */
+	private void advance() {
+		current = (current + 1) % segments.length;
+		position = 0;
+		List<String> keys = keysBySegment.get(current);
+		for (String key : keys) {
+			Location location = index.get(key);
+			if (location != null && location.segment() == current) {
+				index.remove(key);
+				usedBytes -= location.length();
+				evictions++;
+			}
+		}
+		keys.clear();
+	}
+
+	/**
+	 * @return número de entradas vivas
+	 */
+	int size() {
+		lock.lock();
+		try {
+			return index.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return bytes ocupados por entradas vivas
+	 */
+	long usedBytes() {
+		lock.lock();
+		try {
+			return usedBytes;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return presupuesto total de memoria directa
+	 */
+	long capacityBytes() {
+		return (long) segments[0].capacity() * segments.length;
+	}
+
+	long evictions() {
+		lock.lock();
+		try {
+			return evictions;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	long hits() {
+		lock.lock();
+		try {
+			return hits;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	long misses() {
+		lock.lock();
+		try {
+			return misses;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Bytes que ocupa una entrada serializada.
+	 */
+	static int sizeOf(Entry entry) {
+		String name = entry.pokemon().name();
+		return sizeOf(entry.pokemon(), name == null ? null : name.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static int sizeOf(CompactPokemon pokemon, byte[] name) {
+		int codes = pokemon.abilities().length + pokemon.heldItems().length + pokemon.encounters().length;
+		return HEADER_BYTES + (name == null ? 0 : name.length) + 3 * Short.BYTES + codes * Integer.BYTES;
+	}
+
+	/**
+	 * Formato (escritura absoluta, sin buffers intermedios): plan (byte),
+	 * loadedAtNanos (long), id, baseExperience (int), nombre (u16 + UTF-8;
+	 * 0xFFFF = null) y las tres listas de códigos (u16 + ints).
+	 */
+	private static void write(ByteBuffer buffer, int offset, Entry entry, byte[] name) {
+		CompactPokemon pokemon = entry.pokemon();
+		buffer.put(offset, (byte) entry.plan().ordinal());
+		buffer.putLong(offset + 1, entry.loadedAtNanos());
+		buffer.putInt(offset + 9, pokemon.id());
+		buffer.putInt(offset + 13, pokemon.baseExperience());
+		int at = offset + HEADER_BYTES - Short.BYTES;
+		buffer.putShort(at, (short) (name == null ? NULL_NAME : name.length));
+		at += Short.BYTES;
+		if (name != null) {
+			buffer.put(at, name);
+			at += name.length;
+		}
+		at = writeCodes(buffer, at, pokemon.abilities());
+		at = writeCodes(buffer, at, pokemon.heldItems());
+		writeCodes(buffer, at, pokemon.encounters());
+	}
+
+	private static Entry read(ByteBuffer buffer, int offset) {
+		FetchPlan plan = FetchPlan.values()[buffer.get(offset)];
+		long loadedAtNanos = buffer.getLong(offset + 1);
+		int id = buffer.getInt(offset + 9);
+		int baseExperience = buffer.getInt(offset + 13);
+		int at = offset + HEADER_BYTES - Short.BYTES;
+		int nameLength = Short.toUnsignedInt(buffer.getShort(at));
+		at += Short.BYTES;
+		String name = null;
+		if (nameLength != NULL_NAME) {
+			byte[] bytes = new byte[nameLength];
+			buffer.get(at, bytes);
+			name = new String(bytes, StandardCharsets.UTF_8);
+			at += nameLength;
+		}
+		int[] abilities = readCodes(buffer, at);
+		at += Short.BYTES + abilities.length * Integer.BYTES;
+		int[] heldItems = readCodes(buffer, at);
+		at += Short.BYTES + heldItems.length * Integer.BYTES;
+		int[] encounters = readCodes(buffer, at);
+		return new Entry(new CompactPokemon(id, name, baseExperience, abilities, heldItems, encounters), plan,
+				loadedAtNanos);
+	}
+
+	private static int writeCodes(ByteBuffer buffer, int at, int[] codes) {
+		buffer.putShort(at, (short) codes.length);
+		at += Short.BYTES;
+		for (int code : codes) {
+			buffer.putInt(at, code);
+			at += Integer.BYTES;
+		}
+		return at;
+	}
+
+	private static int[] readCodes(ByteBuffer buffer, int at) {
+		int[] codes = new int[Short.toUnsignedInt(buffer.getShort(at))];
+		at += Short.BYTES;
+		for (int i = 0; i < codes.length; i++) {
+			codes[i] = buffer.getInt(at);
+			at += Integer.BYTES;
+		}
+		return codes;
+	}
+
+	/**
+	 * Entrada guardada: mismo contenido que una entrada positiva del nivel en heap.
+	 */
+	record Entry(CompactPokemon pokemon, FetchPlan plan, long loadedAtNanos) {
+	}
+
+	private record Location(int segment, int offset, int length) {
+	}
+
+}
@@ -0,0 +1,237 @@
+/**
+ *
+ */
+package com.example.pokemon.application.cache;
+
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+import com.example.pokemon.domain.model.Pokemon;
+
+/**
+ * PokemonAliasIndex
+ *
+ * Resuelve las distintas formas de pedir un Pokémon ("Pikachu", " pikachu ",
+ * "25", "025") a una única clave canónica antes de cualquier I/O, para que
+ * todas compartan la misma entrada de {@link PokemonCache} y la misma llamada
+ * remota.
+ *
+ * - {@link #canonical(String)}: trim + minúsculas; los identificadores
+ *   numéricos pierden los ceros a la izquierda.
+ * - Índice bidireccional nombre ↔ id, alimentado con cada agregado servido
+ *   (cargado o leído de la caché) y con las entradas restauradas de un
+ *   snapshot ({@link #record(Pokemon)}). Un id conocido se traduce a su
+ *   nombre; uno desconocido se deja numérico (PokeAPI acepta ambos en
+ *   /pokemon/{id o nombre}).
+ *
+ * Ambos lados son tablas hash de direccionamiento abierto sobre arrays; el id
+ * se guarda siempre como {@code int} primitivo (sin boxing). Las lecturas no
+ * toman bloqueos: leen una instantánea inmutable de las tablas. Las escrituras
+ * (una por Pokémon nuevo, unas ~1300 en total) copian las tablas bajo un
+ * {@link ReentrantLock}.
+ */
+@Component
+public class PokemonAliasIndex {
+
+	/** Marca de hueco libre: los ids de PokeAPI son siempre positivos. */
+	private static final int EMPTY = 0;
+
+	private static final int INITIAL_CAPACITY = 2048;
+
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	private volatile Table table = Table.empty(INITIAL_CAPACITY);
+
+	/**
+	 * Normaliza un nombre o id tal como llega del cliente.
+	 *
+	 * @param raw nombre o id (no nulo)
+	 * @return forma canónica (minúsculas sin espacios; id sin ceros iniciales)
+	 */
+	public static String canonical(String raw) {
+		String trimmed = raw.trim().toLowerCase(Locale.ROOT);
+		int id = parseId(trimmed);
+		return id > 0 ? Integer.toString(id) : trimmed;
+	}
+
+	/**
+	 * Resuelve la petición a su clave canónica: el nombre si es un id conocido,
+	 * o {@link #canonical(String)} en otro caso.
+	 *
+	 * @param raw nombre o id tal como llega del cliente
+	 * @return clave canónica
+	 */
+	public String resolve(String raw) {
+		String canonical = canonical(raw);
+		int id = parseId(canonical);
+		if (id > 0) {
+			String name = nameOf(id);
+			if (name != null) {
+				return name;
+			}
+		}
+		return canonical;
+	}
+
+	/**
+	 * @param key clave (canónica o no)
+	 * @return true si la clave es un id numérico
+	 */
+	public static boolean isId(String key) {
+		return parseId(key.trim()) > 0;
+	}
+
+	/**
+	 * @param id identificador de PokeAPI
+	 * @return nombre canónico, o null si el id no se ha visto aún
+	 */
+	public String nameOf(int id) {
+		Table current = table;
+		int mask = current.ids.length - 1;
+		for (int slot = mix(id) & mask;; slot = (slot + 1) & mask) {
+			int candidate = current.ids[slot];
+			if (candidate == id) {
+				return current.names[slot];
+			}
+			if (candidate == EMPTY) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * @param name nombre (canónico o no)
+	 * @return id del Pokémon, o -1 si el nombre no se ha visto aún
+	 */
+	public int idOf(String name) {
+		String key = canonical(name);
+		Table current = table;
+		int mask = current.keys.length - 1;
+		for (int slot = mix(key.hashCode()) & mask;; slot = (slot + 1) & mask) {
+			String candidate = current.keys[slot];
+			if (candidate == null) {
+				return -1;
+			}
+			if (candidate.equals(key)) {
+				return current.values[slot];
+			}
+		}
+	}
+
+	/**
+	 * Registra el par nombre ↔ id de una respuesta correcta.
+	 *
+	 * @param pokemon agregado devuelto por el puerto de carga
+	 */
+	public void record(Pokemon pokemon) {
+		if (pokemon != null && pokemon.getId() != null) {
+			record(pokemon.getId(), pokemon.getName());
+		}
+	}
+
+	/**
+	 * Registra un par nombre ↔ id sin materializar el agregado (p.ej. al
+	 * restaurar la caché desde un snapshot). Ids no positivos o nombres nulos
+	 * se ignoran.
+	 *
+	 * @param id      id del Pokémon
+	 * @param rawName nombre del Pokémon (canónico o no)
+	 */
+	public void record(int id, String rawName) {
+		if (id <= 0 || rawName == null) {
+			return;
+		}
+		String name = canonical(rawName);
+		if (name.equals(nameOf(id)) && idOf(name) == id) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			Table current = table;
+			int capacity = current.ids.length;
+			// Factor de carga máximo 0.5: sondeos cortos en las lecturas
+			if ((current.size + 1) * 2 > capacity) {
+				capacity *= 2;
+			}
+			Table next = Table.empty(capacity);
+			int size = 0;
+			for (int i = 0; i < current.ids.length; i++) {
+				int oldId = current.ids[i];
+				String oldName = current.names[i];
+				// Un id o un nombre re-asignado sustituye al par anterior
+				if (oldId != EMPTY && oldId != id && !oldName.equals(name)) {
+					next.put(oldId, oldName);
+					size++;
+				}
+			}
+			next.put(id, name);
+			table = new Table(next.ids, next.names, next.keys, next.values, size + 1);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * @return número de ids conocidos
+	 */
+	public int size() {
+		return table.size;
+	}
+
+	/** Dispersa ids consecutivos (1..1025, 10001..) por toda la tabla. */
+	private static int mix(int hash) {
+		int h = hash * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * @return id positivo si la cadena son solo dígitos (sin desbordar), o -1
+	 */
+	private static int parseId(String value) {
+		int length = value.length();
+		if (length == 0 || length > 9) {
+			return -1;
+		}
+		int id = 0;
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			id = id * 10 + (c - '0');
+		}
+		return id;
+	}
+
+	/**
+	 * Instantánea de las dos tablas (capacidad potencia de dos): id → nombre
+	 * ({@code ids}/{@code names}) y nombre → id ({@code keys}/{@code values}).
+	 * Solo se modifica mientras se construye, antes de publicarla.
+	 */
+	private record Table(int[] ids, String[] names, String[] keys, int[] values, int size) {
+
+		static Table empty(int capacity) {
+			return new Table(new int[capacity], new String[capacity], new String[capacity], new int[capacity], 0);
+		}
+
+		void put(int id, String name) {
+			int mask = ids.length - 1;
+			int slot = mix(id) & mask;
+			while (ids[slot] != EMPTY) {
+				slot = (slot + 1) & mask;
+			}
+			ids[slot] = id;
+			names[slot] = name;
+			slot = mix(name.hashCode()) & mask;
+			while (keys[slot] != null) {
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = name;
+			values[slot] = id;
+		}
+
+	}
+
+}
@@ -0,0 +1,560 @@
+/**
+ * 
+ */
+package com.example.pokemon.application.cache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.common.exceptions.RemoteClientException;
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Freshness;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.model.PokemonLookup;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * PokemonCache
+ *
+ * Caché en memoria de agregados {@link Pokemon} ya mapeados a dominio.
+ *
+ * Características:
+ * - Acotada por número de entradas ({@code app.cache.pokemon.maximum-size}) con
+ *   expulsión W-TinyLFU (Caffeine): se retienen los Pokémon más consultados.
+ * - Caché negativa: los "no encontrados" viven {@code negative-ttl}, de modo que
+ *   nombres mal escritos repetidos no golpeen PokeAPI.
+ * - Stale-while-revalidate con dos TTL por entrada positiva:
+ *   - edad &lt; {@code ttl} (blando) → {@link Freshness#FRESH}, sin I/O.
+ *   - {@code ttl} ≤ edad &lt; {@code hard-ttl} → se devuelve al momento como
+ *     {@link Freshness#STALE} y se lanza un único refresco en segundo plano
+ *     por clave.
+ *   - edad ≥ {@code hard-ttl} → el llamador espera la recarga; si PokeAPI falla
+ *     ({@code RemoteClientException}), se sirve el dato antiguo como
+ *     {@link Freshness#DEGRADED}. La entrada se retiene {@code stale-if-error}
+ *     más allá del TTL duro para poder hacerlo.
+ * - Consciente del {@link FetchPlan}: una entrada FULL sirve peticiones BASE;
+ *   una entrada BASE ante una petición FULL cuenta como fallo y se recarga.
+ * - Representación compacta ({@link CompactPokemon}): las listas de abilities,
+ *   held items y encounters se guardan como códigos {@code int} de un
+ *   {@link StringDictionary} compartido, de modo que cada cadena distinta ocupa
+ *   memoria una sola vez; el {@link Pokemon} se materializa en cada lectura.
+ * - Segundo nivel opcional fuera del heap ({@link OffHeapPokemonStore},
+ *   {@code app.cache.pokemon.off-heap}): las entradas positivas expulsadas por
+ *   tamaño se serializan en memoria directa con un presupuesto fijo de bytes, y
+ *   un acierto en ese nivel las promociona de vuelta al heap. Permite retener el
+ *   catálogo completo con un nivel en heap pequeño (menos old-gen y pausas de GC
+ *   más cortas).
+ * - Contadores de aciertos, fallos y expulsiones publicados en Micrometer como
+ *   {@code cache.gets}, {@code cache.evictions}, etc. con {@code cache=pokemon};
+ *   los datos caducados servidos, como
+ *   {@code pokemon.cache.stale{freshness=stale|degraded}}; el tamaño del
+ *   diccionario, como {@code pokemon.cache.dictionary.size}; el nivel fuera del
+ *   heap, como {@code pokemon.cache.offheap.*}.
+ *
+ * Con {@code app.cache.pokemon.enabled=false} todas las consultas delegan
+ * directamente en el cargador.
+ *
+ * {@link #lookupReactive} aplica la misma política con cargadores no
+ * bloqueantes ({@code Mono}), para el camino reactivo.
+ */
+@Component
+@Slf4j
+public class PokemonCache {
+
+	/** Nombre de la caché en las métricas de Micrometer. */
+	public static final String CACHE_NAME = "pokemon";
+
+	private final boolean enabled;
+
+	/** TTL blando: hasta aquí la entrada es FRESH. */
+	private final Duration ttl;
+
+	/** TTL duro: a partir de aquí el llamador espera la recarga. */
+	private final Duration hardTtl;
+
+	private final Ticker ticker;
+
+	/**
+	 * Contador de estadísticas compartido con Caffeine. Los aciertos/fallos se
+	 * registran manualmente porque dependen del plan solicitado, no solo de la
+	 * presencia de la clave; Caffeine registra las expulsiones.
+	 */
+	private final ConcurrentStatsCounter statsCounter = new ConcurrentStatsCounter();
+
+	private final Cache<String, CacheEntry> cache;
+
+	/** Nivel fuera del heap; null si está desactivado. */
+	private final OffHeapPokemonStore offHeap;
+
+	/** Vida de una entrada positiva desde su carga (TTL duro + stale-if-error). */
+	private final Duration retention;
+
+	/** Cadenas compartidas por todas las entradas. */
+	private final StringDictionary dictionary = new StringDictionary();
+
+	/** Ejecutor de los refrescos en segundo plano. */
+	private final Executor refreshExecutor;
+
+	/** Claves con un refresco en curso (uno como máximo por clave). */
+	private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong staleServed = new AtomicLong();
+	private final AtomicLong degradedServed = new AtomicLong();
+
+	@Autowired
+	public PokemonCache(PokemonCacheProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+		this(properties, Ticker.systemTicker(), refreshExecutor(properties.getRefreshThreads()));
+		if (enabled) {
+			meterRegistry.ifAvailable(this::bindTo);
+		}
+	}
+
+	PokemonCache(PokemonCacheProperties properties, Ticker ticker, Executor refreshExecutor) {
+		this.enabled = properties.isEnabled();
+		this.ttl = properties.getTtl();
+		this.hardTtl = properties.getHardTtl().compareTo(ttl) < 0 ? ttl : properties.getHardTtl();
+		this.ticker = ticker;
+		this.refreshExecutor = refreshExecutor;
+		Duration negativeTtl = properties.getNegativeTtl();
+		this.retention = hardTtl.plus(properties.getStaleIfError());
+		PokemonCacheProperties.OffHeap offHeapProperties = properties.getOffHeap();
+		this.offHeap = offHeapProperties.isEnabled()
+				? new OffHeapPokemonStore(offHeapProperties.getCapacity().toBytes(), offHeapProperties.getSegments())
+				: null;
+		// La expiración cuenta desde la carga, también para entradas promocionadas desde fuera del heap
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(properties.getMaximumSize())
+				.expireAfter(Expiry.<String, CacheEntry>writing(
+						(key, entry) -> entry.isNegative() ? negativeTtl : remaining(entry)))
+				.evictionListener(this::demote)
+				.ticker(ticker)
+				.recordStats(() -> statsCounter)
+				.build();
+		log.debug("PokemonCache inicializada. enabled={}, maximumSize={}, ttl={}, hardTtl={}, retention={}, negativeTtl={}, offHeap={}",
+				enabled, properties.getMaximumSize(), ttl, hardTtl, retention, negativeTtl,
+				offHeap != null ? offHeapProperties.getCapacity() : "disabled");
+	}
+
+	private void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+		FunctionCounter.builder("pokemon.cache.stale", staleServed, AtomicLong::get).tag("freshness", "stale")
+				.description("Expired Pokémon served while refreshing in background").register(registry);
+		FunctionCounter.builder("pokemon.cache.stale", degradedServed, AtomicLong::get).tag("freshness", "degraded")
+				.description("Expired Pokémon served because PokeAPI failed").register(registry);
+		Gauge.builder("pokemon.cache.dictionary.size", dictionary, StringDictionary::size)
+				.description("Distinct strings shared by cached Pokémon").register(registry);
+		if (offHeap != null) {
+			Gauge.builder("pokemon.cache.offheap.entries", offHeap, OffHeapPokemonStore::size)
+					.description("Pokémon held in the off-heap tier").register(registry);
+			Gauge.builder("pokemon.cache.offheap.used", offHeap, OffHeapPokemonStore::usedBytes).baseUnit("bytes")
+					.description("Live bytes in the off-heap tier").register(registry);
+			Gauge.builder("pokemon.cache.offheap.capacity", offHeap, OffHeapPokemonStore::capacityBytes)
+					.baseUnit("bytes").description("Direct memory reserved by the off-heap tier").register(registry);
+			FunctionCounter.builder("pokemon.cache.offheap.gets", offHeap, OffHeapPokemonStore::hits)
+					.tag("result", "hit").register(registry);
+			FunctionCounter.builder("pokemon.cache.offheap.gets", offHeap, OffHeapPokemonStore::misses)
+					.tag("result", "miss").register(registry);
+			FunctionCounter.builder("pokemon.cache.offheap.evictions", offHeap, OffHeapPokemonStore::evictions)
+					.description("Entries dropped from the off-heap tier to make room").register(registry);
+		}
+	}
+
+	/**
+	 * Pool acotado para refrescos: pocos hilos (la concurrencia hacia PokeAPI ya
+	 * la limita el adaptador) y cola acotada; si se llena, el refresco se omite y
+	 * se reintentará en la siguiente consulta.
+	 */
+	private static ExecutorService refreshExecutor(int threads) {
+		AtomicInteger sequence = new AtomicInteger();
+		return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(256), task -> {
+			Thread thread = new Thread(task, "pokemon-refresh-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (refreshExecutor instanceof ExecutorService executor) {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Igual que {@link #lookup} pero devuelve solo el agregado.
+	 */
+	public Pokemon get(String key, FetchPlan plan, Function<FetchPlan, Pokemon> loader) {
+		return lookup(key, plan, loader).getPokemon();
+	}
+
+	/**
+	 * Devuelve el Pokémon cacheado para la clave o lo carga con {@code loader}.
+	 *
+	 * - Acierto positivo que cubre el plan → se devuelve sin I/O (FRESH, o STALE
+	 *   con refresco en segundo plano; ver la descripción de la clase).
+	 * - Acierto negativo → se relanza {@link PokemonNotFoundException} sin I/O.
+	 * - Fallo → se ejecuta el cargador; su resultado (o su
+	 *   {@link PokemonNotFoundException}) se guarda. Otros errores (p.ej.
+	 *   {@code RemoteClientException}) no se cachean.
+	 *
+	 * @param key    clave del Pokémon (nombre consultado)
+	 * @param plan   partes del agregado que necesita el llamador
+	 * @param loader carga remota del plan indicado
+	 * @return agregado de dominio con su frescura
+	 * @throws PokemonNotFoundException si el Pokémon no existe (cacheado o no)
+	 */
+	public PokemonLookup lookup(String key, FetchPlan plan, Function<FetchPlan, Pokemon> loader) {
+		if (!enabled) {
+			return PokemonLookup.fresh(loader.apply(plan));
+		}
+
+		CacheEntry entry = entryFor(key);
+		if (entry != null && entry.isNegative()) {
+			statsCounter.recordHits(1);
+			throw new PokemonNotFoundException("Pokémon not found (cached): " + key);
+		}
+		if (entry != null && entry.plan().satisfies(plan)) {
+			Duration age = Duration.ofNanos(ticker.read() - entry.loadedAtNanos());
+			if (age.compareTo(ttl) < 0) {
+				statsCounter.recordHits(1);
+				return entry.lookup(dictionary, Freshness.FRESH, age);
+			}
+			if (age.compareTo(hardTtl) < 0) {
+				statsCounter.recordHits(1);
+				staleServed.incrementAndGet();
+				refreshAsync(key, entry.plan(), loader);
+				return entry.lookup(dictionary, Freshness.STALE, age);
+			}
+			// Pasado el TTL duro: se espera la recarga, con el dato antiguo como red
+			statsCounter.recordMisses(1);
+			try {
+				return load(key, entry.plan(), loader);
+			} catch (RemoteClientException e) {
+				degradedServed.incrementAndGet();
+				log.warn("PokeAPI failed reloading '{}', serving data {} old: {}", key, age, e.getMessage());
+				return entry.lookup(dictionary, Freshness.DEGRADED, age);
+			}
+		}
+		statsCounter.recordMisses(1);
+		return load(key, plan, loader);
+	}
+
+	/**
+	 * Variante no bloqueante de {@link #lookup(String, FetchPlan, Function)},
+	 * con la misma política (FRESH / STALE / DEGRADED, caché negativa, plan).
+	 *
+	 * - Los aciertos se resuelven en el hilo que se suscribe, sin saltos de hilo.
+	 * - Los fallos se encadenan al Mono del cargador; la entrada se guarda en el
+	 *   hilo que completa la carga (p.ej. el event loop de Netty).
+	 * - El refresco de una entrada STALE se suscribe en segundo plano (uno por
+	 *   clave), sin ocupar el pool de refrescos bloqueantes.
+	 *
+	 * @param key    clave del Pokémon (nombre consultado)
+	 * @param plan   partes del agregado que necesita el llamador
+	 * @param loader carga remota no bloqueante del plan indicado
+	 * @return Mono diferido con el agregado y su frescura, o error
+	 *         {@link PokemonNotFoundException}
+	 */
+	public Mono<PokemonLookup> lookupReactive(String key, FetchPlan plan, Function<FetchPlan, Mono<Pokemon>> loader) {
+		return Mono.defer(() -> {
+			if (!enabled) {
+				return loader.apply(plan).map(PokemonLookup::fresh);
+			}
+			CacheEntry entry = entryFor(key);
+			if (entry != null && entry.isNegative()) {
+				statsCounter.recordHits(1);
+				return Mono.error(new PokemonNotFoundException("Pokémon not found (cached): " + key));
+			}
+			if (entry != null && entry.plan().satisfies(plan)) {
+				Duration age = Duration.ofNanos(ticker.read() - entry.loadedAtNanos());
+				if (age.compareTo(ttl) < 0) {
+					statsCounter.recordHits(1);
+					return Mono.just(entry.lookup(dictionary, Freshness.FRESH, age));
+				}
+				if (age.compareTo(hardTtl) < 0) {
+					statsCounter.recordHits(1);
+					staleServed.incrementAndGet();
+					refreshReactive(key, entry.plan(), loader);
+					return Mono.just(entry.lookup(dictionary, Freshness.STALE, age));
+				}
+				statsCounter.recordMisses(1);
+				CacheEntry expired = entry;
+				return loadReactive(key, entry.plan(), loader)
+						.onErrorResume(RemoteClientException.class, e -> {
+							degradedServed.incrementAndGet();
+							log.warn("PokeAPI failed reloading '{}', serving data {} old: {}", key, age, e.getMessage());
+							return Mono.just(expired.lookup(dictionary, Freshness.DEGRADED, age));
+						});
+			}
+			statsCounter.recordMisses(1);
+			return loadReactive(key, plan, loader);
+		});
+	}
+
+	/**
+	 * Entrada de la clave en el heap o, si no está, promocionada desde fuera del
+	 * heap. {@code asMap().get} no registra estadísticas: el acierto depende del
+	 * plan y lo registra el llamador.
+	 */
+	private CacheEntry entryFor(String key) {
+		CacheEntry entry = cache.asMap().get(key);
+		if (entry == null && offHeap != null) {
+			entry = promote(key);
+		}
+		return entry;
+	}
+
+	/**
+	 * Tiempo que le queda a una entrada positiva desde su carga.
+	 */
+	private Duration remaining(CacheEntry entry) {
+		Duration left = retention.minusNanos(ticker.read() - entry.loadedAtNanos());
+		return left.isNegative() ? Duration.ZERO : left;
+	}
+
+	/**
+	 * Listener de expulsión (síncrono): las entradas positivas expulsadas por
+	 * tamaño bajan al nivel fuera del heap.
+	 */
+	private void demote(String key, CacheEntry entry, RemovalCause cause) {
+		if (offHeap != null && cause == RemovalCause.SIZE && entry != null && !entry.isNegative()) {
+			offHeap.put(key, new OffHeapPokemonStore.Entry(entry.pokemon(), entry.plan(), entry.loadedAtNanos()));
+		}
+	}
+
+	/**
+	 * Sube al heap la entrada de la clave si está fuera del heap y no ha
+	 * superado su retención.
+	 *
+	 * @return entrada promocionada, o null si no estaba (o ya había caducado)
+	 */
+	private CacheEntry promote(String key) {
+		OffHeapPokemonStore.Entry stored = offHeap.take(key);
+		if (stored == null) {
+			return null;
+		}
+		CacheEntry entry = new CacheEntry(stored.pokemon(), stored.plan(), stored.loadedAtNanos());
+		if (remaining(entry).isZero()) {
+			return null;
+		}
+		cache.asMap().putIfAbsent(key, entry);
+		return entry;
+	}
+
+	/**
+	 * Ejecuta el cargador y guarda su resultado (o el "no encontrado").
+	 *
+	 * @return resultado FRESH con la versión de la entrada guardada
+	 */
+	private PokemonLookup load(String key, FetchPlan plan, Function<FetchPlan, Pokemon> loader) {
+		try {
+			return store(key, plan, loader.apply(plan));
+		} catch (PokemonNotFoundException e) {
+			cache.put(key, CacheEntry.NOT_FOUND);
+			throw e;
+		}
+	}
+
+	/**
+	 * Variante reactiva de {@link #load}: guarda el resultado (o el "no
+	 * encontrado") cuando el cargador se completa.
+	 */
+	private Mono<PokemonLookup> loadReactive(String key, FetchPlan plan, Function<FetchPlan, Mono<Pokemon>> loader) {
+		return loader.apply(plan)
+				.map(pokemon -> store(key, plan, pokemon))
+				.doOnError(PokemonNotFoundException.class, e -> cache.put(key, CacheEntry.NOT_FOUND));
+	}
+
+	/**
+	 * Guarda el agregado recién cargado.
+	 *
+	 * @return resultado FRESH con la versión de la nueva entrada
+	 */
+	private PokemonLookup store(String key, FetchPlan plan, Pokemon pokemon) {
+		CacheEntry entry = new CacheEntry(CompactPokemon.encode(pokemon, dictionary), plan, ticker.read());
+		cache.put(key, entry);
+		return new PokemonLookup(pokemon, Freshness.FRESH, Duration.ZERO, entry.version());
+	}
+
+	/**
+	 * Refresco reactivo en segundo plano (uno como máximo por clave, compartido
+	 * con los refrescos bloqueantes).
+	 */
+	private void refreshReactive(String key, FetchPlan plan, Function<FetchPlan, Mono<Pokemon>> loader) {
+		if (!refreshing.add(key)) {
+			return;
+		}
+		loadReactive(key, plan, loader)
+				.doFinally(signal -> refreshing.remove(key))
+				.subscribe(lookup -> log.debug("Refreshed stale Pokémon '{}'", key),
+						e -> log.warn("Background refresh of '{}' failed: {}", key, e.getMessage()));
+	}
+
+	/**
+	 * Lanza un refresco en segundo plano si no hay otro en curso para la clave.
+	 * Los fallos solo se registran: la entrada antigua sigue sirviéndose.
+	 */
+	private void refreshAsync(String key, FetchPlan plan, Function<FetchPlan, Pokemon> loader) {
+		if (!refreshing.add(key)) {
+			return;
+		}
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					load(key, plan, loader);
+					log.debug("Refreshed stale Pokémon '{}'", key);
+				} catch (RuntimeException e) {
+					log.warn("Background refresh of '{}' failed: {}", key, e.getMessage());
+				} finally {
+					refreshing.remove(key);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			refreshing.remove(key);
+			log.debug("Refresh queue full, skipping refresh of '{}'", key);
+		}
+	}
+
+	/**
+	 * Descarta la entrada de la clave en el heap (no baja al nivel fuera del
+	 * heap). Lo usa el servicio para no duplicar bajo un id numérico un agregado
+	 * que ya vive bajo su nombre.
+	 *
+	 * @param key clave del Pokémon
+	 */
+	public void invalidate(String key) {
+		cache.invalidate(key);
+	}
+
+	/**
+	 * @return instantánea de aciertos, fallos y expulsiones
+	 */
+	public CacheStats stats() {
+		return statsCounter.snapshot();
+	}
+
+	/**
+	 * @return número aproximado de entradas (positivas + negativas)
+	 */
+	public long size() {
+		return cache.estimatedSize();
+	}
+
+	/**
+	 * Recorre las entradas positivas de ambos niveles (para
+	 * {@link PokemonCacheSnapshot}).
+	 */
+	void forEachEntry(BiConsumer<String, CacheEntry> action) {
+		cache.asMap().forEach((key, entry) -> {
+			if (!entry.isNegative()) {
+				action.accept(key, entry);
+			}
+		});
+		if (offHeap != null) {
+			offHeap.forEach((key, stored) -> action.accept(key,
+					new CacheEntry(stored.pokemon(), stored.plan(), stored.loadedAtNanos())));
+		}
+	}
+
+	/**
+	 * Restaura una entrada de un snapshot conservando su instante de carga. No
+	 * sustituye entradas más recientes ni restaura las que ya superaron su
+	 * retención.
+	 *
+	 * @return true si la entrada se ha restaurado
+	 */
+	boolean restore(String key, CacheEntry entry) {
+		if (!enabled || entry.isNegative() || remaining(entry).isZero()) {
+			return false;
+		}
+		return cache.asMap().putIfAbsent(key, entry) == null;
+	}
+
+	boolean isEnabled() {
+		return enabled;
+	}
+
+	Ticker ticker() {
+		return ticker;
+	}
+
+	StringDictionary dictionary() {
+		return dictionary;
+	}
+
+	/**
+	 * @return entradas en el nivel fuera del heap (0 si está desactivado)
+	 */
+	public int offHeapSize() {
+		return offHeap == null ? 0 : offHeap.size();
+	}
+
+	/**
+	 * Ejecuta el mantenimiento pendiente (expulsiones/expiraciones diferidas).
+	 */
+	void cleanUp() {
+		cache.cleanUp();
+	}
+
+	/**
+	 * Entrada de la caché. {@code pokemon == null} representa un "no encontrado".
+	 *
+	 * @param pokemon       agregado compacto o null si es entrada negativa
+	 * @param plan          plan con el que se obtuvo el agregado
+	 * @param loadedAtNanos instante de la carga según el {@link Ticker}
+	 */
+	record CacheEntry(CompactPokemon pokemon, FetchPlan plan, long loadedAtNanos) {
+
+		static final CacheEntry NOT_FOUND = new CacheEntry(null, null, 0);
+
+		boolean isNegative() {
+			return pokemon == null;
+		}
+
+		/**
+		 * Versión de la entrada para {@link PokemonLookup#getVersion()}: instante
+		 * de carga y plan, sin recorrer el agregado. Distinta en cada recarga.
+		 */
+		long version() {
+			long version = 31 * loadedAtNanos + plan.ordinal() + 1;
+			return version == PokemonLookup.UNVERSIONED ? 1 : version;
+		}
+
+		PokemonLookup lookup(StringDictionary dictionary, Freshness freshness, Duration age) {
+			return new PokemonLookup(pokemon.materialize(dictionary), freshness, age, version());
+		}
+
+	}
+
+}
@@ -0,0 +1,143 @@
+/**
+ *
+ */
+package com.example.pokemon.application.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.PokemonLookup;
+import com.example.pokemon.domain.ports.in.QueryPokemonUseCase;
+import com.example.pokemon.domain.ports.out.RequestHistoryPort;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PokemonCachePrewarmer
+ *
+ * Precarga en {@link PokemonCache} los Pokémon que más piden los clientes,
+ * según el historial de {@code request_log} ({@link RequestHistoryPort}).
+ *
+ * - Al arrancar: como {@link ApplicationRunner}, se ejecuta antes de que Spring
+ *   Boot publique la readiness ({@code ACCEPTING_TRAFFIC}) y después de los
+ *   runners con orden explícito (el relleno de nombres del historial);
+ *   complementa al snapshot, que solo cubre lo que este nodo tenía en caché.
+ * - Periódicamente ({@code cron}): vuelve a precargar el top, de modo que los
+ *   favoritos no caduquen justo cuando llega el tráfico.
+ * - Concurrencia acotada ({@code concurrency}) y presupuesto de tiempo
+ *   ({@code timeBudget}): al agotarse, lo pendiente se cancela y el arranque
+ *   sigue. Un nombre que falla (no existe, PokeAPI caído...) se cuenta y no
+ *   detiene el resto.
+ *
+ * Las consultas pasan por {@link QueryPokemonUseCase} en su variante reactiva
+ * (sin ocupar un hilo por nombre), así que los nombres ya cacheados y frescos
+ * no generan tráfico remoto.
+ */
+@Component
+@Slf4j
+public class PokemonCachePrewarmer implements ApplicationRunner {
+
+	private final QueryPokemonUseCase queryPokemonUseCase;
+	private final RequestHistoryPort requestHistory;
+	private final PokemonCacheProperties.Prewarm properties;
+	private final boolean cacheEnabled;
+	private final Clock clock;
+
+	/** Evita dos precargas simultáneas (arranque + programada). */
+	private final ReentrantLock running = new ReentrantLock();
+
+	@Autowired
+	public PokemonCachePrewarmer(QueryPokemonUseCase queryPokemonUseCase, RequestHistoryPort requestHistory,
+			PokemonCacheProperties properties) {
+		this(queryPokemonUseCase, requestHistory, properties.getPrewarm(), properties.isEnabled(), Clock.systemUTC());
+	}
+
+	PokemonCachePrewarmer(QueryPokemonUseCase queryPokemonUseCase, RequestHistoryPort requestHistory,
+			PokemonCacheProperties.Prewarm properties, boolean cacheEnabled, Clock clock) {
+		this.queryPokemonUseCase = queryPokemonUseCase;
+		this.requestHistory = requestHistory;
+		this.properties = properties;
+		this.cacheEnabled = cacheEnabled;
+		this.clock = clock;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (properties.isEnabled()) {
+			prewarm();
+		}
+	}
+
+	@Scheduled(cron = "${app.cache.pokemon.prewarm.cron:-}")
+	void scheduledRun() {
+		if (properties.isEnabled()) {
+			prewarm();
+		}
+	}
+
+	/**
+	 * Precarga el top de nombres del historial.
+	 *
+	 * @return número de Pokémon cargados (0 si la caché está desactivada o ya
+	 *         hay una precarga en curso)
+	 */
+	public int prewarm() {
+		if (!cacheEnabled || !running.tryLock()) {
+			return 0;
+		}
+		try {
+			long start = System.nanoTime();
+			List<String> names;
+			try {
+				names = requestHistory.findTopRequestedNames(
+						OffsetDateTime.now(clock).minus(properties.getLookback()), properties.getTopN());
+			} catch (RuntimeException e) {
+				log.warn("Cache prewarm skipped: request history unavailable ({})", e.toString());
+				return 0;
+			}
+			if (names.isEmpty()) {
+				log.info("Cache prewarm: no request history yet");
+				return 0;
+			}
+			AtomicInteger loaded = new AtomicInteger();
+			AtomicInteger failed = new AtomicInteger();
+			Flux.fromIterable(names)
+					.flatMap(name -> load(name, loaded, failed), properties.getConcurrency())
+					.take(properties.getTimeBudget())
+					.blockLast();
+			int done = loaded.get();
+			int errors = failed.get();
+			log.info("Cache prewarm: {} loaded, {} failed, {} skipped (time budget {}) out of {} names in {} ms",
+					done, errors, Math.max(0, names.size() - done - errors), properties.getTimeBudget(),
+					names.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+			return done;
+		} finally {
+			running.unlock();
+		}
+	}
+
+	private Mono<PokemonLookup> load(String name, AtomicInteger loaded, AtomicInteger failed) {
+		return queryPokemonUseCase.lookupReactive(name, FetchPlan.BASE)
+				.doOnNext(lookup -> loaded.incrementAndGet())
+				.onErrorResume(RuntimeException.class, e -> {
+					failed.incrementAndGet();
+					log.debug("Cache prewarm failed for '{}': {}", name, e.toString());
+					return Mono.empty();
+				});
+	}
+
+}
@@ -0,0 +1,252 @@
+/**
+ *
+ */
+package com.example.pokemon.application.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PokemonCacheSnapshot
+ *
+ * Vuelca {@link PokemonCache} a un fichero al apagar la aplicación y lo
+ * restaura al arrancar, para que un nodo recién desplegado no empiece con la
+ * caché vacía y golpee PokeAPI durante los primeros minutos.
+ *
+ * - Restauración en {@code @PostConstruct}: ocurre mientras se refresca el
+ *   contexto, antes de que Spring Boot publique la readiness
+ *   ({@code ACCEPTING_TRAFFIC}).
+ * - Volcado en {@code @PreDestroy}: este bean depende de la caché, así que se
+ *   destruye antes que ella (apagado ordenado).
+ * - Se conserva el instante de carga de cada entrada: se guarda como hora de
+ *   reloj y al restaurar se traduce al {@code Ticker} del proceso nuevo, de
+ *   modo que TTL blando, TTL duro y stale-if-error siguen contando desde la
+ *   carga original. Las entradas ya caducadas del todo no se restauran.
+ * - Incluye las entradas de ambos niveles (heap y fuera del heap); las
+ *   negativas no se guardan.
+ * - Cada entrada restaurada alimenta {@link PokemonAliasIndex}, de modo que
+ *   una petición por id tras el reinicio encuentra la entrada de su nombre.
+ *
+ * Formato (versionado, {@link DataOutputStream}): MAGIC "PKCS", versión,
+ * instante del volcado, diccionario de cadenas (una vez cada una) y las
+ * entradas con sus códigos, como en {@link CompactPokemon}. Si la versión no
+ * coincide el fichero se ignora. La escritura es atómica (temporal + move).
+ */
+@Component
+@Slf4j
+public class PokemonCacheSnapshot {
+
+	/** "PKCS" en ASCII. */
+	static final int MAGIC = 0x504B4353;
+
+	static final int VERSION = 1;
+
+	private final PokemonCache cache;
+
+	private final PokemonAliasIndex aliases;
+
+	/** Fichero del snapshot; null si está desactivado. */
+	private final Path file;
+
+	private final Clock clock;
+
+	@Autowired
+	public PokemonCacheSnapshot(PokemonCache cache, PokemonAliasIndex aliases, PokemonCacheProperties properties) {
+		this(cache, aliases, properties.getSnapshot().isEnabled() ? properties.getSnapshot().getPath() : null,
+				Clock.systemUTC());
+	}
+
+	PokemonCacheSnapshot(PokemonCache cache, PokemonAliasIndex aliases, Path file, Clock clock) {
+		this.cache = cache;
+		this.aliases = aliases;
+		this.file = file;
+		this.clock = clock;
+	}
+
+	@PostConstruct
+	void restoreOnStartup() {
+		if (file != null && cache.isEnabled()) {
+			restore();
+		}
+	}
+
+	@PreDestroy
+	void saveOnShutdown() {
+		if (file != null && cache.isEnabled()) {
+			save();
+		}
+	}
+
+	/**
+	 * Escribe el snapshot con las entradas positivas actuales.
+	 *
+	 * @return entradas escritas (0 si falla la escritura)
+	 */
+	public int save() {
+		long start = System.nanoTime();
+		List<String> keys = new ArrayList<>();
+		List<PokemonCache.CacheEntry> entries = new ArrayList<>();
+		cache.forEachEntry((key, entry) -> {
+			keys.add(key);
+			entries.add(entry);
+		});
+		long nowNanos = cache.ticker().read();
+		long nowMillis = clock.millis();
+		// Leído después de recoger las entradas: incluye todos sus códigos
+		StringDictionary dictionary = cache.dictionary();
+		int dictionarySize = dictionary.size();
+
+		Path tmp = null;
+		try {
+			Files.createDirectories(file.toAbsolutePath().getParent());
+			tmp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+			try (OutputStream raw = Files.newOutputStream(tmp);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(raw))) {
+				out.writeInt(MAGIC);
+				out.writeByte(VERSION);
+				out.writeLong(nowMillis);
+				out.writeInt(dictionarySize);
+				for (int code = 0; code < dictionarySize; code++) {
+					out.writeUTF(dictionary.decode(code));
+				}
+				out.writeInt(entries.size());
+				for (int i = 0; i < entries.size(); i++) {
+					PokemonCache.CacheEntry entry = entries.get(i);
+					CompactPokemon pokemon = entry.pokemon();
+					out.writeUTF(keys.get(i));
+					out.writeByte(entry.plan().ordinal());
+					out.writeLong(nowMillis - (nowNanos - entry.loadedAtNanos()) / 1_000_000);
+					out.writeInt(pokemon.id());
+					out.writeInt(pokemon.baseExperience());
+					out.writeBoolean(pokemon.name() != null);
+					if (pokemon.name() != null) {
+						out.writeUTF(pokemon.name());
+					}
+					writeCodes(out, pokemon.abilities());
+					writeCodes(out, pokemon.heldItems());
+					writeCodes(out, pokemon.encounters());
+				}
+			}
+			move(tmp, file);
+		} catch (IOException | RuntimeException e) {
+			log.warn("Could not write Pokémon cache snapshot {}: {}", file, e.toString());
+			if (tmp != null) {
+				delete(tmp);
+			}
+			return 0;
+		}
+		log.info("Pokémon cache snapshot written: {} entries in {} ms ({})", entries.size(),
+				(System.nanoTime() - start) / 1_000_000, file);
+		return entries.size();
+	}
+
+	/**
+	 * Carga el snapshot en la caché.
+	 *
+	 * @return entradas restauradas (0 si no hay snapshot o no es válido)
+	 */
+	public int restore() {
+		long start = System.nanoTime();
+		int restored = 0;
+		int expired = 0;
+		try (InputStream raw = Files.newInputStream(file);
+				DataInputStream in = new DataInputStream(new BufferedInputStream(raw))) {
+			if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+				log.warn("Ignoring Pokémon cache snapshot {}: unknown format or version", file);
+				return 0;
+			}
+			in.readLong(); // instante del volcado (informativo)
+			long nowNanos = cache.ticker().read();
+			long nowMillis = clock.millis();
+
+			// Los códigos del fichero se traducen a los del diccionario de este proceso
+			StringDictionary dictionary = cache.dictionary();
+			int[] remap = new int[in.readInt()];
+			for (int code = 0; code < remap.length; code++) {
+				remap[code] = dictionary.encode(in.readUTF());
+			}
+			int count = in.readInt();
+			FetchPlan[] plans = FetchPlan.values();
+			for (int i = 0; i < count; i++) {
+				String key = in.readUTF();
+				FetchPlan plan = plans[in.readUnsignedByte()];
+				long ageMillis = Math.max(0, nowMillis - in.readLong());
+				int id = in.readInt();
+				int baseExperience = in.readInt();
+				String name = in.readBoolean() ? in.readUTF() : null;
+				CompactPokemon pokemon = new CompactPokemon(id, name, baseExperience, readCodes(in, remap),
+						readCodes(in, remap), readCodes(in, remap));
+				if (cache.restore(key, new PokemonCache.CacheEntry(pokemon, plan, nowNanos - ageMillis * 1_000_000))) {
+					aliases.record(id, name);
+					restored++;
+				} else {
+					expired++;
+				}
+			}
+		} catch (NoSuchFileException e) {
+			log.info("No Pokémon cache snapshot at {}; starting cold", file);
+			return 0;
+		} catch (IOException | RuntimeException e) {
+			log.warn("Could not restore Pokémon cache snapshot {}: {}", file, e.toString());
+			return restored;
+		}
+		log.info("Pokémon cache restored from snapshot: {} entries ({} expired or already present) in {} ms",
+				restored, expired, (System.nanoTime() - start) / 1_000_000);
+		return restored;
+	}
+
+	private static void writeCodes(DataOutputStream out, int[] codes) throws IOException {
+		out.writeShort(codes.length);
+		for (int code : codes) {
+			out.writeInt(code);
+		}
+	}
+
+	private static int[] readCodes(DataInputStream in, int[] remap) throws IOException {
+		int[] codes = new int[in.readUnsignedShort()];
+		for (int i = 0; i < codes.length; i++) {
+			codes[i] = remap[in.readInt()];
+		}
+		return codes;
+	}
+
+	private static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static void delete(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.debug("Could not delete {}: {}", path, e.toString());
+		}
+	}
+
+}
@@ -0,0 +1,108 @@
+/**
+ *
+ */
+package com.example.pokemon.application.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * StringDictionary
+ *
+ * Diccionario compartido de cadenas para {@link CompactPokemon}: cada cadena
+ * distinta (ability, item, location-area) se guarda una sola vez y las
+ * entradas de la caché solo guardan su código {@code int}.
+ *
+ * - Solo crece: el vocabulario de PokeAPI es finito (unos pocos miles de
+ *   cadenas para todo el catálogo), así que no se recolectan códigos.
+ * - Codificar una cadena ya conocida no toma bloqueos; las nuevas se añaden
+ *   bajo un {@link ReentrantLock}.
+ * - Decodificar es una lectura de array sin bloqueos: un código solo llega a un
+ *   lector después de haberse publicado su cadena.
+ */
+final class StringDictionary {
+
+	private final ConcurrentMap<String, Integer> codes = new ConcurrentHashMap<>();
+	private final ReentrantLock appendLock = new ReentrantLock();
+
+	/** Cadenas por código; se reemplaza (copia) al crecer. */
+	private volatile String[] strings = new String[512];
+
+	/** Siguiente código libre; protegido por {@link #appendLock}. */
+	private int size;
+
+	/**
+	 * @param values cadenas a codificar
+	 * @return códigos de las cadenas, en el mismo orden
+	 */
+	int[] encode(List<String> values) {
+		int[] result = new int[values.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = encode(values.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * @param value cadena a codificar (no nula)
+	 * @return código de la cadena (se asigna uno nuevo si no existía)
+	 */
+	int encode(String value) {
+		Integer code = codes.get(value);
+		return code != null ? code : append(value);
+	}
+
+	private int append(String value) {
+		appendLock.lock();
+		try {
+			Integer existing = codes.get(value);
+			if (existing != null) {
+				return existing;
+			}
+			String[] current = strings;
+			if (size == current.length) {
+				current = Arrays.copyOf(current, current.length * 2);
+			}
+			int code = size++;
+			current[code] = value;
+			// Escritura volátil: publica la cadena antes de que el código sea visible
+			strings = current;
+			codes.put(value, code);
+			return code;
+		} finally {
+			appendLock.unlock();
+		}
+	}
+
+	/**
+	 * @param codes códigos devueltos por {@link #encode(List)}
+	 * @return lista inmutable con las cadenas originales
+	 */
+	List<String> decode(int[] codes) {
+		String[] current = strings;
+		String[] values = new String[codes.length];
+		for (int i = 0; i < codes.length; i++) {
+			values[i] = current[codes[i]];
+		}
+		return List.of(values);
+	}
+
+	/**
+	 * @param code código devuelto por {@link #encode(String)}
+	 * @return cadena original
+	 */
+	String decode(int code) {
+		return strings[code];
+	}
+
+	/**
+	 * @return número de cadenas distintas guardadas
+	 */
+	int size() {
+		return codes.size();
+	}
+
+}
@@ -5,30 +5,44 @@ package com.example.pokemon.application.service;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.stereotype.Service;
 
-import com.example.pokemon.adapters.out.pokeapi.PokeApiClient;
-import com.example.pokemon.adapters.out.pokeapi.dto.PokeApiPokemonDTO;
-import com.example.pokemon.adapters.out.pokeapi.mapper.PokeApiMapper;
+import com.example.pokemon.application.cache.PokemonAliasIndex;
+import com.example.pokemon.application.cache.PokemonCache;
+import com.example.pokemon.domain.model.FetchPlan;
 import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.model.PokemonLookup;
 import com.example.pokemon.domain.ports.in.QueryPokemonUseCase;
+import com.example.pokemon.domain.ports.out.LoadPokemonPort;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * Implementación de {@link QueryPokemonUseCase}.
  *
  * Responsabilidades:
- * - Orquestar la lectura remota (REST) vía {@link PokeApiClient}.
- * - Convertir DTOs de PokeAPI al modelo de dominio {@link Pokemon} usando {@link PokeApiMapper} (MapStruct).
+ * - Orquestar la lectura vía el puerto {@link LoadPokemonPort} (dataset local y, en su defecto, PokeAPI), sin
+ *   depender de un adaptador concreto.
+ * - Recibir el modelo de dominio {@link Pokemon} ya decodificado por el adaptador (sin DTOs intermedios).
+ * - Servir desde {@link PokemonCache} los agregados ya mapeados (incluidos los "no encontrados"); los caducados
+ *   se sirven al momento y se refrescan en segundo plano ({@link #lookup(String, FetchPlan)} indica su frescura).
+ * - Resolver cada petición a una clave canónica con {@link PokemonAliasIndex} antes de cualquier I/O:
+ *   "Pikachu", " pikachu " y "25" comparten entrada de caché y llamada remota. Todo agregado servido
+ *   (cargado o leído de la caché) alimenta el índice; un id aún no visto también pasa por la caché, de modo
+ *   que los ids inexistentes quedan en la caché negativa.
  * - Exponer operaciones de lectura atómicas (abilities, baseExperience, etc.) que el endpoint SOAP consume.
+ * - Ofrecer el mismo flujo sin bloquear ({@link #lookupReactive(String, FetchPlan)}): caché reactiva y
+ *   {@link LoadPokemonPort#loadByNameReactive}, para adaptadores de entrada que corren en el event loop.
  *
  * Decisiones de diseño:
  * - Validamos entradas (name) para fallar temprano con IllegalArgumentException (el GlobalSoapExceptionResolver
  *   mapeará esto a un fault de tipo Client/Sender).
- * - Centralizamos la llamada remota en {@link #fetch(String)} para evitar duplicación.
+ * - Centralizamos la llamada remota en {@link #fetch(String, FetchPlan)} para evitar duplicación.
+ * - Cada operación declara su {@link FetchPlan}: solo las encounters requieren la segunda llamada remota.
  * - Devolvemos colecciones inmutables (defensivas) para proteger el dominio de modificaciones accidentales en capas superiores.
  */
 @Service
@@ -37,71 +51,146 @@ import lombok.extern.slf4j.Slf4j;
 public class QueryPokemonService implements QueryPokemonUseCase {
 
 	/**
-     * Cliente REST que encapsula las llamadas a la API pública de PokeAPI.
-     * Es inyectado por constructor y se declara como final para garantizar
-     * que no se reemplace la referencia durante el ciclo de vida del servicio.
+     * Puerto de salida que obtiene el agregado (dataset local con PokeAPI como
+     * respaldo). Es inyectado por constructor y se declara como final para
+     * garantizar que no se reemplace la referencia durante el ciclo de vida del servicio.
      */
-	private final PokeApiClient pokeApiClient;
-	
-	/**
-     * Mapper de MapStruct que convierte los DTOs de PokeAPI en
-     * el modelo de dominio {@link Pokemon}. Se mantiene inmutable
-     * y es responsabilidad de este servicio orquestar su uso.
+	private final LoadPokemonPort loadPokemonPort;
+
+    /**
+     * Caché en memoria de agregados de dominio con TTL y caché negativa.
+     */
+    private final PokemonCache pokemonCache;
+
+    /**
+     * Índice nombre ↔ id para canonicalizar las peticiones.
+     */
+    private final PokemonAliasIndex aliases;
+
+    /**
+     * Resuelve el Pokémon desde la caché o, si no está, desde el puerto de carga.
+     * @param name nombre del Pokémon
+     * @param plan partes del agregado a consultar
+     * @return agregado de dominio {@link Pokemon}
      */
-    private final PokeApiMapper mapper;
+    private Pokemon fetch(String name, FetchPlan plan) {
+        return lookup(name, plan).getPokemon();
+    }
 
     /**
-     * Ejecuta la consulta remota a PokeAPI y convierte el resultado a dominio.
+     * Ejecuta la carga vía {@link LoadPokemonPort}. El adaptador ya devuelve el agregado
+     * de dominio con listas inmutables y nunca nulas. Cada respuesta alimenta el índice de alias.
      * @param name nombre del Pokémon
+     * @param plan partes del agregado a consultar
      * @return agregado de dominio {@link Pokemon}
      */
-    private Pokemon fetch(String name) {
+    private Pokemon load(String name, FetchPlan plan) {
+        log.debug("Loading Pokémon: name={}, plan={}", name, plan);
+        Pokemon pokemon = loadPokemonPort.loadByName(name, plan);
+        aliases.record(pokemon);
+        return pokemon;
+    }
+
+    @Override
+    public Pokemon getPokemon(String name) {
+        return fetch(name, FetchPlan.FULL);
+    }
+
+    @Override
+    public Pokemon getPokemon(String name, FetchPlan plan) {
+        return fetch(name, plan);
+    }
+
+    @Override
+    public PokemonLookup lookup(String name, FetchPlan plan) {
         validateName(name);
-        log.debug("Fetching Pokémon from PokeAPI: name={}", name);
+        String key = aliases.resolve(name);
+        if (!PokemonAliasIndex.isId(key)) {
+            return served(pokemonCache.lookup(key, plan, p -> load(key, p)));
+        }
+        // Id aún no visto: se carga a través de la caché bajo el propio id (un id inexistente queda en la caché
+        // negativa) y el agregado se guarda bajo el nombre de la respuesta, no bajo el número
+        Pokemon loaded = pokemonCache.get(key, plan, p -> load(key, p));
+        pokemonCache.invalidate(key);
+        String canonicalName = PokemonAliasIndex.canonical(loaded.getName());
+        AtomicReference<Pokemon> first = new AtomicReference<>(loaded);
+        return served(pokemonCache.lookup(canonicalName, plan, p -> {
+            Pokemon pokemon = first.getAndSet(null);
+            return pokemon != null && plan.satisfies(p) ? pokemon : load(canonicalName, p);
+        }));
+    }
 
-        // 1) Llamada remota (DTO)
-        PokeApiPokemonDTO dto = pokeApiClient.getPokemon(name);
+    @Override
+    public Mono<PokemonLookup> lookupReactive(String name, FetchPlan plan) {
+        return Mono.defer(() -> {
+            validateName(name);
+            String key = aliases.resolve(name);
+            if (!PokemonAliasIndex.isId(key)) {
+                return pokemonCache.lookupReactive(key, plan, p -> loadReactive(key, p)).map(this::served);
+            }
+            // Mismo criterio que lookup: un id aún no visto pasa por la caché y se guarda bajo su nombre
+            return pokemonCache.lookupReactive(key, plan, p -> loadReactive(key, p)).flatMap(byId -> {
+                pokemonCache.invalidate(key);
+                String canonicalName = PokemonAliasIndex.canonical(byId.getPokemon().getName());
+                AtomicReference<Pokemon> first = new AtomicReference<>(byId.getPokemon());
+                return pokemonCache.lookupReactive(canonicalName, plan, p -> {
+                    Pokemon pokemon = first.getAndSet(null);
+                    return pokemon != null && plan.satisfies(p) ? Mono.just(pokemon) : loadReactive(canonicalName, p);
+                });
+            }).map(this::served);
+        });
+    }
 
-        // 2) Mapeo a dominio (MapStruct)
-        Pokemon domain = mapper.toDomain(dto);
+    /**
+     * Registra en el índice de alias el agregado servido, venga de la caché (incluidas las entradas
+     * restauradas de un snapshot) o de una carga.
+     */
+    private PokemonLookup served(PokemonLookup lookup) {
+        aliases.record(lookup.getPokemon());
+        return lookup;
+    }
 
-        // 3) Postcondiciones/defensas
-        //    Normalizamos listas nulas a vacías para evitar NPE más arriba
-        return domain.toBuilder()
-                .abilities(nullSafeList(domain.getAbilities()))
-                .heldItems(nullSafeList(domain.getHeldItems()))
-                .locationAreaEncounters(nullSafeList(domain.getLocationAreaEncounters()))
-                .build();
+    @Override
+    public Mono<Pokemon> getPokemonReactive(String name) {
+        return lookupReactive(name, FetchPlan.FULL).map(PokemonLookup::getPokemon);
+    }
+
+    /**
+     * Variante reactiva de {@link #load(String, FetchPlan)}.
+     */
+    private Mono<Pokemon> loadReactive(String name, FetchPlan plan) {
+        return Mono.defer(() -> {
+            log.debug("Loading Pokémon (reactive): name={}, plan={}", name, plan);
+            return loadPokemonPort.loadByNameReactive(name, plan);
+        }).doOnNext(aliases::record);
     }
 
     @Override
-    public Pokemon getPokemon(String name) {
-        return fetch(name);
+    public int getId(String name) {
+        validateName(name);
+        // Los ids no cambian: un nombre ya visto se resuelve sin consultar la caché
+        int id = aliases.idOf(name);
+        return id > 0 ? id : fetch(name, FetchPlan.BASE).getId();
     }
 
     @Override
     public List<String> getAbilities(String name) {
-        return Collections.unmodifiableList(fetch(name).getAbilities());
+        return Collections.unmodifiableList(fetch(name, FetchPlan.BASE).getAbilities());
     }
 
     @Override
     public int getBaseExperience(String name) {
-        return fetch(name).getBaseExperience();
+        return fetch(name, FetchPlan.BASE).getBaseExperience();
     }
 
     @Override
     public List<String> getHeldItems(String name) {
-        return Collections.unmodifiableList(fetch(name).getHeldItems());
-    }
-
-    @Override
-    public int getId(String name) {
-        return fetch(name).getId();
+        return Collections.unmodifiableList(fetch(name, FetchPlan.BASE).getHeldItems());
     }
 
     @Override
     public List<String> getLocationAreaEncounters(String name) {
-        return Collections.unmodifiableList(fetch(name).getLocationAreaEncounters());
+        return Collections.unmodifiableList(fetch(name, FetchPlan.FULL).getLocationAreaEncounters());
     }
 
     // ------------------------
@@ -114,8 +203,4 @@ public class QueryPokemonService implements QueryPokemonUseCase {
         }
     }
 
-    private static <T> List<T> nullSafeList(List<T> list) {
-        return (list == null) ? Collections.emptyList() : list;
-    }
-
 }
@@ -0,0 +1,94 @@
+/**
+ * 
+ */
+package com.example.pokemon.common.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight
+ *
+ * Deduplicación de operaciones en curso ("request coalescing"): mientras una
+ * llamada para una clave está en vuelo, los llamadores concurrentes con la misma
+ * clave se unen a ella en lugar de lanzar otra.
+ *
+ * - Todos los llamadores reciben el mismo resultado o la misma excepción.
+ * - La entrada se elimina al terminar la llamada, de modo que una petición
+ *   posterior vuelve a ejecutarse (no es una caché).
+ * - Sin bloqueos ni {@code synchronized}: solo operaciones atómicas sobre
+ *   {@link ConcurrentHashMap}.
+ *
+ * @param <K> tipo de la clave (debe implementar equals/hashCode)
+ * @param <V> tipo del resultado
+ */
+public final class SingleFlight<K, V> {
+
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Devuelve la llamada en curso para la clave o inicia una nueva con
+	 * {@code call}.
+	 *
+	 * @param key  clave de deduplicación
+	 * @param call inicia la operación asíncrona (solo se invoca para el líder)
+	 * @return futuro compartido por todos los llamadores de la clave
+	 */
+	public CompletableFuture<V> submit(K key, Supplier<CompletableFuture<V>> call) {
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			return existing;
+		}
+
+		try {
+			call.get().whenComplete((value, error) -> {
+				inFlight.remove(key, flight);
+				if (error != null) {
+					flight.completeExceptionally(error);
+				} else {
+					flight.complete(value);
+				}
+			});
+		} catch (RuntimeException e) {
+			inFlight.remove(key, flight);
+			flight.completeExceptionally(e);
+		}
+		return flight;
+	}
+
+	/**
+	 * Variante bloqueante de {@link #submit(Object, Supplier)}: espera el
+	 * resultado compartido y relanza la excepción original (sin envolver en
+	 * {@link CompletionException}) si es unchecked.
+	 *
+	 * @param key  clave de deduplicación
+	 * @param call inicia la operación asíncrona (solo se invoca para el líder)
+	 * @return resultado de la llamada compartida
+	 */
+	public V execute(K key, Supplier<CompletableFuture<V>> call) {
+		try {
+			return submit(key, call).join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * @return número de claves con una llamada en curso
+	 */
+	public int inFlightCount() {
+		return inFlight.size();
+	}
+
+}
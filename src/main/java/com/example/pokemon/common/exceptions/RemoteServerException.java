@@ -0,0 +1,29 @@
+/**
+ * 
+ */
+package com.example.pokemon.common.exceptions;
+
+/**
+ * Excepción para respuestas 5xx de un servicio remoto. A diferencia de otros
+ * {@link RemoteClientException}, suele ser transitoria y la petición (GET
+ * idempotente) puede reintentarse.
+ */
+public class RemoteServerException extends RemoteClientException {
+
+	private static final long serialVersionUID = -6031428797152950213L;
+
+	private final int statusCode;
+
+	public RemoteServerException(String message, int statusCode) {
+		super(message);
+		this.statusCode = statusCode;
+	}
+
+	/**
+	 * @return código HTTP devuelto por el remoto (5xx)
+	 */
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+}
@@ -0,0 +1,39 @@
+/**
+ * 
+ */
+package com.example.pokemon.common.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Excepción para llamadas a un servicio remoto rechazadas localmente sin
+ * llegar a enviarse (límite de concurrencia alcanzado o circuit breaker
+ * abierto). Indica cuándo tiene sentido reintentar.
+ */
+public class RemoteUnavailableException extends RemoteClientException {
+
+	private static final long serialVersionUID = 4127389550218346201L;
+
+	private final Duration retryAfter;
+
+	public RemoteUnavailableException(String message, Duration retryAfter) {
+		super(message);
+		this.retryAfter = retryAfter;
+	}
+
+	/**
+	 * @return espera recomendada antes de reintentar
+	 */
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+
+	/**
+	 * @return espera recomendada redondeada hacia arriba a segundos (mínimo 1)
+	 */
+	public int getRetryAfterSeconds() {
+		long seconds = (retryAfter.toMillis() + 999) / 1000;
+		return (int) Math.max(1, Math.min(Integer.MAX_VALUE, seconds));
+	}
+
+}
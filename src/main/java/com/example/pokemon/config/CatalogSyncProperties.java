@@ -0,0 +1,80 @@
+/**
+ * 
+ */
+package com.example.pokemon.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * CatalogSyncProperties
+ *
+ * Propiedades del job que sincroniza el catálogo completo de PokeAPI con el
+ * dataset local ({@code CatalogSyncJob}).
+ *
+ * Fuente de valores: application.yml → app.catalog-sync.*
+ *
+ * Propiedades:
+ * - enabled: activa la ejecución programada.
+ * - cron: expresión cron de Spring; "-" desactiva la programación.
+ * - pageSize: tamaño de página del listado /pokemon.
+ * - concurrency: Pokémon descargados en paralelo (el límite adaptativo de
+ *   PokeAPI sigue aplicando por encima).
+ * - directory: almacén local con los registros, hashes y checkpoint.
+ *
+ * Ejemplo de configuración en application.yml:
+ *
+ * <pre>
+ * app:
+ *   catalog-sync:
+ *     enabled: true
+ *     cron: "0 0 4 * * *"
+ *     page-size: 100
+ *     concurrency: 8
+ *     directory: ${user.home}/data/pokemon-catalog
+ * </pre>
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.catalog-sync")
+public class CatalogSyncProperties {
+
+	/**
+	 * Activa la sincronización programada. Default: false.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * Cron de la sincronización ("-" = sin programar).
+	 */
+	@NotBlank
+	private String cron = "-";
+
+	/**
+	 * Tamaño de página del listado.
+	 */
+	@Min(1)
+	@Max(1000)
+	private int pageSize = 100;
+
+	/**
+	 * Descargas concurrentes.
+	 */
+	@Min(1)
+	private int concurrency = 8;
+
+	/**
+	 * Directorio del almacén del catálogo.
+	 */
+	@NotNull
+	private Path directory = Path.of(System.getProperty("user.home"), "data", "pokemon-catalog");
+
+}
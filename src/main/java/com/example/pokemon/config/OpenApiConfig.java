@@ -30,7 +30,7 @@ public class OpenApiConfig {
                 .info(new Info()
                         .title("Pokémon SOAP/REST Logs API")
                         .version("1.0.0")
-                        .description("API de administración para consultar logs de requests del servicio SOAP/REST")
+                        .description("API REST de consulta de Pokémon y de administración (logs de requests del servicio SOAP/REST)")
                         .contact(new Contact().name("Equipo Backend").email("dev@example.com"))
                 );
     }
@@ -0,0 +1,62 @@
+/**
+ * 
+ */
+package com.example.pokemon.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * PokeApiDiskCacheProperties
+ *
+ * Propiedades de la caché persistente en disco de respuestas de PokeAPI.
+ *
+ * Fuente de valores: application.yml → app.cache.pokeapi-disk.*
+ *
+ * Propiedades:
+ * - enabled: activa/desactiva la caché en disco.
+ * - directory: directorio donde se guarda un fichero por recurso (URL).
+ * - ttl: tiempo durante el cual una entrada se sirve sin contactar con PokeAPI;
+ *   pasado ese tiempo se revalida con un GET condicional (If-None-Match /
+ *   If-Modified-Since) y un 304 renueva la entrada sin descargar el cuerpo.
+ *
+ * Ejemplo de configuración en application.yml:
+ *
+ * <pre>
+ * app:
+ *   cache:
+ *     pokeapi-disk:
+ *       enabled: true
+ *       directory: ${user.home}/data/pokeapi-cache
+ *       ttl: 24h
+ * </pre>
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.cache.pokeapi-disk")
+public class PokeApiDiskCacheProperties {
+
+	/**
+	 * Activa la caché en disco. Default: true.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Directorio de la caché (se crea si no existe).
+	 */
+	@NotNull
+	private Path directory = Path.of(System.getProperty("user.home"), "data", "pokeapi-cache");
+
+	/**
+	 * Frescura de una entrada antes de revalidarla con PokeAPI.
+	 */
+	@NotNull
+	private Duration ttl = Duration.ofHours(24);
+
+}
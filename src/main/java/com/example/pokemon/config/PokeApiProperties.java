@@ -0,0 +1,330 @@
+/**
+ * 
+ */
+package com.example.pokemon.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * PokeApiProperties
+ *
+ * Propiedades del cliente HTTP hacia PokeAPI ({@link WebClientConfig}).
+ *
+ * Fuente de valores: application.yml → app.pokeapi.*
+ *
+ * Propiedades:
+ * - baseUrl: URL base de la API.
+ * - connectTimeout / responseTimeout: timeouts de conexión y de respuesta.
+ * - http2: negocia HTTP/2 (ALPN) con HTTP/1.1 como alternativa; solo aplica a
+ *   URLs https.
+ * - compression: envía {@code Accept-Encoding: gzip} y descomprime la respuesta.
+ * - pool.*: pool de conexiones con nombre (ver {@link Pool}).
+ * - limiter.*: límite adaptativo de concurrencia saliente (ver {@link Limiter}).
+ * - circuitBreaker.*: circuit breaker por tasa de fallos (ver
+ *   {@link CircuitBreaker}).
+ * - hedging.*: duplicado de llamadas lentas (ver {@link Hedging}).
+ * - retry.*: reintentos de fallos transitorios (ver {@link Retry}).
+ *
+ * Ejemplo de configuración en application.yml:
+ *
+ * <pre>
+ * app:
+ *   pokeapi:
+ *     base-url: https://pokeapi.co/api/v2
+ *     connect-timeout: 5s
+ *     response-timeout: 10s
+ *     http2: false
+ *     compression: true
+ *     pool:
+ *       name: pokeapi
+ *       max-connections: 50
+ *       pending-acquire-max-count: 500
+ *       pending-acquire-timeout: 5s
+ *       max-idle-time: 30s
+ *       max-life-time: 5m
+ *       evict-in-background: 30s
+ *       metrics: true
+ *     limiter:
+ *       enabled: true
+ *       initial-limit: 20
+ *       max-limit: 50
+ *       latency-threshold: 2s
+ *     circuit-breaker:
+ *       enabled: true
+ *       failure-rate-threshold: 50
+ *       open-duration: 30s
+ *     hedging:
+ *       enabled: true
+ *       percentile: 95
+ *       budget-ratio: 0.05
+ *     retry:
+ *       enabled: true
+ *       max-attempts: 3
+ *       base-delay: 100ms
+ *       budget-ratio: 0.1
+ * </pre>
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.pokeapi")
+public class PokeApiProperties {
+
+	/**
+	 * URL base de PokeAPI.
+	 */
+	@NotBlank
+	private String baseUrl = "https://pokeapi.co/api/v2";
+
+	/**
+	 * Timeout de establecimiento de conexión TCP.
+	 */
+	@NotNull
+	private Duration connectTimeout = Duration.ofSeconds(5);
+
+	/**
+	 * Timeout entre el envío de la petición y la recepción de la respuesta.
+	 */
+	@NotNull
+	private Duration responseTimeout = Duration.ofSeconds(10);
+
+	/**
+	 * Opt-in de HTTP/2 (h2 + http/1.1 por ALPN). Default: false.
+	 */
+	private boolean http2 = false;
+
+	/**
+	 * Opt-in de compresión gzip de respuestas. Default: false.
+	 */
+	private boolean compression = false;
+
+	/**
+	 * Pool de conexiones.
+	 */
+	@Valid
+	@NotNull
+	private Pool pool = new Pool();
+
+	/**
+	 * Límite adaptativo de concurrencia.
+	 */
+	@Valid
+	@NotNull
+	private Limiter limiter = new Limiter();
+
+	/**
+	 * Circuit breaker.
+	 */
+	@Valid
+	@NotNull
+	private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+	/**
+	 * Hedging de llamadas lentas.
+	 */
+	@Valid
+	@NotNull
+	private Hedging hedging = new Hedging();
+
+	/**
+	 * Reintentos de GET ante 5xx y errores de red.
+	 */
+	@Valid
+	@NotNull
+	private Retry retry = new Retry();
+
+	/**
+	 * Pool de conexiones de Reactor Netty ({@code ConnectionProvider}).
+	 *
+	 * - name: nombre del pool (etiqueta {@code name} de las métricas).
+	 * - maxConnections: conexiones simultáneas máximas.
+	 * - pendingAcquireMaxCount: peticiones en cola esperando conexión; al
+	 *   superarlo se rechazan en lugar de acumular latencia.
+	 * - pendingAcquireTimeout: espera máxima por una conexión libre.
+	 * - maxIdleTime: cierre de conexiones ociosas (antes de que lo haga el
+	 *   servidor o un balanceador intermedio).
+	 * - maxLifeTime: vida máxima de una conexión (reparte carga tras cambios de DNS).
+	 * - evictInBackground: periodo de la limpieza en segundo plano (0 = desactivada).
+	 * - metrics: publica en Micrometer las conexiones activas, ociosas y pendientes.
+	 */
+	@Data
+	public static class Pool {
+
+		@NotBlank
+		private String name = "pokeapi";
+
+		@Min(1)
+		private int maxConnections = 50;
+
+		@Min(1)
+		private int pendingAcquireMaxCount = 500;
+
+		@NotNull
+		private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+		@NotNull
+		private Duration maxIdleTime = Duration.ofSeconds(30);
+
+		@NotNull
+		private Duration maxLifeTime = Duration.ofMinutes(5);
+
+		@NotNull
+		private Duration evictInBackground = Duration.ofSeconds(30);
+
+		private boolean metrics = true;
+
+	}
+
+	/**
+	 * Límite adaptativo (AIMD) de llamadas concurrentes a PokeAPI.
+	 *
+	 * - initialLimit / minLimit / maxLimit: límite de partida y sus cotas
+	 *   (maxLimit no debería superar pool.maxConnections).
+	 * - latencyThreshold: una respuesta más lenta reduce el límite.
+	 * - backoffRatio: factor multiplicativo de reducción (0..1).
+	 * - retryAfter: espera sugerida al cliente cuando se rechaza por límite.
+	 */
+	@Data
+	public static class Limiter {
+
+		private boolean enabled = true;
+
+		@Min(1)
+		private int initialLimit = 20;
+
+		@Min(1)
+		private int minLimit = 1;
+
+		@Min(1)
+		private int maxLimit = 50;
+
+		@NotNull
+		private Duration latencyThreshold = Duration.ofSeconds(2);
+
+		@DecimalMin(value = "0.0", inclusive = false)
+		@DecimalMax(value = "1.0", inclusive = false)
+		private double backoffRatio = 0.9;
+
+		@NotNull
+		private Duration retryAfter = Duration.ofSeconds(1);
+
+	}
+
+	/**
+	 * Circuit breaker por tasa de fallos.
+	 *
+	 * - windowSize: últimas llamadas consideradas.
+	 * - minimumCalls: llamadas mínimas en la ventana antes de evaluar.
+	 * - failureRateThreshold: porcentaje de fallos que abre el circuito.
+	 * - openDuration: tiempo abierto antes de dejar pasar llamadas de prueba.
+	 * - halfOpenCalls: llamadas de prueba que deben ir bien para cerrarlo.
+	 */
+	@Data
+	public static class CircuitBreaker {
+
+		private boolean enabled = true;
+
+		@Min(1)
+		private int windowSize = 20;
+
+		@Min(1)
+		private int minimumCalls = 10;
+
+		@DecimalMin(value = "0.0", inclusive = false)
+		@DecimalMax("100.0")
+		private double failureRateThreshold = 50;
+
+		@NotNull
+		private Duration openDuration = Duration.ofSeconds(30);
+
+		@Min(1)
+		private int halfOpenCalls = 3;
+
+	}
+
+	/**
+	 * Hedging: si una llamada supera el percentil de latencia, se envía un
+	 * duplicado y gana la primera respuesta.
+	 *
+	 * - percentile: percentil (0..100] de las latencias recientes que dispara el
+	 *   duplicado.
+	 * - minDelay: retardo mínimo antes de duplicar.
+	 * - initialDelay: retardo mientras no hay minSamples muestras.
+	 * - windowSize / minSamples: ventana de latencias observadas.
+	 * - budgetRatio: fracción máxima del tráfico que pueden ser duplicados.
+	 * - budgetBurst: duplicados permitidos en ráfaga (capacidad del bucket).
+	 */
+	@Data
+	public static class Hedging {
+
+		private boolean enabled = false;
+
+		@DecimalMin(value = "0.0", inclusive = false)
+		@DecimalMax("100.0")
+		private double percentile = 95;
+
+		@NotNull
+		private Duration minDelay = Duration.ofMillis(50);
+
+		@NotNull
+		private Duration initialDelay = Duration.ofSeconds(1);
+
+		@Min(1)
+		private int windowSize = 512;
+
+		@Min(1)
+		private int minSamples = 20;
+
+		@DecimalMin("0.0")
+		@DecimalMax("1.0")
+		private double budgetRatio = 0.05;
+
+		@DecimalMin("0.0")
+		private double budgetBurst = 5;
+
+	}
+
+	/**
+	 * Reintentos con backoff exponencial y "full jitter": la espera antes del
+	 * reintento n es aleatoria en [0, min(maxDelay, baseDelay · 2^(n-1))].
+	 *
+	 * - maxAttempts: intentos totales, incluido el primero.
+	 * - baseDelay / maxDelay: escala y tope del backoff.
+	 * - budgetRatio: reintentos permitidos por llamada (0.1 = un 10 % extra como
+	 *   máximo), para no multiplicar la carga durante una caída.
+	 * - budgetBurst: reintentos permitidos en ráfaga (capacidad del bucket).
+	 */
+	@Data
+	public static class Retry {
+
+		private boolean enabled = true;
+
+		@Min(1)
+		private int maxAttempts = 3;
+
+		@NotNull
+		private Duration baseDelay = Duration.ofMillis(100);
+
+		@NotNull
+		private Duration maxDelay = Duration.ofSeconds(2);
+
+		@DecimalMin("0.0")
+		@DecimalMax("1.0")
+		private double budgetRatio = 0.1;
+
+		@DecimalMin("0.0")
+		private double budgetBurst = 10;
+
+	}
+
+}
@@ -0,0 +1,206 @@
+/**
+ * 
+ */
+package com.example.pokemon.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * PokemonCacheProperties
+ *
+ * Propiedades de la caché en memoria de agregados {@code Pokemon}.
+ *
+ * Fuente de valores: application.yml → app.cache.pokemon.*
+ *
+ * Propiedades:
+ * - enabled: activa/desactiva la caché (si es false, cada consulta va a PokeAPI).
+ * - maximumSize: número máximo de entradas; al superarlo se expulsan las menos
+ *   frecuentes (W-TinyLFU de Caffeine).
+ * - ttl: TTL "blando" de una entrada positiva; pasado este tiempo se sirve como
+ *   STALE y se refresca en segundo plano.
+ * - hardTtl: TTL "duro"; pasado este tiempo el llamador espera la recarga.
+ * - staleIfError: retención extra tras hardTtl para servir datos DEGRADED si
+ *   PokeAPI falla.
+ * - refreshThreads: hilos para los refrescos en segundo plano.
+ * - negativeTtl: tiempo de vida de un "no encontrado" (caché negativa), corto
+ *   para que un Pokémon nuevo aparezca pronto.
+ * - offHeap: segundo nivel opcional en memoria directa (ver {@link OffHeap}).
+ * - snapshot: volcado al apagar y restauración al arrancar (ver {@link Snapshot}).
+ * - prewarm: precarga de los Pokémon más consultados (ver {@link Prewarm}).
+ *
+ * Ejemplo de configuración en application.yml:
+ *
+ * <pre>
+ * app:
+ *   cache:
+ *     pokemon:
+ *       enabled: true
+ *       maximum-size: 2000
+ *       ttl: 1h
+ *       hard-ttl: 24h
+ *       stale-if-error: 7d
+ *       negative-ttl: 30s
+ *       off-heap:
+ *         enabled: true
+ *         capacity: 64MB
+ * </pre>
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.cache.pokemon")
+public class PokemonCacheProperties {
+
+	/**
+	 * Activa la caché de Pokémon. Default: true.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Máximo de entradas (positivas + negativas) retenidas en memoria.
+	 */
+	@Min(1)
+	private long maximumSize = 2_000;
+
+	/**
+	 * TTL blando de una entrada positiva (datos de PokeAPI prácticamente
+	 * estáticos).
+	 */
+	@NotNull
+	private Duration ttl = Duration.ofHours(1);
+
+	/**
+	 * TTL duro: hasta aquí se sirven datos caducados sin esperar (STALE). Si es
+	 * menor que {@code ttl} se usa {@code ttl}.
+	 */
+	@NotNull
+	private Duration hardTtl = Duration.ofHours(24);
+
+	/**
+	 * Tiempo tras {@code hardTtl} durante el que se conserva la entrada para
+	 * servirla como DEGRADED si PokeAPI no responde.
+	 */
+	@NotNull
+	private Duration staleIfError = Duration.ofDays(7);
+
+	/**
+	 * Hilos dedicados a refrescar entradas caducadas en segundo plano.
+	 */
+	@Min(1)
+	private int refreshThreads = 4;
+
+	/**
+	 * TTL de una entrada negativa ({@code PokemonNotFoundException}).
+	 */
+	@NotNull
+	private Duration negativeTtl = Duration.ofSeconds(30);
+
+	/**
+	 * Segundo nivel fuera del heap.
+	 */
+	@Valid
+	@NotNull
+	private OffHeap offHeap = new OffHeap();
+
+	/**
+	 * Snapshot de la caché entre reinicios.
+	 */
+	@Valid
+	@NotNull
+	private Snapshot snapshot = new Snapshot();
+
+	/**
+	 * Precalentamiento a partir del historial de peticiones.
+	 */
+	@Valid
+	@NotNull
+	private Prewarm prewarm = new Prewarm();
+
+	/**
+	 * Nivel de caché fuera del heap ({@code ByteBuffer.allocateDirect}) para las
+	 * entradas expulsadas del nivel en heap.
+	 *
+	 * - enabled: activa el nivel. Default: false.
+	 * - capacity: presupuesto fijo de memoria directa, reservado al arrancar.
+	 *   Debe caber en {@code -XX:MaxDirectMemorySize} junto con los buffers de
+	 *   Netty.
+	 * - segments: número de segmentos; al llenarse se expulsa el más antiguo
+	 *   entero (1/segments de la capacidad).
+	 *
+	 * Cada acierto fuera del heap deserializa la entrada y la promociona (y
+	 * expulsa otra): {@code maximum-size} debe seguir cubriendo el conjunto
+	 * caliente; este nivel retiene la cola larga sin pagarla en old-gen.
+	 */
+	@Data
+	public static class OffHeap {
+
+		private boolean enabled = false;
+
+		@NotNull
+		private DataSize capacity = DataSize.ofMegabytes(64);
+
+		@Min(2)
+		private int segments = 16;
+
+	}
+
+	/**
+	 * Snapshot de la caché ({@code PokemonCacheSnapshot}).
+	 *
+	 * - enabled: vuelca la caché al apagar y la restaura al arrancar, antes de
+	 *   aceptar tráfico. Default: true.
+	 * - path: fichero del snapshot (se reemplaza atómicamente en cada volcado).
+	 */
+	@Data
+	public static class Snapshot {
+
+		private boolean enabled = true;
+
+		@NotNull
+		private Path path = Path.of(System.getProperty("user.home"), "data", "pokemon-cache.snapshot");
+
+	}
+
+	/**
+	 * Precalentamiento de la caché ({@code PokemonCachePrewarmer}) con los
+	 * Pokémon más pedidos según {@code request_log}.
+	 *
+	 * - enabled: precarga al arrancar, antes de la readiness. Default: true.
+	 * - topN: cuántos nombres del historial se precargan.
+	 * - concurrency: consultas simultáneas (el limitador de PokeAPI sigue aplicando).
+	 * - timeBudget: tiempo máximo de la precarga; lo pendiente se descarta.
+	 * - lookback: ventana del historial que se tiene en cuenta.
+	 * - cron: repetición periódica ({@code "-"} = solo al arrancar).
+	 */
+	@Data
+	public static class Prewarm {
+
+		private boolean enabled = true;
+
+		@Min(1)
+		private int topN = 200;
+
+		@Min(1)
+		private int concurrency = 4;
+
+		@NotNull
+		private Duration timeBudget = Duration.ofSeconds(20);
+
+		@NotNull
+		private Duration lookback = Duration.ofDays(30);
+
+		@NotNull
+		private String cron = "0 0 */6 * * *";
+
+	}
+
+}
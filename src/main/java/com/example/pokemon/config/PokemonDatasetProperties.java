@@ -0,0 +1,51 @@
+/**
+ * 
+ */
+package com.example.pokemon.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * PokemonDatasetProperties
+ *
+ * Propiedades del dataset local de Pokémon (fichero binario mapeado en memoria,
+ * generado con {@code PokemonDatasetImporter}).
+ *
+ * Fuente de valores: application.yml → app.dataset.*
+ *
+ * Propiedades:
+ * - enabled: consulta el dataset antes que PokeAPI.
+ * - path: fichero del dataset; si no existe, todas las consultas van a PokeAPI.
+ *
+ * Ejemplo de configuración en application.yml:
+ *
+ * <pre>
+ * app:
+ *   dataset:
+ *     enabled: true
+ *     path: ${user.home}/data/pokemon.dataset
+ * </pre>
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.dataset")
+public class PokemonDatasetProperties {
+
+	/**
+	 * Activa el dataset local. Default: true.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Fichero del dataset.
+	 */
+	@NotNull
+	private Path path = Path.of(System.getProperty("user.home"), "data", "pokemon.dataset");
+
+}
@@ -16,6 +16,13 @@ import org.springframework.context.annotation.Configuration;
  * - Registra y habilita la clase {@link MaskingProperties} para que Spring Boot
  *   vincule automáticamente los valores definidos en application.yml bajo el
  *   prefijo "app.masking" (p.ej. app.masking.max-payload-length).
+ * - Registra {@link PokemonCacheProperties} (prefijo "app.cache.pokemon").
+ * - Registra {@link PokeApiDiskCacheProperties} (prefijo "app.cache.pokeapi-disk").
+ * - Registra {@link PokeApiProperties} (prefijo "app.pokeapi").
+ * - Registra {@link PokemonDatasetProperties} (prefijo "app.dataset").
+ * - Registra {@link CatalogSyncProperties} (prefijo "app.catalog-sync").
+ * - Registra {@link SoapBatchProperties} (prefijo "app.soap.batch").
+ * - Registra {@link SoapResponseCacheProperties} (prefijo "app.soap.response-cache").
  *
  * ¿Por qué una clase separada?
  * - Mantiene el arranque y la configuración limpia y explícita.
@@ -42,12 +49,18 @@ import org.springframework.context.annotation.Configuration;
  * Con esto, tu IDE reconocerá propiedades como:
  * - app.masking.max-payload-length
  * - app.masking.sensitive-keywords
+ * - app.cache.pokemon.maximum-size
+ * - app.cache.pokeapi-disk.directory
+ * - app.pokeapi.pool.max-connections
+ * - app.dataset.path
  */
 @Configuration
-@EnableConfigurationProperties(MaskingProperties.class)
+@EnableConfigurationProperties({ MaskingProperties.class, PokemonCacheProperties.class,
+		PokeApiDiskCacheProperties.class, PokeApiProperties.class, PokemonDatasetProperties.class,
+		CatalogSyncProperties.class, SoapBatchProperties.class, SoapResponseCacheProperties.class })
 public class PropertiesConfig {
 	
 	// Clase de bootstrap sin estado ni beans adicionales.
-    // Su única responsabilidad es habilitar el binding de MaskingProperties.
+    // Su única responsabilidad es habilitar el binding de las propiedades tipadas.
 
 }
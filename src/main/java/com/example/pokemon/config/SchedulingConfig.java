@@ -0,0 +1,20 @@
+/**
+ * 
+ */
+package com.example.pokemon.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig
+ *
+ * Habilita los métodos {@code @Scheduled} (p.ej. la sincronización del
+ * catálogo, {@code app.catalog-sync.cron}). Una tarea con cron "-" no se
+ * programa.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,52 @@
+/**
+ * 
+ */
+package com.example.pokemon.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+/**
+ * SoapBatchProperties
+ *
+ * Propiedades de la operación SOAP {@code PokemonBatchRequest}.
+ *
+ * Fuente de valores: application.yml → app.soap.batch.*
+ *
+ * Propiedades:
+ * - maxNames: nombres máximos por petición; por encima se responde con un
+ *   Fault (el cliente debe trocear).
+ * - concurrency: nombres resueltos en paralelo dentro de una petición (el
+ *   limitador adaptativo de app.pokeapi sigue aplicando entre peticiones).
+ *
+ * Ejemplo de configuración en application.yml:
+ *
+ * <pre>
+ * app:
+ *   soap:
+ *     batch:
+ *       max-names: 200
+ *       concurrency: 8
+ * </pre>
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.soap.batch")
+public class SoapBatchProperties {
+
+	/**
+	 * Nombres máximos por petición batch.
+	 */
+	@Min(1)
+	private int maxNames = 200;
+
+	/**
+	 * Nombres resueltos en paralelo por petición.
+	 */
+	@Min(1)
+	private int concurrency = 8;
+
+}
@@ -0,0 +1,53 @@
+/**
+ * 
+ */
+package com.example.pokemon.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * SoapResponseCacheProperties
+ *
+ * Propiedades de la caché de respuestas SOAP ya serializadas
+ * ({@code SoapResponseCache}).
+ *
+ * Fuente de valores: application.yml → app.soap.response-cache.*
+ *
+ * Propiedades:
+ * - enabled: activa la caché (desactivada por defecto: solo compensa con
+ *   nombres muy repetidos).
+ * - capacity: bytes máximos de payloads retenidos; se expulsan los menos
+ *   usados (W-TinyLFU).
+ *
+ * Ejemplo de configuración en application.yml:
+ *
+ * <pre>
+ * app:
+ *   soap:
+ *     response-cache:
+ *       enabled: true
+ *       capacity: 16MB
+ * </pre>
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.soap.response-cache")
+public class SoapResponseCacheProperties {
+
+	/**
+	 * Activa la caché de respuestas serializadas.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * Bytes máximos de payloads en caché.
+	 */
+	@NotNull
+	private DataSize capacity = DataSize.ofMegabytes(16);
+
+}
@@ -3,8 +3,6 @@
  */
 package com.example.pokemon.config;
 
-import java.time.Duration;
-
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -12,48 +10,93 @@ import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import io.netty.channel.ChannelOption;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * WebClientConfig
  *
  * Configura y expone un bean {@link WebClient} listo para consumir la PokeAPI.
  *
- * - baseUrl: https://pokeapi.co/api/v2
- * - timeouts: conexión y respuesta configurados con Reactor Netty
- * - exchangeStrategies: aumenta el buffer para respuestas JSON grandes
+ * - baseUrl, timeouts, HTTP/2 y compresión: {@link PokeApiProperties}
+ *   (app.pokeapi.*)
+ * - pool de conexiones con nombre y métricas: {@link ConnectionProvider}
+ *   (app.pokeapi.pool.*)
+ * - exchangeStrategies: limita el buffer por elemento decodificado
  *
  * Este bean se inyecta en {@link com.example.pokemon.adapters.out.pokeapi.PokeApiClient}.
  */
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * Pool de conexiones dedicado a PokeAPI.
+     *
+     * - Acota conexiones y cola de espera para que un pico no abra cientos de
+     *   sockets ni acumule latencia sin límite.
+     * - Expulsa conexiones ociosas o demasiado antiguas antes de que el servidor
+     *   las cierre (evita errores "connection reset" al reutilizarlas).
+     * - Con {@code metrics=true} publica en Micrometer
+     *   {@code reactor.netty.connection.provider.active.connections},
+     *   {@code .idle.connections}, {@code .pending.connections}, etc. con la
+     *   etiqueta {@code name} del pool.
+     *
+     * @param properties propiedades app.pokeapi.*
+     * @return proveedor de conexiones (se libera al cerrar el contexto)
+     */
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider pokeApiConnectionProvider(PokeApiProperties properties) {
+        PokeApiProperties.Pool pool = properties.getPool();
+        return ConnectionProvider.builder(pool.getName())
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(pool.isMetrics())
+                .build();
+    }
+
     /**
      * Crea e inyecta un {@link WebClient} configurado para consumir la PokeAPI.
      *
-     * - Usa {@link HttpClient} de Reactor Netty para configurar timeouts de red.
-     * - Usa {@link ExchangeStrategies} para ampliar el tamaño de buffer de
-     *   deserialización (por defecto es pequeño y PokeAPI devuelve JSONs extensos).
+     * - Usa {@link HttpClient} de Reactor Netty sobre el pool
+     *   {@code pokeApiConnectionProvider} para configurar timeouts de red,
+     *   HTTP/2 (opt-in, solo https) y compresión gzip (opt-in).
+     * - Usa {@link ExchangeStrategies} para fijar el tamaño de buffer de
+     *   deserialización. Las respuestas se decodifican en streaming (ver
+     *   {@code StreamingJsonDecoder}), así que basta con 1 MB por elemento en
+     *   lugar de acumular el JSON completo.
      *
+     * @param properties propiedades app.pokeapi.*
+     * @param pokeApiConnectionProvider pool de conexiones dedicado
      * @return una instancia de {@link WebClient} lista para inyección
      */
     @Bean
-    WebClient pokeApiWebClient() {
-    	// Reactor Netty HttpClient con timeouts
-        HttpClient httpClient = HttpClient.create()
-        		.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5_000) // conexión: 5s
-                .responseTimeout(Duration.ofSeconds(10));             // lectura/respuesta: 10s
+    WebClient pokeApiWebClient(PokeApiProperties properties, ConnectionProvider pokeApiConnectionProvider) {
+    	// Reactor Netty HttpClient con timeouts, pool propio y compresión opcional
+        HttpClient httpClient = HttpClient.create(pokeApiConnectionProvider)
+        		.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(properties.getConnectTimeout().toMillis()))
+                .responseTimeout(properties.getResponseTimeout())
+                .compress(properties.isCompression());
+
+        // HTTP/2 se negocia por ALPN, que solo existe sobre TLS
+        if (properties.isHttp2() && properties.getBaseUrl().startsWith("https:")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
 
-        // Ampliar buffer para bodyToMono/bodyToFlux si las respuestas son grandes
+        // Límite por elemento decodificado en memoria (bodyToMono/bodyToFlux)
         ExchangeStrategies exchangeStrategies = ExchangeStrategies.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024)) // 16 MB
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024)) // 1 MB
                 .build();
 
         return WebClient.builder()
-                .baseUrl("https://pokeapi.co/api/v2")
+                .baseUrl(properties.getBaseUrl())
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .exchangeStrategies(exchangeStrategies)
                 .build();
     }
     
-}
\ No newline at end of file
+}
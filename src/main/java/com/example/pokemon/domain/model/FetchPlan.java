@@ -0,0 +1,50 @@
+/**
+ * 
+ */
+package com.example.pokemon.domain.model;
+
+/**
+ * FetchPlan
+ *
+ * Describe qué partes del agregado {@link Pokemon} necesita un llamador, para
+ * que el adaptador de salida solo consulte los recursos remotos imprescindibles.
+ *
+ * - BASE: datos del recurso principal (id, nombre, experiencia base,
+ *   habilidades, ítems). {@code locationAreaEncounters} queda vacío.
+ * - FULL: datos base + encounters (requiere una llamada remota adicional).
+ *
+ * Un agregado obtenido con FULL sirve para cualquier petición BASE, pero no al
+ * revés.
+ */
+public enum FetchPlan {
+
+	/** Solo el recurso principal del Pokémon. */
+	BASE(false),
+
+	/** Recurso principal + lista de encounters. */
+	FULL(true);
+
+	private final boolean encounters;
+
+	FetchPlan(boolean encounters) {
+		this.encounters = encounters;
+	}
+
+	/**
+	 * @return true si el plan requiere la lista de encounters
+	 */
+	public boolean includesEncounters() {
+		return encounters;
+	}
+
+	/**
+	 * Indica si un agregado obtenido con este plan sirve para otro plan.
+	 *
+	 * @param requested plan solicitado por el llamador
+	 * @return true si este plan cubre todas las partes del plan solicitado
+	 */
+	public boolean satisfies(FetchPlan requested) {
+		return encounters || !requested.encounters;
+	}
+
+}
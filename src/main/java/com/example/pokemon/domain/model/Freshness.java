@@ -0,0 +1,25 @@
+/**
+ * 
+ */
+package com.example.pokemon.domain.model;
+
+/**
+ * Freshness
+ *
+ * Frescura de un agregado {@link Pokemon} servido desde caché.
+ *
+ * - FRESH: dentro del TTL (o recién obtenido de PokeAPI).
+ * - STALE: pasado el TTL "blando"; se sirve al momento mientras se refresca en
+ *   segundo plano.
+ * - DEGRADED: pasado el TTL "duro" o con PokeAPI caído; se sirve porque no hay
+ *   nada mejor, y el llamador debe saberlo.
+ */
+public enum Freshness {
+
+	FRESH,
+
+	STALE,
+
+	DEGRADED
+
+}
@@ -0,0 +1,65 @@
+/**
+ * 
+ */
+package com.example.pokemon.domain.model;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * PokemonLookup
+ *
+ * Resultado de una consulta: el agregado {@link Pokemon} junto con su
+ * {@link Freshness} y su antigüedad, para que el adaptador de entrada pueda
+ * avisar al cliente cuando los datos no están al día.
+ *
+ * La versión identifica la carga de la que procede el agregado (cambia en cada
+ * recarga) sin recorrerlo, de modo que un adaptador pueda reutilizar lo que
+ * derivó de él (p.ej. un payload ya serializado).
+ */
+@Value
+@AllArgsConstructor
+public class PokemonLookup {
+
+	/** Versión de un agregado que no viene de la caché (caché desactivada). */
+	public static final long UNVERSIONED = 0;
+
+	/** Agregado de dominio. */
+	Pokemon pokemon;
+
+	/** Frescura de los datos servidos. */
+	Freshness freshness;
+
+	/** Tiempo transcurrido desde que se obtuvieron de PokeAPI. */
+	Duration age;
+
+	/** Versión de la carga; {@link #UNVERSIONED} si no se puede identificar. */
+	long version;
+
+	/**
+	 * @param pokemon   agregado de dominio
+	 * @param freshness frescura de los datos servidos
+	 * @param age       tiempo transcurrido desde la carga
+	 */
+	public PokemonLookup(Pokemon pokemon, Freshness freshness, Duration age) {
+		this(pokemon, freshness, age, UNVERSIONED);
+	}
+
+	/**
+	 * @param pokemon agregado recién obtenido o dentro de su TTL
+	 * @return resultado FRESH con antigüedad cero
+	 */
+	public static PokemonLookup fresh(Pokemon pokemon) {
+		return new PokemonLookup(pokemon, Freshness.FRESH, Duration.ZERO);
+	}
+
+	/**
+	 * @return true si los datos están pasados de TTL (STALE o DEGRADED)
+	 */
+	public boolean isStale() {
+		return freshness != Freshness.FRESH;
+	}
+
+}
@@ -5,7 +5,11 @@ package com.example.pokemon.domain.ports.in;
 
 import java.util.List;
 
+import com.example.pokemon.domain.model.FetchPlan;
 import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.model.PokemonLookup;
+
+import reactor.core.publisher.Mono;
 
 /**
  * Caso de uso de consulta de Pokémon.
@@ -13,12 +17,22 @@ import com.example.pokemon.domain.model.Pokemon;
  * Este puerto define las operaciones de lectura que el mundo exterior (por
  * ejemplo, el endpoint SOAP) puede invocar.
  *
- * Contrato: - Cada método realiza una consulta en tiempo real contra la
- * PokeAPI. - Si el nombre de Pokémon es nulo o vacío, se lanzará
- * IllegalArgumentException. - Si el Pokémon no existe, la implementación
- * lanzará PokemonNotFoundException. - Si ocurre un problema de red o servidor
- * remoto, lanzará RemoteClientException. - Las colecciones devueltas son
- * inmutables para proteger el dominio.
+ * Contrato:
+ * - Los datos se sirven desde la caché en memoria (con stale-while-revalidate
+ *   y stale-if-error), desde el dataset local si está activo, o consultando
+ *   PokeAPI cuando no hay copia válida. Un id numérico ya visto se resuelve
+ *   por su nombre canónico (índice de alias).
+ * - Si el nombre de Pokémon es nulo o vacío, se lanzará
+ *   IllegalArgumentException.
+ * - Si el Pokémon no existe, la implementación lanzará
+ *   PokemonNotFoundException (también cacheado durante un tiempo corto).
+ * - Si ocurre un problema de red o servidor remoto y no hay copia local que
+ *   servir, lanzará RemoteClientException.
+ * - Las colecciones devueltas son inmutables para proteger el dominio.
+ *
+ * Variantes reactivas ({@code *Reactive}): mismas reglas, pero las
+ * excepciones llegan como señal de error del {@link Mono} y ninguna llamada
+ * bloquea el hilo que se suscribe (aptas para el event loop).
  */
 public interface QueryPokemonUseCase {
 
@@ -30,6 +44,47 @@ public interface QueryPokemonUseCase {
 	 */
 	Pokemon getPokemon(String name);
 
+	/**
+	 * Obtiene el agregado de dominio limitado a las partes descritas por el plan.
+	 *
+	 * Con {@link FetchPlan#BASE} la lista de encounters del agregado queda vacía y
+	 * no se consulta el recurso remoto de encounters.
+	 *
+	 * @param name nombre del Pokémon (no nulo/ni vacío)
+	 * @param plan partes del agregado que necesita el llamador
+	 * @return agregado de dominio {@link Pokemon}
+	 */
+	Pokemon getPokemon(String name, FetchPlan plan);
+
+	/**
+	 * Igual que {@link #getPokemon(String, FetchPlan)}, pero indica además si los
+	 * datos vienen de caché caducada (STALE) o se sirven porque PokeAPI no está
+	 * disponible (DEGRADED), para que el adaptador de entrada pueda avisar al
+	 * cliente.
+	 *
+	 * @param name nombre del Pokémon (no nulo/ni vacío)
+	 * @param plan partes del agregado que necesita el llamador
+	 * @return agregado de dominio con su frescura
+	 */
+	PokemonLookup lookup(String name, FetchPlan plan);
+
+	/**
+	 * Variante no bloqueante de {@link #lookup(String, FetchPlan)}.
+	 *
+	 * @param name nombre del Pokémon (no nulo/ni vacío)
+	 * @param plan partes del agregado que necesita el llamador
+	 * @return Mono diferido con el agregado y su frescura
+	 */
+	Mono<PokemonLookup> lookupReactive(String name, FetchPlan plan);
+
+	/**
+	 * Variante no bloqueante de {@link #getPokemon(String)}.
+	 *
+	 * @param name nombre del Pokémon (no nulo/ni vacío)
+	 * @return Mono diferido con el agregado de dominio completo
+	 */
+	Mono<Pokemon> getPokemonReactive(String name);
+
 	/**
 	 * Habilidades del Pokémon.Obtiene la lista de habilidades del Pokémon.
 	 * 
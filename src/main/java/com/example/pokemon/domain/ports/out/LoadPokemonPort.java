@@ -3,13 +3,51 @@
  */
 package com.example.pokemon.domain.ports.out;
 
+import com.example.pokemon.domain.model.FetchPlan;
 import com.example.pokemon.domain.model.Pokemon;
 
+import reactor.core.publisher.Mono;
+
 /**
- * 
+ * LoadPokemonPort
+ *
+ * Puerto de salida para obtener el agregado {@link Pokemon} de una fuente
+ * externa (PokeAPI, dataset local...). El servicio de aplicación depende de
+ * este puerto y no de un adaptador concreto.
+ *
+ * Contrato:
+ * - Si el Pokémon no existe en la fuente, lanza
+ *   {@code PokemonNotFoundException}.
+ * - Si la fuente no está disponible, lanza {@code RemoteClientException}.
+ * - La variante reactiva señala esas mismas excepciones como error del Mono.
+ * - Cada adaptador decide cómo cumplir la variante reactiva: con E/S no
+ *   bloqueante, leyendo en memoria o, si su carga bloquea, pasándola a un
+ *   scheduler propio. Nunca debe bloquear el hilo que se suscribe.
  */
 public interface LoadPokemonPort {
-	
-	Pokemon loadByName(String name);
+
+	/**
+	 * @param name nombre normalizado o tal como lo envió el cliente
+	 * @return agregado completo (datos base + encounters)
+	 */
+	default Pokemon loadByName(String name) {
+		return loadByName(name, FetchPlan.FULL);
+	}
+
+	/**
+	 * @param name nombre normalizado o tal como lo envió el cliente
+	 * @param plan partes del agregado que necesita el llamador
+	 * @return agregado con, al menos, las partes del plan
+	 */
+	Pokemon loadByName(String name, FetchPlan plan);
+
+	/**
+	 * Variante no bloqueante de {@link #loadByName(String, FetchPlan)}.
+	 *
+	 * @param name nombre normalizado o tal como lo envió el cliente
+	 * @param plan partes del agregado que necesita el llamador
+	 * @return Mono diferido con el agregado
+	 */
+	Mono<Pokemon> loadByNameReactive(String name, FetchPlan plan);
 
 }
@@ -0,0 +1,26 @@
+/**
+ * 
+ */
+package com.example.pokemon.domain.ports.out;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * RequestHistoryPort
+ *
+ * Puerto de salida para consultar la demanda histórica de Pokémon (registro de
+ * peticiones). Impl: RequestLogPersistenceAdapter.
+ */
+public interface RequestHistoryPort {
+
+	/**
+	 * Pokémon más consultados en la ventana indicada.
+	 *
+	 * @param since inicio de la ventana de historial
+	 * @param limit tamaño máximo del top
+	 * @return nombres normalizados, de más a menos consultado
+	 */
+	List<String> findTopRequestedNames(OffsetDateTime since, int limit);
+
+}
@@ -0,0 +1,131 @@
+package com.example.pokemon.adapters.in.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.pokemon.application.cache.PokemonAliasIndex;
+import com.example.pokemon.application.cache.PokemonCache;
+import com.example.pokemon.application.service.QueryPokemonService;
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.common.exceptions.RemoteUnavailableException;
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.ports.out.BlockingLoadPokemonPort;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+class PokemonControllerTest {
+
+	private final List<FetchPlan> loads = new ArrayList<>();
+
+	private MockMvc mockMvc(BlockingLoadPokemonPort port) {
+		PokemonCache cache = new PokemonCache(new PokemonCacheProperties(),
+				new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+		PokemonController controller = new PokemonController(
+				new QueryPokemonService(port, cache, new PokemonAliasIndex()));
+		return MockMvcBuilders.standaloneSetup(controller)
+				.setControllerAdvice(new PokemonRestExceptionHandler())
+				.build();
+	}
+
+	private MockMvc pikachu() {
+		return mockMvc((name, plan) -> {
+			if (!name.equals("pikachu")) {
+				throw new PokemonNotFoundException("Pokémon not found: " + name);
+			}
+			loads.add(plan);
+			Pokemon.PokemonBuilder pokemon = Pokemon.builder().id(25).name("pikachu").baseExperience(112)
+					.ability("static").ability("lightning-rod").heldItem("oran-berry");
+			if (plan == FetchPlan.FULL) {
+				pokemon.encounter("viridian-forest-area");
+			}
+			return pokemon.build();
+		});
+	}
+
+	private static ResultActions perform(MockMvc mockMvc, String uri) throws Exception {
+		MvcResult result = mockMvc.perform(get(uri)).andExpect(request().asyncStarted()).andReturn();
+		return mockMvc.perform(asyncDispatch(result));
+	}
+
+	@Test
+	void returnsTheAggregateAsJson() throws Exception {
+		perform(pikachu(), "/api/pokemon/Pikachu")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(25))
+				.andExpect(jsonPath("$.name").value("pikachu"))
+				.andExpect(jsonPath("$.baseExperience").value(112))
+				.andExpect(jsonPath("$.abilities[1]").value("lightning-rod"))
+				.andExpect(jsonPath("$.heldItems[0]").value("oran-berry"))
+				.andExpect(jsonPath("$.locationAreaEncounters").isEmpty())
+				.andExpect(header().doesNotExist(PokemonController.FRESHNESS_HEADER));
+
+		assertThat(loads).containsExactly(FetchPlan.BASE);
+	}
+
+	@Test
+	void fieldSubresourcesUseTheSameFetchPlanAsSoap() throws Exception {
+		MockMvc mockMvc = pikachu();
+
+		perform(mockMvc, "/api/pokemon/pikachu/abilities")
+				.andExpect(jsonPath("$.abilities[0]").value("static"));
+		perform(mockMvc, "/api/pokemon/pikachu/base-experience")
+				.andExpect(jsonPath("$.baseExperience").value(112));
+		perform(mockMvc, "/api/pokemon/pikachu/location-area-encounters")
+				.andExpect(jsonPath("$.locationAreaEncounters[0]").value("viridian-forest-area"));
+
+		// BASE una vez (las demás desde caché) y el FULL que añade las ubicaciones
+		assertThat(loads).containsExactly(FetchPlan.BASE, FetchPlan.FULL);
+	}
+
+	@Test
+	void missingFieldsAreReturnedAsJsonNull() throws Exception {
+		MockMvc mockMvc = mockMvc((name, plan) -> Pokemon.builder().name(name).build());
+
+		perform(mockMvc, "/api/pokemon/pikachu-rock-star/base-experience")
+				.andExpect(status().isOk())
+				.andExpect(content().string("{\"baseExperience\":null}"));
+		perform(mockMvc, "/api/pokemon/pikachu-rock-star/id")
+				.andExpect(status().isOk())
+				.andExpect(content().string("{\"id\":null}"));
+	}
+
+	@Test
+	void unknownPokemonIsNotFound() throws Exception {
+		perform(pikachu(), "/api/pokemon/missingno")
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.errorMessage").value("Pokémon no encontrado"))
+				.andExpect(jsonPath("$.cause").value("Pokémon not found: missingno"));
+	}
+
+	@Test
+	void saturatedUpstreamIsServiceUnavailableWithRetryAfter() throws Exception {
+		MockMvc mockMvc = mockMvc((name, plan) -> {
+			throw new RemoteUnavailableException("PokeAPI concurrency limit reached", Duration.ofSeconds(2));
+		});
+
+		perform(mockMvc, "/api/pokemon/pikachu/id")
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string("Retry-After", "2"))
+				.andExpect(jsonPath("$.retryAfterSeconds").value(2));
+	}
+
+}
@@ -0,0 +1,155 @@
+package com.example.pokemon.adapters.in.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+import com.example.pokemon.adapters.in.soap.PokemonEndpoint;
+import com.example.pokemon.adapters.in.soap.SoapResponseCache;
+import com.example.pokemon.application.cache.PokemonAliasIndex;
+import com.example.pokemon.application.cache.PokemonCache;
+import com.example.pokemon.application.service.QueryPokemonService;
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.config.SoapBatchProperties;
+import com.example.pokemon.config.SoapResponseCacheProperties;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.ports.out.BlockingLoadPokemonPort;
+import com.example.pokemon.soap.schemas.PokemonSummaryRequest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * CPU por petición y throughput de la consulta de un Pokémon por SOAP
+ * ({@code PokemonSummaryRequest}) frente a REST/JSON
+ * ({@code GET /api/pokemon/{name}}), con la caché caliente: lo que se mide es
+ * el coste del protocolo, no el de PokeAPI.
+ *
+ * - SOAP: parseo del sobre (SAAJ), unmarshalling JAXB, endpoint, marshalling
+ *   y serialización, como en {@code MessageDispatcher}.
+ * - REST: {@code DispatcherServlet} de Spring MVC (MockMvc), incluido el
+ *   despacho asíncrono del {@code Mono}, y serialización Jackson.
+ *
+ * La CPU se mide con {@link ThreadMXBean#getCurrentThreadCpuTime()} en el
+ * hilo que ejecuta las peticiones (todo el trabajo ocurre en él al estar la
+ * caché caliente).
+ *
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=PokemonProtocolBenchmark}
+ */
+@Tag("benchmark")
+class PokemonProtocolBenchmark {
+
+	private static final int WARMUP = 2_000;
+	private static final int REQUESTS = 10_000;
+
+	private static final byte[] SOAP_REQUEST = ("<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\""
+			+ " xmlns:pok=\"http://example.com/pokemon/soap/schemas\"><soapenv:Body>"
+			+ "<pok:PokemonSummaryRequest><pok:name>pikachu</pok:name></pok:PokemonSummaryRequest>"
+			+ "</soapenv:Body></soapenv:Envelope>").getBytes(StandardCharsets.UTF_8);
+
+	private final SaajSoapMessageFactory messageFactory = newMessageFactory();
+	private final Jaxb2Marshaller marshaller = newMarshaller();
+
+	private static SaajSoapMessageFactory newMessageFactory() {
+		SaajSoapMessageFactory factory = new SaajSoapMessageFactory();
+		factory.afterPropertiesSet();
+		return factory;
+	}
+
+	private static Jaxb2Marshaller newMarshaller() {
+		Jaxb2Marshaller marshaller = new Jaxb2Marshaller();
+		marshaller.setPackagesToScan("com.example.pokemon.soap.schemas");
+		try {
+			marshaller.afterPropertiesSet();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return marshaller;
+	}
+
+	@Test
+	void restCostsLessCpuPerRequestThanSoap() throws Exception {
+		PokemonCache cache = new PokemonCache(new PokemonCacheProperties(),
+				new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+		BlockingLoadPokemonPort port = (name, plan) -> Pokemon.builder().id(25).name("pikachu").baseExperience(112)
+				.ability("static").ability("lightning-rod").heldItem("oran-berry").heldItem("light-ball")
+				.encounter("viridian-forest-area").encounter("power-plant-area").build();
+		QueryPokemonService service = new QueryPokemonService(port, cache, new PokemonAliasIndex());
+		PokemonEndpoint endpoint = new PokemonEndpoint(service, new SoapBatchProperties(),
+				new SoapResponseCache(new SoapResponseCacheProperties(),
+						new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PokemonController(service))
+				.setControllerAdvice(new PokemonRestExceptionHandler())
+				.build();
+
+		// Calentamiento (JIT, SAAJ/JAXB, Jackson) y caché caliente
+		Result soap = run(WARMUP, () -> soap(endpoint));
+		Result rest = run(WARMUP, () -> rest(mockMvc));
+
+		soap = run(REQUESTS, () -> soap(endpoint));
+		rest = run(REQUESTS, () -> rest(mockMvc));
+
+		System.out.printf("%,d peticiones: SOAP %,.1f µs CPU/petición, %,.0f peticiones/s, %,d bytes/respuesta;"
+				+ " REST %,.1f µs CPU/petición, %,.0f peticiones/s, %,d bytes/respuesta%n", REQUESTS,
+				soap.cpuMicrosPerRequest(), soap.throughput(), soap.bytes(),
+				rest.cpuMicrosPerRequest(), rest.throughput(), rest.bytes());
+
+		assertThat(rest.cpuMicrosPerRequest()).isLessThan(soap.cpuMicrosPerRequest());
+		assertThat(rest.bytes()).isLessThan(soap.bytes());
+	}
+
+	private int soap(PokemonEndpoint endpoint) throws Exception {
+		WebServiceMessage request = messageFactory.createWebServiceMessage(new ByteArrayInputStream(SOAP_REQUEST));
+		MessageContext context = new DefaultMessageContext(request, messageFactory);
+		PokemonSummaryRequest payload = (PokemonSummaryRequest) marshaller.unmarshal(request.getPayloadSource());
+		marshaller.marshal(endpoint.summary(payload, context), context.getResponse().getPayloadResult());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		context.getResponse().writeTo(out);
+		return out.size();
+	}
+
+	private static int rest(MockMvc mockMvc) throws Exception {
+		MvcResult result = mockMvc.perform(get("/api/pokemon/pikachu").param("includeEncounters", "true"))
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(result)).andReturn().getResponse().getContentAsByteArray().length;
+	}
+
+	private static Result run(int requests, Call call) throws Exception {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		int bytes = 0;
+		long cpuStart = threads.getCurrentThreadCpuTime();
+		long start = System.nanoTime();
+		for (int i = 0; i < requests; i++) {
+			bytes = call.invoke();
+		}
+		long elapsed = System.nanoTime() - start;
+		long cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+		return new Result(cpu / 1_000.0 / requests, requests * 1_000_000_000.0 / elapsed, bytes);
+	}
+
+	private record Result(double cpuMicrosPerRequest, double throughput, int bytes) {
+	}
+
+	@FunctionalInterface
+	private interface Call {
+		int invoke() throws Exception;
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.example.pokemon.adapters.in.soap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+import com.example.pokemon.domain.model.Freshness;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.model.PokemonLookup;
+
+class DataFreshnessHeaderTest {
+
+	private static final Pokemon PIKACHU = Pokemon.builder().id(25).name("pikachu").build();
+
+	private final SaajSoapMessageFactory messageFactory = newMessageFactory();
+
+	private static SaajSoapMessageFactory newMessageFactory() {
+		SaajSoapMessageFactory factory = new SaajSoapMessageFactory();
+		factory.afterPropertiesSet();
+		return factory;
+	}
+
+	private String response(PokemonLookup lookup) throws Exception {
+		MessageContext context = new DefaultMessageContext(messageFactory);
+		DataFreshnessHeader.addTo(context, lookup);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		context.getResponse().writeTo(out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void degradedDataIsFlaggedInTheSoapHeader() throws Exception {
+		String xml = response(new PokemonLookup(PIKACHU, Freshness.DEGRADED, Duration.ofHours(30)));
+
+		assertThat(xml).containsPattern("Header>.*DataFreshness")
+				.contains("status>DEGRADED<")
+				.contains("ageSeconds>108000<");
+	}
+
+	@Test
+	void freshDataHasNoHeader() throws Exception {
+		String xml = response(PokemonLookup.fresh(PIKACHU));
+
+		assertThat(xml).doesNotContain("DataFreshness");
+	}
+
+}
@@ -0,0 +1,179 @@
+package com.example.pokemon.adapters.in.soap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+import com.example.pokemon.application.cache.PokemonAliasIndex;
+import com.example.pokemon.application.cache.PokemonCache;
+import com.example.pokemon.application.service.QueryPokemonService;
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.config.SoapBatchProperties;
+import com.example.pokemon.config.SoapResponseCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.ports.out.LoadPokemonPort;
+import com.example.pokemon.soap.schemas.AbilitiesRequest;
+import com.example.pokemon.soap.schemas.AbilitiesResponse;
+import com.example.pokemon.soap.schemas.BaseExperienceRequest;
+import com.example.pokemon.soap.schemas.BaseExperienceResponse;
+import com.example.pokemon.soap.schemas.PokemonBatchRequest;
+import com.example.pokemon.soap.schemas.PokemonBatchResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Throughput de {@code PokemonBatchRequest} frente al bucle de peticiones
+ * sueltas que hacen hoy los clientes de integración (Abilities +
+ * BaseExperience por nombre).
+ *
+ * Cada petición recorre el camino de {@code MessageDispatcher}: parseo del
+ * sobre SOAP (SAAJ), unmarshalling JAXB, endpoint, marshalling de la
+ * respuesta y serialización. PokeAPI se simula con una latencia fija por
+ * carga y la caché está desactivada (nombres que no están en caché).
+ *
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=PokemonBatchBenchmark}
+ */
+@Tag("benchmark")
+class PokemonBatchBenchmark {
+
+	private static final int NAMES = 200;
+	private static final long REMOTE_LATENCY_MS = 5;
+
+	private static final String ENVELOPE = "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\""
+			+ " xmlns:pok=\"http://example.com/pokemon/soap/schemas\"><soapenv:Body>%s</soapenv:Body></soapenv:Envelope>";
+
+	private final SaajSoapMessageFactory messageFactory = newMessageFactory();
+	private final Jaxb2Marshaller marshaller = newMarshaller();
+
+	private static SaajSoapMessageFactory newMessageFactory() {
+		SaajSoapMessageFactory factory = new SaajSoapMessageFactory();
+		factory.afterPropertiesSet();
+		return factory;
+	}
+
+	private static Jaxb2Marshaller newMarshaller() {
+		Jaxb2Marshaller marshaller = new Jaxb2Marshaller();
+		marshaller.setPackagesToScan("com.example.pokemon.soap.schemas");
+		try {
+			marshaller.afterPropertiesSet();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return marshaller;
+	}
+
+	@Test
+	void batchBeatsOneRequestPerName() throws Exception {
+		PokemonCacheProperties cacheProperties = new PokemonCacheProperties();
+		cacheProperties.setEnabled(false);
+		PokemonCache cache = new PokemonCache(cacheProperties,
+				new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+		// Latencia remota asíncrona, como la de PokeApiClient: el batch no ocupa un hilo por nombre
+		LoadPokemonPort port = new LoadPokemonPort() {
+			@Override
+			public Pokemon loadByName(String name, FetchPlan plan) {
+				return loadByNameReactive(name, plan).block();
+			}
+
+			@Override
+			public Mono<Pokemon> loadByNameReactive(String name, FetchPlan plan) {
+				return Mono.delay(Duration.ofMillis(REMOTE_LATENCY_MS)).map(tick -> pokemon(name));
+			}
+		};
+		PokemonEndpoint endpoint = new PokemonEndpoint(new QueryPokemonService(port, cache, new PokemonAliasIndex()),
+				new SoapBatchProperties(), new SoapResponseCache(
+				new SoapResponseCacheProperties(), new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)));
+
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < NAMES; i++) {
+			names.add("pokemon-" + i);
+		}
+
+		// Calentamiento de SAAJ/JAXB
+		singles(endpoint, names.subList(0, 20));
+		batch(endpoint, names.subList(0, 20));
+
+		long start = System.nanoTime();
+		int singleBytes = singles(endpoint, names);
+		long singleMillis = (System.nanoTime() - start) / 1_000_000;
+
+		start = System.nanoTime();
+		int batchBytes = batch(endpoint, names);
+		long batchMillis = (System.nanoTime() - start) / 1_000_000;
+
+		System.out.printf("%d nombres: sueltas %d ms (%,d peticiones, %,d bytes), batch %d ms (1 petición, %,d bytes)%n",
+				NAMES, singleMillis, 2 * NAMES, singleBytes, batchMillis, batchBytes);
+
+		assertThat(batchMillis * 5).isLessThan(singleMillis);
+	}
+
+	private static Pokemon pokemon(String name) {
+		return Pokemon.builder().id(name.hashCode() & 0xFFFF).name(name).baseExperience(100)
+				.ability("overgrow").ability("chlorophyll").heldItem("miracle-seed").build();
+	}
+
+	private int singles(PokemonEndpoint endpoint, List<String> names) throws Exception {
+		int bytes = 0;
+		for (String name : names) {
+			bytes += dispatch(request("AbilitiesRequest", "<pok:name>" + name + "</pok:name>"),
+					(AbilitiesRequest r, MessageContext c) -> endpoint.abilities(r, c), AbilitiesResponse.class);
+			bytes += dispatch(request("BaseExperienceRequest", "<pok:name>" + name + "</pok:name>"),
+					(BaseExperienceRequest r, MessageContext c) -> endpoint.baseExperience(r, c),
+					BaseExperienceResponse.class);
+		}
+		return bytes;
+	}
+
+	private int batch(PokemonEndpoint endpoint, List<String> names) throws Exception {
+		StringBuilder body = new StringBuilder();
+		names.forEach(n -> body.append("<pok:name>").append(n).append("</pok:name>"));
+		return dispatch(request("PokemonBatchRequest", body.toString()),
+				(PokemonBatchRequest r, MessageContext c) -> endpoint.batch(r, c), PokemonBatchResponse.class);
+	}
+
+	private static byte[] request(String operation, String content) {
+		return String.format(ENVELOPE, "<pok:" + operation + ">" + content + "</pok:" + operation + ">")
+				.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Parsea el sobre, invoca la operación y serializa la respuesta.
+	 *
+	 * @return bytes de la respuesta
+	 */
+	@SuppressWarnings("unchecked")
+	private <Q, R> int dispatch(byte[] requestBytes, Operation<Q, R> operation, Class<R> responseType)
+			throws Exception {
+		WebServiceMessage request = messageFactory.createWebServiceMessage(new ByteArrayInputStream(requestBytes));
+		MessageContext context = new DefaultMessageContext(request, messageFactory);
+		Q payload = (Q) marshaller.unmarshal(request.getPayloadSource());
+		R response = operation.invoke(payload, context);
+		assertThat(response).isInstanceOf(responseType);
+		marshaller.marshal(response, context.getResponse().getPayloadResult());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		context.getResponse().writeTo(out);
+		return out.size();
+	}
+
+	@FunctionalInterface
+	private interface Operation<Q, R> {
+		R invoke(Q request, MessageContext context);
+	}
+
+}
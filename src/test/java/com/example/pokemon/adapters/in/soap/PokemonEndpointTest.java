@@ -0,0 +1,263 @@
+package com.example.pokemon.adapters.in.soap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+import com.example.pokemon.adapters.out.pokeapi.PokeApiClient;
+import com.example.pokemon.adapters.out.pokeapi.PokeApiFixtures;
+import com.example.pokemon.adapters.out.pokeapi.PokeApiStubServer;
+import com.example.pokemon.adapters.out.pokeapi.diskcache.PokeApiDiskCache;
+import com.example.pokemon.adapters.out.pokeapi.resilience.PokeApiResilience;
+import com.example.pokemon.application.cache.PokemonAliasIndex;
+import com.example.pokemon.application.cache.PokemonCache;
+import com.example.pokemon.application.service.QueryPokemonService;
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.config.SoapBatchProperties;
+import com.example.pokemon.config.SoapResponseCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.ports.out.BlockingLoadPokemonPort;
+import com.example.pokemon.domain.ports.out.LoadPokemonPort;
+import com.example.pokemon.soap.schemas.AbilitiesRequest;
+import com.example.pokemon.soap.schemas.PokemonBatchRequest;
+import com.example.pokemon.soap.schemas.PokemonBatchResponse;
+import com.example.pokemon.soap.schemas.PokemonBatchResult;
+import com.example.pokemon.soap.schemas.PokemonSummaryRequest;
+import com.example.pokemon.soap.schemas.PokemonSummaryResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+class PokemonEndpointTest {
+
+	private final SaajSoapMessageFactory messageFactory = newMessageFactory();
+	private final SoapBatchProperties batchProperties = new SoapBatchProperties();
+	private final SoapResponseCacheProperties responseCacheProperties = new SoapResponseCacheProperties();
+
+	private static SaajSoapMessageFactory newMessageFactory() {
+		SaajSoapMessageFactory factory = new SaajSoapMessageFactory();
+		factory.afterPropertiesSet();
+		return factory;
+	}
+
+	private PokemonEndpoint endpoint(BlockingLoadPokemonPort port) {
+		return endpoint((LoadPokemonPort) port);
+	}
+
+	private PokemonEndpoint endpoint(LoadPokemonPort port) {
+		PokemonCache cache = new PokemonCache(new PokemonCacheProperties(),
+				new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+		return new PokemonEndpoint(new QueryPokemonService(port, cache, new PokemonAliasIndex()), batchProperties,
+				new SoapResponseCache(responseCacheProperties,
+						new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)));
+	}
+
+	private static PokemonBatchRequest request(String... names) {
+		PokemonBatchRequest request = new PokemonBatchRequest();
+		request.getName().addAll(List.of(names));
+		return request;
+	}
+
+	@Test
+	void summaryReturnsTheWholeAggregateFromOneLoad() {
+		List<FetchPlan> loads = new ArrayList<>();
+		PokemonEndpoint endpoint = endpoint((name, plan) -> {
+			loads.add(plan);
+			return Pokemon.builder().id(25).name("pikachu").baseExperience(112).ability("static")
+					.ability("lightning-rod").heldItem("oran-berry").encounter("viridian-forest-area").build();
+		});
+		PokemonSummaryRequest request = new PokemonSummaryRequest();
+		request.setName("Pikachu");
+
+		PokemonSummaryResponse response = endpoint.summary(request, new DefaultMessageContext(messageFactory));
+
+		assertThat(response.getId()).isEqualTo(25);
+		assertThat(response.getName()).isEqualTo("pikachu");
+		assertThat(response.getBaseExperience()).isEqualTo(112);
+		assertThat(response.getAbilities()).containsExactly("static", "lightning-rod");
+		assertThat(response.getHeldItems()).containsExactly("oran-berry");
+		assertThat(response.getEncounters()).containsExactly("viridian-forest-area");
+		assertThat(loads).containsExactly(FetchPlan.FULL);
+	}
+
+	@Test
+	void batchReturnsOneResultPerNameInRequestOrder() {
+		PokemonEndpoint endpoint = endpoint((name, plan) -> {
+			if (name.equals("missingno")) {
+				throw new PokemonNotFoundException("Pokémon not found: " + name);
+			}
+			return Pokemon.builder().id(name.length()).name(name).baseExperience(10).ability("static")
+					.encounter(plan == FetchPlan.FULL ? "route-1" : "unexpected").build();
+		});
+
+		PokemonBatchResponse response = endpoint.batch(request("pikachu", "missingno", "eevee"),
+				new DefaultMessageContext(messageFactory));
+
+		List<PokemonBatchResult> results = response.getResult();
+		assertThat(results).extracting(PokemonBatchResult::getName).containsExactly("pikachu", "missingno", "eevee");
+		assertThat(results.get(0).getPokemon().getAbilities()).containsExactly("static");
+		assertThat(results.get(0).getErrorDetail()).isNull();
+		assertThat(results.get(1).getPokemon()).isNull();
+		assertThat(results.get(1).getErrorDetail().getErrorMessage()).contains("missingno");
+		assertThat(results.get(2).getPokemon().getName()).isEqualTo("eevee");
+	}
+
+	@Test
+	void batchResolvesNamesConcurrentlyWithinTheLimit() {
+		batchProperties.setConcurrency(4);
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		PokemonEndpoint endpoint = endpoint(new LoadPokemonPort() {
+			@Override
+			public Pokemon loadByName(String name, FetchPlan plan) {
+				return loadByNameReactive(name, plan).block();
+			}
+
+			@Override
+			public Mono<Pokemon> loadByNameReactive(String name, FetchPlan plan) {
+				return Mono.defer(() -> {
+					maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+					return Mono.delay(Duration.ofMillis(20)).map(tick -> {
+						inFlight.decrementAndGet();
+						return Pokemon.builder().id(Integer.parseInt(name.substring(2))).name(name).build();
+					});
+				});
+			}
+		});
+		String[] names = new String[16];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = "p-" + (i + 1);
+		}
+
+		PokemonBatchResponse response = endpoint.batch(request(names), new DefaultMessageContext(messageFactory));
+
+		assertThat(response.getResult()).hasSize(16).allSatisfy(r -> assertThat(r.getPokemon()).isNotNull());
+		assertThat(maxInFlight.get()).isBetween(2, 4);
+	}
+
+	/**
+	 * Con la caché en disco activa, PokeApiClient lee y escribe en
+	 * {@code boundedElastic}: si el batch ocupara esos hilos esperando a sus
+	 * cargas, con el scheduler en su tope las lecturas quedarían en cola detrás
+	 * de quien las espera.
+	 */
+	@Test
+	void concurrentBatchesCompleteWithTheDiskCacheWhileBoundedElasticIsAtItsCap(@TempDir Path directory)
+			throws Exception {
+		Schedulers.setFactory(new Schedulers.Factory() {
+			@Override
+			public Scheduler newBoundedElastic(int threadCap, int queuedTaskCap, ThreadFactory threadFactory,
+					int ttlSeconds) {
+				return Schedulers.Factory.super.newBoundedElastic(2, queuedTaskCap, threadFactory, ttlSeconds);
+			}
+		});
+		ExecutorService requests = Executors.newFixedThreadPool(4);
+		try (PokeApiStubServer stub = new PokeApiStubServer()
+				.route("/pokemon/pikachu", 200, PokeApiFixtures.json("pokemon-pikachu.json"))
+				.route("/pokemon/ditto", 200, PokeApiFixtures.json("pokemon-ditto.json"))) {
+			PokemonCacheProperties cacheProperties = new PokemonCacheProperties();
+			cacheProperties.setEnabled(false);
+			PokeApiClient client = new PokeApiClient(WebClient.builder().baseUrl(stub.baseUrl()).build(),
+					new PokeApiDiskCache(directory, Duration.ofHours(1), Clock.systemUTC()),
+					PokeApiResilience.disabled());
+			PokemonEndpoint endpoint = new PokemonEndpoint(
+					new QueryPokemonService(client, new PokemonCache(cacheProperties,
+							new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)),
+							new PokemonAliasIndex()),
+					batchProperties, new SoapResponseCache(responseCacheProperties,
+							new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)));
+
+			List<Future<PokemonBatchResponse>> batches = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				batches.add(requests.submit(() -> endpoint.batch(request("pikachu", "ditto", "pikachu", "ditto"),
+						new DefaultMessageContext(messageFactory))));
+			}
+
+			for (Future<PokemonBatchResponse> batch : batches) {
+				assertThat(batch.get(20, TimeUnit.SECONDS).getResult())
+						.extracting(r -> r.getPokemon().getName())
+						.containsExactly("pikachu", "ditto", "pikachu", "ditto");
+			}
+		} finally {
+			requests.shutdownNow();
+			Schedulers.resetFactory();
+		}
+	}
+
+	@Test
+	void failedLookupFaultKeepsItsOwnMessage() throws Exception {
+		PokemonEndpoint endpoint = endpoint((name, plan) -> {
+			throw new PokemonNotFoundException("Pokémon not found: " + name);
+		});
+		AbilitiesRequest request = new AbilitiesRequest();
+		request.setName("missingno");
+		MessageContext context = new DefaultMessageContext(messageFactory);
+
+		assertThat(endpoint.abilities(request, context)).isNull();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		context.getResponse().writeTo(out);
+		assertThat(out.toString(StandardCharsets.UTF_8)).contains("No se pudo obtener habilidades del Pokémon: missingno")
+				.doesNotContain("no puede ser nulo");
+	}
+
+	@Test
+	void cachedResponseIsWrittenToThePayloadInsteadOfReturned() throws Exception {
+		responseCacheProperties.setEnabled(true);
+		PokemonEndpoint endpoint = endpoint((name, plan) -> Pokemon.builder().id(25).name("pikachu")
+				.ability("static").ability("lightning-rod").build());
+		AbilitiesRequest request = new AbilitiesRequest();
+		request.setName("Pikachu");
+		MessageContext context = new DefaultMessageContext(messageFactory);
+
+		assertThat(endpoint.abilities(request, context)).isNull();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		context.getResponse().writeTo(out);
+		assertThat(out.toString(StandardCharsets.UTF_8)).contains("AbilitiesResponse").contains(">static<")
+				.contains(">lightning-rod<").doesNotContain("Fault");
+	}
+
+	@Test
+	void oversizedBatchIsRejectedWithAFault() throws Exception {
+		batchProperties.setMaxNames(2);
+		AtomicInteger loads = new AtomicInteger();
+		PokemonEndpoint endpoint = endpoint((name, plan) -> {
+			loads.incrementAndGet();
+			return Pokemon.builder().id(1).name(name).build();
+		});
+		MessageContext context = new DefaultMessageContext(messageFactory);
+
+		assertThat(endpoint.batch(request("a", "b", "c"), context)).isNull();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		context.getResponse().writeTo(out);
+		assertThat(out.toString(StandardCharsets.UTF_8)).contains("Fault").contains("como máximo 2 nombres");
+		assertThat(loads.get()).isZero();
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.example.pokemon.adapters.in.soap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+import com.example.pokemon.common.exceptions.RemoteClientException;
+import com.example.pokemon.common.exceptions.RemoteUnavailableException;
+
+class SoapFaultHelperTest {
+
+	private final SaajSoapMessageFactory messageFactory = newMessageFactory();
+
+	private static SaajSoapMessageFactory newMessageFactory() {
+		SaajSoapMessageFactory factory = new SaajSoapMessageFactory();
+		factory.afterPropertiesSet();
+		return factory;
+	}
+
+	private String fault(Exception ex) throws Exception {
+		MessageContext context = new DefaultMessageContext(messageFactory);
+		SoapFaultHelper.createClientFault(context, "No se pudo obtener ID del Pokémon: pikachu", ex);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		context.getResponse().writeTo(out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void transientFailuresTellClientsWhenToRetry() throws Exception {
+		String xml = fault(new RemoteUnavailableException("PokeAPI circuit breaker is open", Duration.ofMillis(12_300)));
+
+		assertThat(xml).contains("retryAfterSeconds>13<");
+	}
+
+	@Test
+	void otherFailuresHaveNoRetryHint() throws Exception {
+		String xml = fault(new RemoteClientException("Server error from PokeAPI: 503"));
+
+		assertThat(xml).contains("Server error from PokeAPI: 503").doesNotContain("retryAfterSeconds");
+	}
+
+}
@@ -0,0 +1,146 @@
+package com.example.pokemon.adapters.in.soap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+import com.example.pokemon.application.cache.PokemonAliasIndex;
+import com.example.pokemon.application.cache.PokemonCache;
+import com.example.pokemon.application.service.QueryPokemonService;
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.config.SoapBatchProperties;
+import com.example.pokemon.config.SoapResponseCacheProperties;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.ports.out.BlockingLoadPokemonPort;
+import com.example.pokemon.soap.schemas.PokemonSummaryRequest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coste de despacho de {@code PokemonSummaryRequest} con y sin
+ * {@link SoapResponseCache}, para un nombre caliente (caché de Pokémon con
+ * acierto: se mide el mapeo y la serialización, no PokeAPI).
+ *
+ * Cada petición recorre el camino de {@code MessageDispatcher}: parseo del
+ * sobre SOAP (SAAJ), unmarshalling JAXB, endpoint, marshalling de la respuesta
+ * (solo si el endpoint la devuelve) y serialización del sobre.
+ *
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=SoapResponseCacheBenchmark}
+ */
+@Tag("benchmark")
+class SoapResponseCacheBenchmark {
+
+	private static final int WARMUP = 3_000;
+	private static final int REQUESTS = 20_000;
+	private static final int ENCOUNTERS = 40;
+
+	private static final byte[] REQUEST = ("<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\""
+			+ " xmlns:pok=\"http://example.com/pokemon/soap/schemas\"><soapenv:Body>"
+			+ "<pok:PokemonSummaryRequest><pok:name>pikachu</pok:name></pok:PokemonSummaryRequest>"
+			+ "</soapenv:Body></soapenv:Envelope>").getBytes(StandardCharsets.UTF_8);
+
+	private final SaajSoapMessageFactory messageFactory = newMessageFactory();
+	private final Jaxb2Marshaller marshaller = newMarshaller();
+
+	private static SaajSoapMessageFactory newMessageFactory() {
+		SaajSoapMessageFactory factory = new SaajSoapMessageFactory();
+		factory.afterPropertiesSet();
+		return factory;
+	}
+
+	private static Jaxb2Marshaller newMarshaller() {
+		Jaxb2Marshaller marshaller = new Jaxb2Marshaller();
+		marshaller.setPackagesToScan("com.example.pokemon.soap.schemas");
+		try {
+			marshaller.afterPropertiesSet();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return marshaller;
+	}
+
+	@Test
+	void cachedPayloadIsCheaperToDispatch() throws Exception {
+		PokemonEndpoint uncached = endpoint(false);
+		PokemonEndpoint cached = endpoint(true);
+		// Mismo XML salvo prefijos de namespace
+		assertThat(withoutPrefixes(dispatch(cached))).isEqualTo(withoutPrefixes(dispatch(uncached)));
+
+		run(WARMUP, uncached);
+		run(WARMUP, cached);
+		double uncachedMicros = run(REQUESTS, uncached);
+		double cachedMicros = run(REQUESTS, cached);
+
+		System.out.printf("%,d peticiones PokemonSummary: sin caché de respuestas %,.1f µs CPU/petición,"
+				+ " con caché %,.1f µs CPU/petición (%.0f%% menos)%n", REQUESTS, uncachedMicros, cachedMicros,
+				100 * (1 - cachedMicros / uncachedMicros));
+
+		assertThat(cachedMicros).isLessThan(uncachedMicros);
+	}
+
+	private static PokemonEndpoint endpoint(boolean responseCache) {
+		Pokemon.PokemonBuilder pikachu = Pokemon.builder().id(25).name("pikachu").baseExperience(112)
+				.ability("static").ability("lightning-rod").heldItem("oran-berry").heldItem("light-ball");
+		for (int i = 0; i < ENCOUNTERS; i++) {
+			pikachu.encounter("location-area-" + i);
+		}
+		Pokemon pokemon = pikachu.build();
+		PokemonCache cache = new PokemonCache(new PokemonCacheProperties(),
+				new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+		SoapResponseCacheProperties properties = new SoapResponseCacheProperties();
+		properties.setEnabled(responseCache);
+		BlockingLoadPokemonPort port = (name, plan) -> pokemon;
+		return new PokemonEndpoint(new QueryPokemonService(port, cache, new PokemonAliasIndex()),
+				new SoapBatchProperties(), new SoapResponseCache(properties,
+						new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)));
+	}
+
+	private static String withoutPrefixes(String xml) {
+		return xml.replaceAll(" xmlns(:ns\\d)?=\"[^\"]*\"", "").replaceAll("<(/?)ns\\d:", "<$1");
+	}
+
+	/**
+	 * @return µs de CPU por petición en el hilo actual
+	 */
+	private double run(int requests, PokemonEndpoint endpoint) throws Exception {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		long start = threads.getCurrentThreadCpuTime();
+		for (int i = 0; i < requests; i++) {
+			dispatch(endpoint);
+		}
+		return (threads.getCurrentThreadCpuTime() - start) / 1_000.0 / requests;
+	}
+
+	/**
+	 * Parsea el sobre, invoca la operación y serializa la respuesta (como
+	 * Spring-WS: si el endpoint devuelve null, el payload ya está escrito).
+	 *
+	 * @return respuesta serializada
+	 */
+	private String dispatch(PokemonEndpoint endpoint) throws Exception {
+		WebServiceMessage request = messageFactory.createWebServiceMessage(new ByteArrayInputStream(REQUEST));
+		MessageContext context = new DefaultMessageContext(request, messageFactory);
+		PokemonSummaryRequest payload = (PokemonSummaryRequest) marshaller.unmarshal(request.getPayloadSource());
+		Object response = endpoint.summary(payload, context);
+		if (response != null) {
+			marshaller.marshal(response, context.getResponse().getPayloadResult());
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		context.getResponse().writeTo(out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.example.pokemon.adapters.in.soap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+import com.example.pokemon.config.SoapResponseCacheProperties;
+import com.example.pokemon.domain.model.Freshness;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.model.PokemonLookup;
+import com.example.pokemon.soap.schemas.AbilitiesResponse;
+import com.example.pokemon.soap.schemas.IdResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+class SoapResponseCacheTest {
+
+	private static final Pokemon PIKACHU = Pokemon.builder().id(25).name("pikachu").ability("static").build();
+
+	private final SaajSoapMessageFactory messageFactory = newMessageFactory();
+	private final AtomicInteger mappings = new AtomicInteger();
+
+	private static SaajSoapMessageFactory newMessageFactory() {
+		SaajSoapMessageFactory factory = new SaajSoapMessageFactory();
+		factory.afterPropertiesSet();
+		return factory;
+	}
+
+	private static SoapResponseCache cache(boolean enabled) {
+		SoapResponseCacheProperties properties = new SoapResponseCacheProperties();
+		properties.setEnabled(enabled);
+		return new SoapResponseCache(properties, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+	}
+
+	private final Function<Pokemon, AbilitiesResponse> abilities = p -> {
+		mappings.incrementAndGet();
+		var res = new AbilitiesResponse();
+		res.getAbilities().addAll(p.getAbilities());
+		return res;
+	};
+
+	private static PokemonLookup version(Pokemon pokemon, long version) {
+		return new PokemonLookup(pokemon, Freshness.FRESH, Duration.ZERO, version);
+	}
+
+	private String write(SoapResponseCache cache, PokemonLookup lookup) throws Exception {
+		MessageContext context = new DefaultMessageContext(messageFactory);
+		assertThat(cache.write(context, AbilitiesResponse.class, lookup, abilities)).isTrue();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		context.getResponse().writeTo(out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void hitReusesTheSerializedPayloadWithoutMapping() throws Exception {
+		SoapResponseCache cache = cache(true);
+
+		String first = write(cache, version(PIKACHU, 1));
+		String second = write(cache, version(Pokemon.builder().id(25).name("pikachu").ability("static").build(), 1));
+
+		assertThat(second).isEqualTo(first).contains("AbilitiesResponse").contains(">static<");
+		assertThat(mappings.get()).isEqualTo(1);
+	}
+
+	@Test
+	void newVersionOrAnotherOperationIsSerializedAgain() throws Exception {
+		SoapResponseCache cache = cache(true);
+		write(cache, version(PIKACHU, 1));
+
+		String updated = write(cache, version(PIKACHU.toBuilder().ability("lightning-rod").build(), 2));
+		MessageContext context = new DefaultMessageContext(messageFactory);
+		cache.write(context, IdResponse.class, version(PIKACHU, 2), p -> {
+			var res = new IdResponse();
+			res.setId(p.getId());
+			return res;
+		});
+
+		assertThat(updated).contains(">lightning-rod<");
+		assertThat(mappings.get()).isEqualTo(2);
+	}
+
+	@Test
+	void disabledCacheLeavesTheResponseToTheEndpoint() {
+		MessageContext context = new DefaultMessageContext(messageFactory);
+
+		assertThat(cache(false).write(context, AbilitiesResponse.class, version(PIKACHU, 1), abilities)).isFalse();
+		// Sin versión (caché de Pokémon desactivada) tampoco se cachea
+		assertThat(cache(true).write(context, AbilitiesResponse.class, PokemonLookup.fresh(PIKACHU), abilities))
+				.isFalse();
+		assertThat(context.hasResponse()).isFalse();
+		assertThat(mappings.get()).isZero();
+	}
+
+}
@@ -0,0 +1,155 @@
+package com.example.pokemon.adapters.out.dataset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.pokemon.adapters.out.pokeapi.PokeApiClient;
+import com.example.pokemon.adapters.out.pokeapi.PokeApiStubServer;
+import com.example.pokemon.adapters.out.pokeapi.diskcache.PokeApiDiskCache;
+import com.example.pokemon.adapters.out.pokeapi.resilience.PokeApiResilience;
+import com.example.pokemon.domain.model.FetchPlan;
+
+class CatalogSyncJobTest {
+
+	private static final int CATALOG_SIZE = 5;
+	private static final int PAGE_SIZE = 2;
+
+	@TempDir
+	Path dir;
+
+	private PokeApiStubServer stub;
+	private PokeApiClient client;
+	private LocalDatasetPokemonAdapter dataset;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		stub = new PokeApiStubServer();
+		for (int offset = 0; offset < CATALOG_SIZE; offset += PAGE_SIZE) {
+			stub.route(page(offset), 200, pageJson(offset));
+		}
+		for (int i = 0; i < CATALOG_SIZE; i++) {
+			stub.route("/pokemon/poke-" + i, 200, pokemonJson(i, i))
+					.route("/pokemon/poke-" + i + "/encounters", 200, "[]");
+		}
+		client = new PokeApiClient(WebClient.builder().baseUrl(stub.baseUrl()).build(), PokeApiDiskCache.disabled(),
+				PokeApiResilience.disabled());
+		dataset = new LocalDatasetPokemonAdapter(dir.resolve("pokemon.dataset"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		stub.close();
+	}
+
+	private CatalogSyncJob job() throws IOException {
+		return new CatalogSyncJob(client, dataset, new CatalogStore(dir.resolve("catalog")), PAGE_SIZE, 3, false);
+	}
+
+	@Test
+	void fullSyncBuildsAndReloadsTheLocalDataset() throws IOException {
+		SyncReport report = job().run();
+
+		assertThat(report.complete()).isTrue();
+		assertThat(report.total()).isEqualTo(CATALOG_SIZE);
+		assertThat(report.added()).isEqualTo(CATALOG_SIZE);
+		assertThat(report.failed()).isEmpty();
+		assertThat(dataset.size()).isEqualTo(CATALOG_SIZE);
+		assertThat(dataset.find("poke-3", FetchPlan.FULL)).hasValueSatisfying(p -> assertThat(p.getId()).isEqualTo(3));
+	}
+
+	@Test
+	void interruptedSyncResumesFromTheCheckpoint() throws IOException {
+		stub.failRequests(page(2), 1, 503);
+
+		SyncReport first = job().run();
+		SyncReport second = job().run();
+
+		assertThat(first.complete()).isFalse();
+		assertThat(first.processed()).isEqualTo(PAGE_SIZE);
+		assertThat(second.resumedFrom()).isEqualTo(PAGE_SIZE);
+		assertThat(second.complete()).isTrue();
+		assertThat(stub.hits("/pokemon/poke-0")).isEqualTo(1);
+		assertThat(dataset.size()).isEqualTo(CATALOG_SIZE);
+	}
+
+	@Test
+	void resyncOnlyRewritesEntriesWhoseContentChanged() throws IOException {
+		job().run();
+		stub.route("/pokemon/poke-4", 200, pokemonJson(4, 999));
+
+		SyncReport resync = job().run();
+
+		assertThat(resync.resumedFrom()).isZero();
+		assertThat(resync.unchanged()).isEqualTo(CATALOG_SIZE - 1);
+		assertThat(resync.updated()).isEqualTo(1);
+		assertThat(dataset.find("poke-4", FetchPlan.FULL))
+				.hasValueSatisfying(p -> assertThat(p.getBaseExperience()).isEqualTo(999));
+	}
+
+	@Test
+	void entryFailuresAreReportedWithoutStoppingTheSync() throws IOException {
+		stub.route("/pokemon/poke-1", 404, "{}");
+
+		SyncReport report = job().run();
+
+		assertThat(report.complete()).isTrue();
+		assertThat(report.failed()).containsExactly("poke-1");
+		assertThat(dataset.size()).isEqualTo(CATALOG_SIZE - 1);
+	}
+
+	@Test
+	void entriesWithoutBaseExperienceAreStored() throws IOException {
+		stub.route("/pokemon/poke-2", 200, "{\"id\":2,\"name\":\"poke-2\",\"base_experience\":null,"
+				+ "\"abilities\":[],\"held_items\":[]}");
+
+		SyncReport report = job().run();
+
+		assertThat(report.failed()).isEmpty();
+		assertThat(report.added()).isEqualTo(CATALOG_SIZE);
+		assertThat(dataset.find("poke-2", FetchPlan.FULL))
+				.hasValueSatisfying(p -> assertThat(p.getBaseExperience()).isNull());
+	}
+
+	@Test
+	void disabledDatasetOnlyUpdatesTheStore() throws IOException {
+		CatalogStore store = new CatalogStore(dir.resolve("catalog"));
+		CatalogSyncJob job = new CatalogSyncJob(client, new LocalDatasetPokemonAdapter((Path) null), store, PAGE_SIZE,
+				3, false);
+
+		SyncReport report = job.run();
+
+		assertThat(report.complete()).isTrue();
+		assertThat(store.size()).isEqualTo(CATALOG_SIZE);
+		assertThat(dir.resolve("pokemon.dataset")).doesNotExist();
+	}
+
+	private static String page(int offset) {
+		return "/pokemon?offset=" + offset + "&limit=" + PAGE_SIZE;
+	}
+
+	private static String pageJson(int offset) {
+		StringBuilder results = new StringBuilder();
+		for (int i = offset; i < Math.min(offset + PAGE_SIZE, CATALOG_SIZE); i++) {
+			if (results.length() > 0) {
+				results.append(',');
+			}
+			results.append("{\"name\":\"poke-").append(i).append("\",\"url\":\"https://pokeapi.co/api/v2/pokemon/")
+					.append(i).append("/\"}");
+		}
+		return "{\"count\":" + CATALOG_SIZE + ",\"next\":null,\"previous\":null,\"results\":[" + results + "]}";
+	}
+
+	private static String pokemonJson(int id, int baseExperience) {
+		return "{\"id\":" + id + ",\"name\":\"poke-" + id + "\",\"base_experience\":" + baseExperience
+				+ ",\"abilities\":[],\"held_items\":[]}";
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.example.pokemon.adapters.out.dataset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.ports.out.BlockingLoadPokemonPort;
+
+class LocalFirstPokemonLoaderTest {
+
+	@TempDir
+	Path dir;
+
+	private final List<String> remoteCalls = new ArrayList<>();
+	private LocalFirstPokemonLoader loader;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		Path file = dir.resolve("pokemon.dataset");
+		new PokemonDatasetWriter()
+				.add(Pokemon.builder().id(25).name("pikachu").baseExperience(112).build(), false)
+				.writeTo(file);
+		BlockingLoadPokemonPort remote = (name, plan) -> {
+			remoteCalls.add(name + "/" + plan);
+			return Pokemon.builder().id(-1).name(name).build();
+		};
+		loader = new LocalFirstPokemonLoader(new LocalDatasetPokemonAdapter(file), remote);
+	}
+
+	@Test
+	void datasetHitsNeverReachTheRemoteSource() {
+		assertThat(loader.loadByName("pikachu", FetchPlan.BASE).getId()).isEqualTo(25);
+		assertThat(remoteCalls).isEmpty();
+	}
+
+	@Test
+	void missesAndUncoveredPlansFallBackToTheRemoteSource() {
+		assertThat(loader.loadByName("mewtwo", FetchPlan.BASE).getId()).isEqualTo(-1);
+		assertThat(loader.loadByName("pikachu", FetchPlan.FULL).getId()).isEqualTo(-1);
+		assertThat(remoteCalls).containsExactly("mewtwo/BASE", "pikachu/FULL");
+	}
+
+	@Test
+	void missingDatasetFileMeansEverythingIsRemote() {
+		BlockingLoadPokemonPort remote = (name, plan) -> {
+			remoteCalls.add(name);
+			return Pokemon.builder().name(name).build();
+		};
+		LocalFirstPokemonLoader withoutDataset = new LocalFirstPokemonLoader(
+				new LocalDatasetPokemonAdapter(dir.resolve("missing.dataset")), remote);
+
+		withoutDataset.loadByName("pikachu", FetchPlan.BASE);
+
+		assertThat(remoteCalls).containsExactly("pikachu");
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.example.pokemon.adapters.out.dataset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.pokemon.adapters.out.pokeapi.PokeApiFixtures;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+
+class PokemonDatasetImporterTest {
+
+	@TempDir
+	Path dir;
+
+	private void resource(String path, String fixture) throws IOException {
+		Path file = dir.resolve("dump").resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, PokeApiFixtures.json(fixture));
+	}
+
+	@Test
+	void importsApiDataDumpWithTheSameProjectionAsTheClient() throws IOException {
+		resource("pokemon/25/index.json", "pokemon-pikachu.json");
+		resource("pokemon/25/encounters/index.json", "encounters-pikachu.json");
+		Path file = dir.resolve("pokemon.dataset");
+
+		int imported = new PokemonDatasetImporter().importDump(dir.resolve("dump"), file);
+
+		assertThat(imported).isEqualTo(1);
+		Pokemon pikachu = PokemonDataset.open(file).find("pikachu", FetchPlan.FULL).orElseThrow();
+		assertThat(pikachu.getId()).isEqualTo(25);
+		assertThat(pikachu.getBaseExperience()).isEqualTo(112);
+		assertThat(pikachu.getAbilities()).containsExactly("static", "lightning-rod");
+		assertThat(pikachu.getHeldItems()).containsExactly("oran-berry", "light-ball");
+		assertThat(pikachu.getLocationAreaEncounters()).hasSize(6).first().isEqualTo("viridian-forest-area");
+	}
+
+	@Test
+	void resourcesWithoutEncountersAreImportedForBaseLookupsOnly() throws IOException {
+		resource("pokemon/25/index.json", "pokemon-pikachu.json");
+		Path file = dir.resolve("pokemon.dataset");
+
+		new PokemonDatasetImporter().importDump(dir.resolve("dump"), file);
+
+		PokemonDataset dataset = PokemonDataset.open(file);
+		assertThat(dataset.find("pikachu", FetchPlan.BASE)).isPresent();
+		assertThat(dataset.find("pikachu", FetchPlan.FULL)).isEmpty();
+	}
+
+	@Test
+	void alternateFormsWithoutBaseExperienceAreImported() throws IOException {
+		resource("pokemon/25/index.json", "pokemon-pikachu.json");
+		Path form = dir.resolve("dump").resolve("pokemon/10080/index.json");
+		Files.createDirectories(form.getParent());
+		Files.writeString(form, "{\"id\":10080,\"name\":\"pikachu-rock-star\",\"base_experience\":null,"
+				+ "\"abilities\":[{\"ability\":{\"name\":\"static\"}}],\"held_items\":[]}");
+		Path file = dir.resolve("pokemon.dataset");
+
+		int imported = new PokemonDatasetImporter().importDump(dir.resolve("dump"), file);
+
+		assertThat(imported).isEqualTo(2);
+		Pokemon rockStar = PokemonDataset.open(file).find("10080", FetchPlan.BASE).orElseThrow();
+		assertThat(rockStar.getName()).isEqualTo("pikachu-rock-star");
+		assertThat(rockStar.getBaseExperience()).isNull();
+		assertThat(rockStar.getAbilities()).containsExactly("static");
+	}
+
+}
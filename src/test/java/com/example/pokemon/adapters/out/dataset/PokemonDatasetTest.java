@@ -0,0 +1,104 @@
+package com.example.pokemon.adapters.out.dataset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+
+class PokemonDatasetTest {
+
+	@TempDir
+	Path dir;
+
+	private static Pokemon pokemon(int id, String name) {
+		return Pokemon.builder().id(id).name(name).baseExperience(100 + id)
+				.ability("static").ability("lightning-rod")
+				.heldItem("oran-berry")
+				.encounter("viridian-forest-area")
+				.build();
+	}
+
+	@Test
+	void roundTripsRecordsThroughTheMappedFile() throws IOException {
+		Path file = dir.resolve("pokemon.dataset");
+		new PokemonDatasetWriter().add(pokemon(25, "pikachu"), true).add(pokemon(1, "bulbasaur"), true).writeTo(file);
+
+		PokemonDataset dataset = PokemonDataset.open(file);
+
+		assertThat(dataset.size()).isEqualTo(2);
+		assertThat(dataset.find(" Pikachu ", FetchPlan.FULL)).contains(pokemon(25, "pikachu"));
+		assertThat(dataset.find("bulbasaur", FetchPlan.BASE)).contains(pokemon(1, "bulbasaur"));
+		assertThat(dataset.find("mewtwo", FetchPlan.BASE)).isEmpty();
+	}
+
+	@Test
+	void recordsWithoutEncountersOnlyServeBaseLookups() throws IOException {
+		Path file = dir.resolve("pokemon.dataset");
+		new PokemonDatasetWriter().add(pokemon(25, "pikachu"), false).writeTo(file);
+
+		PokemonDataset dataset = PokemonDataset.open(file);
+
+		assertThat(dataset.find("pikachu", FetchPlan.FULL)).isEmpty();
+		assertThat(dataset.find("pikachu", FetchPlan.BASE)).get()
+				.satisfies(p -> assertThat(p.getLocationAreaEncounters()).isEmpty());
+	}
+
+	@Test
+	void everyEntryOfALargeDatasetIsFound() throws IOException {
+		Path file = dir.resolve("pokemon.dataset");
+		PokemonDatasetWriter writer = new PokemonDatasetWriter();
+		for (int i = 1; i <= 2_000; i++) {
+			writer.add(pokemon(i, "pokemon-" + i), true);
+		}
+		writer.writeTo(file);
+
+		PokemonDataset dataset = PokemonDataset.open(file);
+
+		for (int i = 1; i <= 2_000; i++) {
+			assertThat(dataset.find("pokemon-" + i, FetchPlan.FULL)).get().extracting(Pokemon::getId).isEqualTo(i);
+		}
+		assertThat(dataset.find("pokemon-0", FetchPlan.BASE)).isEmpty();
+	}
+
+	@Test
+	void findsRecordsByIdAsWellAsByName() throws IOException {
+		Path file = dir.resolve("pokemon.dataset");
+		new PokemonDatasetWriter().add(pokemon(25, "pikachu"), true).add(pokemon(1, "bulbasaur"), true).writeTo(file);
+
+		PokemonDataset dataset = PokemonDataset.open(file);
+
+		assertThat(dataset.size()).isEqualTo(2);
+		assertThat(dataset.find("25", FetchPlan.FULL)).contains(pokemon(25, "pikachu"));
+		assertThat(dataset.find(" 001 ", FetchPlan.BASE)).contains(pokemon(1, "bulbasaur"));
+		assertThat(dataset.find("151", FetchPlan.BASE)).isEmpty();
+	}
+
+	@Test
+	void nullBaseExperienceIsStoredAsNull() throws IOException {
+		Path file = dir.resolve("pokemon.dataset");
+		Pokemon rockStar = Pokemon.builder().id(10080).name("pikachu-rock-star").ability("static").build();
+		new PokemonDatasetWriter().add(rockStar, false).writeTo(file);
+
+		PokemonDataset dataset = PokemonDataset.open(file);
+
+		assertThat(dataset.find("pikachu-rock-star", FetchPlan.BASE)).contains(rockStar);
+		assertThat(dataset.find("10080", FetchPlan.BASE)).get().extracting(Pokemon::getBaseExperience).isNull();
+	}
+
+	@Test
+	void rejectsFilesThatAreNotDatasets() throws IOException {
+		Path file = Files.write(dir.resolve("garbage.dataset"), List.of("{\"not\":\"a dataset\"}"));
+
+		assertThatThrownBy(() -> PokemonDataset.open(file)).isInstanceOf(IOException.class);
+	}
+
+}
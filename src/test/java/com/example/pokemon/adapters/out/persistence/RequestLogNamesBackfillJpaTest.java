@@ -0,0 +1,71 @@
+package com.example.pokemon.adapters.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.pokemon.adapters.out.persistence.entity.RequestLog;
+import com.example.pokemon.adapters.out.persistence.repo.RequestLogRepository;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+class RequestLogNamesBackfillJpaTest {
+
+	private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+	@Autowired
+	RequestLogRepository repository;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	EntityManager entityManager;
+
+	private RequestLogNamesBackfill backfill;
+
+	@BeforeEach
+	void setUp() {
+		backfill = new RequestLogNamesBackfill(repository, new TransactionTemplate(transactionManager), entityManager,
+				2);
+	}
+
+	@Test
+	void logsSavedBeforeTheNameTableAreBackfilledFromTheirPayload() {
+		// Registros anteriores: payload guardado, sin nombres extraídos
+		repository.save(RequestLog.builder().requestDate(NOW)
+				.requestPayload("<PokemonBatchRequest><name>Pikachu</name><name>025</name></PokemonBatchRequest>")
+				.build());
+		repository.save(RequestLog.builder().requestDate(NOW).requestPayload("<Envelope><Body/></Envelope>").build());
+
+		assertThat(backfill.backfill()).isEqualTo(1);
+		assertThat(backfill.backfill()).isZero();
+		assertThat(new RequestLogPersistenceAdapter(repository).findTopRequestedNames(NOW.minusDays(1), 10))
+				.containsExactlyInAnyOrder("pikachu", "25");
+	}
+
+	@Test
+	void everyBatchIsBackfilledAndDetachedBeforeTheNext() {
+		List<RequestLog> saved = new ArrayList<>();
+		for (String name : new String[] { "pikachu", "eevee", "ditto", "mew", "eevee" }) {
+			saved.add(repository.save(RequestLog.builder().requestDate(NOW)
+					.requestPayload("<AbilitiesRequest><name>" + name + "</name></AbilitiesRequest>").build()));
+		}
+
+		assertThat(backfill.backfill()).isEqualTo(5);
+		assertThat(saved).noneMatch(entityManager::contains);
+		assertThat(new RequestLogPersistenceAdapter(repository).findTopRequestedNames(NOW.minusDays(1), 1))
+				.containsExactly("eevee");
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.example.pokemon.adapters.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.example.pokemon.adapters.out.persistence.repo.RequestLogRepository;
+
+@DataJpaTest
+class RequestLogPersistenceAdapterJpaTest {
+
+	private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+	@Autowired
+	RequestLogRepository repository;
+
+	private RequestLogPersistenceAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		adapter = new RequestLogPersistenceAdapter(repository);
+	}
+
+	@Test
+	void batchRequestsCountEveryCanonicalName() {
+		adapter.saveRequestLog("127.0.0.1", "pokemonBatch", NOW, 5L,
+				"<PokemonBatchRequest><name>Pikachu</name><name>bulbasaur</name></PokemonBatchRequest>", null);
+		adapter.saveRequestLog("127.0.0.1", "abilities", NOW, 5L,
+				"<AbilitiesRequest><name> pikachu </name></AbilitiesRequest>", null);
+		adapter.saveRequestLog("127.0.0.1", "abilities", NOW, 5L,
+				"<AbilitiesRequest><name>PIKACHU</name></AbilitiesRequest>", null);
+		adapter.saveRequestLog("127.0.0.1", "id", NOW, 5L, "<IdRequest><name>025</name></IdRequest>", null);
+		adapter.saveRequestLog("127.0.0.1", "id", NOW, 5L, "<IdRequest><name>25</name></IdRequest>", null);
+
+		assertThat(adapter.findTopRequestedNames(NOW.minusDays(1), 10)).containsExactly("pikachu", "25", "bulbasaur");
+	}
+
+}
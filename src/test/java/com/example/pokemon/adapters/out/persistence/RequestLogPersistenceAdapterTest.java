@@ -0,0 +1,36 @@
+package com.example.pokemon.adapters.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class RequestLogPersistenceAdapterTest {
+
+	@Test
+	void extractsTheRequestedNameFromTheSoapPayload() {
+		String payload = "<SOAP-ENV:Envelope xmlns:SOAP-ENV=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+				+ "<SOAP-ENV:Body><pok:GetAbilitiesRequest xmlns:pok=\"http://example.com/pokemon/soap/schemas\">"
+				+ "<pok:name> Pikachu </pok:name></pok:GetAbilitiesRequest></SOAP-ENV:Body></SOAP-ENV:Envelope>";
+
+		assertThat(RequestLogPersistenceAdapter.requestedNames(payload)).containsExactly("pikachu");
+		assertThat(RequestLogPersistenceAdapter.requestedNames("<GetIdRequest><name>25</name></GetIdRequest>"))
+				.containsExactly("25");
+	}
+
+	@Test
+	void extractsEveryNameOfABatchInCanonicalForm() {
+		String payload = "<pok:PokemonBatchRequest xmlns:pok=\"http://example.com/pokemon/soap/schemas\">"
+				+ "<pok:name>Pikachu</pok:name><pok:name>025</pok:name><pok:name>pikachu </pok:name>"
+				+ "<pok:name>bulbasaur</pok:name><pok:name>25</pok:name></pok:PokemonBatchRequest>";
+
+		assertThat(RequestLogPersistenceAdapter.requestedNames(payload)).containsExactly("pikachu", "25", "bulbasaur");
+	}
+
+	@Test
+	void returnsNoNamesWithoutANameElement() {
+		assertThat(RequestLogPersistenceAdapter.requestedNames(null)).isEmpty();
+		assertThat(RequestLogPersistenceAdapter.requestedNames("<Envelope><Body/></Envelope>")).isEmpty();
+		assertThat(RequestLogPersistenceAdapter.requestedNames("<name></name>")).isEmpty();
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.example.pokemon.adapters.out.pokeapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.pokemon.adapters.out.pokeapi.diskcache.CachedResponse;
+import com.example.pokemon.adapters.out.pokeapi.diskcache.PokeApiDiskCache;
+import com.example.pokemon.adapters.out.pokeapi.diskcache.RecordCodec;
+import com.example.pokemon.adapters.out.pokeapi.resilience.AimdLimiter;
+import com.example.pokemon.adapters.out.pokeapi.resilience.PokeApiResilience;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+
+class PokeApiClientDiskCacheTest {
+
+	private static final String BASE = "/pokemon/pikachu";
+	private static final String ENCOUNTERS = "/pokemon/pikachu/encounters";
+
+	@TempDir
+	Path directory;
+
+	private PokeApiStubServer stub;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		stub = new PokeApiStubServer()
+				.route(BASE, 200, PokeApiClientTest.PIKACHU)
+				.route(ENCOUNTERS, 200, PokeApiClientTest.PIKACHU_ENCOUNTERS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		stub.close();
+	}
+
+	/** Cliente "recién arrancado" que comparte el directorio de caché. */
+	private PokeApiClient newClient(Duration ttl) {
+		return new PokeApiClient(WebClient.builder().baseUrl(stub.baseUrl()).build(),
+				new PokeApiDiskCache(directory, ttl, Clock.systemUTC()), PokeApiResilience.disabled());
+	}
+
+	@Test
+	void restartServesFreshEntriesFromDisk() {
+		Pokemon first = newClient(Duration.ofHours(1)).getPokemon("pikachu");
+		Pokemon afterRestart = newClient(Duration.ofHours(1)).getPokemon("pikachu");
+
+		assertThat(afterRestart).isEqualTo(first);
+		assertThat(afterRestart.getLocationAreaEncounters()).hasSize(6);
+		assertThat(stub.hits(BASE)).isEqualTo(1);
+		assertThat(stub.hits(ENCOUNTERS)).isEqualTo(1);
+	}
+
+	@Test
+	void expiredEntriesAreRevalidatedWithEtag() {
+		stub.validators(BASE, "\"pikachu-v1\"", null).validators(ENCOUNTERS, "\"enc-v1\"", null);
+
+		Pokemon first = newClient(Duration.ZERO).getPokemon("pikachu");
+		Pokemon revalidated = newClient(Duration.ZERO).getPokemon("pikachu");
+
+		assertThat(revalidated).isEqualTo(first);
+		assertThat(stub.hits(BASE)).isEqualTo(2);
+		assertThat(stub.notModified(BASE)).isEqualTo(1);
+		assertThat(stub.notModified(ENCOUNTERS)).isEqualTo(1);
+	}
+
+	@Test
+	void expiredEntriesAreRevalidatedWithLastModified() {
+		stub.validators(BASE, null, "Wed, 01 Jan 2025 00:00:00 GMT");
+
+		newClient(Duration.ZERO).getPokemon("pikachu", FetchPlan.BASE);
+		Pokemon revalidated = newClient(Duration.ZERO).getPokemon("pikachu",
+				FetchPlan.BASE);
+
+		assertThat(revalidated.getAbilities()).containsExactly("static", "lightning-rod");
+		assertThat(stub.notModified(BASE)).isEqualTo(1);
+	}
+
+	@Test
+	void changedResourceIsDownloadedAgain() {
+		stub.validators(BASE, "\"pikachu-v1\"", null);
+		newClient(Duration.ZERO).getPokemon("pikachu");
+
+		stub.validators(BASE, "\"pikachu-v2\"", null)
+				.route(BASE, 200, PokeApiClientTest.PIKACHU.replace("\"base_experience\":112",
+						"\"base_experience\":113"));
+		Pokemon updated = newClient(Duration.ZERO).getPokemon("pikachu");
+
+		assertThat(updated.getBaseExperience()).isEqualTo(113);
+		assertThat(stub.notModified(BASE)).isZero();
+	}
+
+	@Test
+	void diskWritesHappenAfterTheLimiterPermitIsReleased() {
+		AimdLimiter limiter = new AimdLimiter(4, 1, 4, Duration.ofSeconds(1), 0.5);
+		List<Integer> inFlightDuringWrite = new CopyOnWriteArrayList<>();
+		PokeApiDiskCache diskCache = new PokeApiDiskCache(directory, Duration.ofHours(1), Clock.systemUTC()) {
+			@Override
+			public <T> void write(String url, CachedResponse<T> entry, RecordCodec<T> codec) {
+				inFlightDuringWrite.add(limiter.getInFlight());
+				super.write(url, entry, codec);
+			}
+		};
+		PokeApiClient client = new PokeApiClient(WebClient.builder().baseUrl(stub.baseUrl()).build(), diskCache,
+				PokeApiResilience.builder().limiter(limiter).build());
+
+		client.getPokemon("pikachu", FetchPlan.BASE);
+
+		assertThat(inFlightDuringWrite).containsExactly(0);
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.example.pokemon.adapters.out.pokeapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.pokemon.adapters.out.pokeapi.diskcache.PokeApiDiskCache;
+import com.example.pokemon.adapters.out.pokeapi.resilience.HedgingPolicy;
+import com.example.pokemon.adapters.out.pokeapi.resilience.LatencyTracker;
+import com.example.pokemon.adapters.out.pokeapi.resilience.PokeApiResilience;
+import com.example.pokemon.adapters.out.pokeapi.resilience.TokenBudget;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PokeApiClientHedgingTest {
+
+	private static final String BASE = "/pokemon/pikachu";
+	private static final long SLOW_MS = 1_500;
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private PokeApiStubServer stub;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		stub = new PokeApiStubServer().route(BASE, 200, PokeApiClientTest.PIKACHU);
+	}
+
+	@AfterEach
+	void tearDown() {
+		stub.close();
+	}
+
+	private PokeApiClient client(TokenBudget budget) {
+		HedgingPolicy hedging = new HedgingPolicy(new LatencyTracker(64, 8), budget, 0.95, Duration.ofMillis(10),
+				Duration.ofMillis(100));
+		PokeApiResilience resilience = PokeApiResilience.builder().hedging(hedging).build();
+		resilience.bindTo(registry);
+		return new PokeApiClient(WebClient.builder().baseUrl(stub.baseUrl()).build(), PokeApiDiskCache.disabled(),
+				resilience);
+	}
+
+	private double counter(String name) {
+		return registry.get(name).counter().count();
+	}
+
+	@Test
+	void slowResponseIsHedgedAndTheFasterDuplicateWins() {
+		PokeApiClient client = client(new TokenBudget(1, 5));
+		client.getPokemon("pikachu", FetchPlan.BASE); // calentamiento (conexiones, codecs)
+		int hitsBefore = stub.hits(BASE);
+		double sentBefore = counter("pokeapi.hedge.sent");
+		double wonBefore = counter("pokeapi.hedge.won");
+		stub.slowRequests(BASE, 1, SLOW_MS);
+
+		long start = System.nanoTime();
+		Pokemon pokemon = client.getPokemon("pikachu", FetchPlan.BASE);
+		long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+		assertThat(pokemon.getId()).isEqualTo(25);
+		assertThat(elapsedMs).isLessThan(SLOW_MS / 2);
+		assertThat(stub.hits(BASE) - hitsBefore).isEqualTo(2);
+		assertThat(counter("pokeapi.hedge.sent") - sentBefore).isEqualTo(1);
+		assertThat(counter("pokeapi.hedge.won") - wonBefore).isEqualTo(1);
+	}
+
+	@Test
+	void fastResponsesAreNotHedged() {
+		PokeApiClient client = client(new TokenBudget(0.1, 1));
+		client.getPokemon("pikachu", FetchPlan.BASE); // calentamiento (conexiones, codecs)
+		int hitsBefore = stub.hits(BASE);
+		double sentBefore = counter("pokeapi.hedge.sent");
+
+		for (int i = 0; i < 5; i++) {
+			client.getPokemon("pikachu", FetchPlan.BASE);
+		}
+
+		assertThat(stub.hits(BASE) - hitsBefore).isEqualTo(5);
+		assertThat(counter("pokeapi.hedge.calls")).isEqualTo(6);
+		assertThat(counter("pokeapi.hedge.sent") - sentBefore).isZero();
+	}
+
+	@Test
+	void exhaustedBudgetSkipsTheHedge() {
+		stub.slowRequests(BASE, 1, SLOW_MS);
+		PokeApiClient client = client(new TokenBudget(0, 0));
+
+		long start = System.nanoTime();
+		client.getPokemon("pikachu", FetchPlan.BASE);
+		long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+		assertThat(elapsedMs).isGreaterThanOrEqualTo(SLOW_MS);
+		assertThat(stub.hits(BASE)).isEqualTo(1);
+		assertThat(counter("pokeapi.hedge.denied")).isEqualTo(1);
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.example.pokemon.adapters.out.pokeapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.pokemon.adapters.out.pokeapi.diskcache.PokeApiDiskCache;
+import com.example.pokemon.adapters.out.pokeapi.resilience.AimdLimiter;
+import com.example.pokemon.adapters.out.pokeapi.resilience.CircuitBreaker;
+import com.example.pokemon.adapters.out.pokeapi.resilience.PokeApiResilience;
+import com.example.pokemon.common.exceptions.RemoteClientException;
+import com.example.pokemon.common.exceptions.RemoteUnavailableException;
+import com.example.pokemon.domain.model.FetchPlan;
+
+class PokeApiClientResilienceTest {
+
+	private static final long SLOW_MS = 300;
+
+	private PokeApiStubServer stub;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		stub = new PokeApiStubServer();
+		for (int i = 0; i < 16; i++) {
+			stub.route("/pokemon/p" + i, 200, PokeApiClientTest.PIKACHU);
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		stub.close();
+	}
+
+	private PokeApiClient client(PokeApiResilience resilience) {
+		return new PokeApiClient(WebClient.builder().baseUrl(stub.baseUrl()).build(), PokeApiDiskCache.disabled(),
+				resilience);
+	}
+
+	@Test
+	void slowUpstreamShrinksTheLimitAndExcessCallersFailFast() throws Exception {
+		stub.latency(SLOW_MS);
+		AimdLimiter limiter = new AimdLimiter(4, 1, 4, Duration.ofMillis(100), 0.5);
+		PokeApiClient client = client(PokeApiResilience.builder().limiter(limiter)
+				.limiterRetryAfter(Duration.ofSeconds(2)).build());
+
+		List<Outcome> outcomes = burst(client, 16);
+
+		// Solo 4 llamadas llegan al remoto lento; el resto se rechaza sin esperarlo
+		assertThat(outcomes).filteredOn(o -> o.error() == null).hasSize(4)
+				.allSatisfy(o -> assertThat(o.millis()).isGreaterThanOrEqualTo(SLOW_MS));
+		assertThat(outcomes).filteredOn(o -> o.error() != null).hasSize(12).allSatisfy(o -> {
+			assertThat(o.millis()).isLessThan(SLOW_MS);
+			assertThat(o.error()).isInstanceOfSatisfying(RemoteUnavailableException.class,
+					e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(2));
+		});
+		assertThat(limiter.getLimit()).isEqualTo(1); // 4 respuestas lentas: 4 → 2 → 1
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	void openCircuitFailsFastWithoutCallingUpstream() {
+		stub.route("/pokemon/pikachu", 503, "{}");
+		CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.5, Duration.ofSeconds(30), 1, System::nanoTime);
+		PokeApiClient client = client(PokeApiResilience.builder().breaker(breaker).build());
+
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(() -> client.getPokemon("pikachu", FetchPlan.BASE))
+					.isInstanceOf(RemoteClientException.class)
+					.isNotInstanceOf(RemoteUnavailableException.class);
+		}
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+		long start = System.nanoTime();
+		assertThatThrownBy(() -> client.getPokemon("pikachu", FetchPlan.BASE))
+				.isInstanceOfSatisfying(RemoteUnavailableException.class,
+						e -> assertThat(e.getRetryAfterSeconds()).isBetween(29, 30));
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(SLOW_MS));
+		assertThat(stub.hits("/pokemon/pikachu")).isEqualTo(4);
+	}
+
+	@Test
+	void notFoundDoesNotTripTheBreaker() {
+		CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.5, Duration.ofSeconds(30), 1, System::nanoTime);
+		PokeApiClient client = client(PokeApiResilience.builder().breaker(breaker).build());
+
+		for (int i = 0; i < 8; i++) {
+			assertThatThrownBy(() -> client.getPokemon("missingno", FetchPlan.BASE))
+					.isNotInstanceOf(RemoteUnavailableException.class);
+		}
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	/**
+	 * Lanza {@code callers} consultas BASE simultáneas de nombres distintos.
+	 *
+	 * @return por llamador, la latencia y la excepción lanzada (si la hubo)
+	 */
+	private static List<Outcome> burst(PokeApiClient client, int callers) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(callers);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Outcome>> futures = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				String name = "p" + i;
+				futures.add(pool.submit(() -> {
+					start.await();
+					long t0 = System.nanoTime();
+					RuntimeException error = null;
+					try {
+						client.getPokemon(name, FetchPlan.BASE);
+					} catch (RuntimeException e) {
+						error = e;
+					}
+					return new Outcome((System.nanoTime() - t0) / 1_000_000, error);
+				}));
+			}
+			start.countDown();
+			List<Outcome> outcomes = new ArrayList<>();
+			for (Future<Outcome> future : futures) {
+				outcomes.add(future.get());
+			}
+			return outcomes;
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private record Outcome(long millis, RuntimeException error) {
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.example.pokemon.adapters.out.pokeapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.pokemon.adapters.out.pokeapi.diskcache.PokeApiDiskCache;
+import com.example.pokemon.adapters.out.pokeapi.resilience.PokeApiResilience;
+import com.example.pokemon.adapters.out.pokeapi.resilience.RetryPolicy;
+import com.example.pokemon.adapters.out.pokeapi.resilience.TokenBudget;
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.common.exceptions.RemoteClientException;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PokeApiClientRetryTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private PokeApiStubServer stub;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		stub = new PokeApiStubServer()
+				.route("/pokemon/pikachu", 200, PokeApiClientTest.PIKACHU)
+				.route("/pokemon/pikachu/encounters", 200, PokeApiClientTest.PIKACHU_ENCOUNTERS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		stub.close();
+	}
+
+	private PokeApiClient client(int maxAttempts, TokenBudget budget) {
+		RetryPolicy retry = new RetryPolicy(maxAttempts, Duration.ofMillis(5), Duration.ofMillis(20), budget);
+		PokeApiResilience resilience = PokeApiResilience.builder().retry(retry).build();
+		resilience.bindTo(registry);
+		return new PokeApiClient(WebClient.builder().baseUrl(stub.baseUrl()).build(), PokeApiDiskCache.disabled(),
+				resilience);
+	}
+
+	private double count(String name, String... tags) {
+		var counter = registry.find(name).tags(tags).counter();
+		return counter == null ? 0 : counter.count();
+	}
+
+	@Test
+	void intermittentServerErrorsAndDroppedConnectionsAreRetried() {
+		stub.failRequests("/pokemon/pikachu", 2, 503)
+				.failRequests("/pokemon/pikachu/encounters", 1, PokeApiStubServer.DROP_CONNECTION);
+		PokeApiClient client = client(3, new TokenBudget(0.1, 10));
+
+		Pokemon pokemon = client.getPokemon("pikachu");
+
+		assertThat(pokemon.getId()).isEqualTo(25);
+		assertThat(pokemon.getLocationAreaEncounters()).hasSize(6);
+		assertThat(stub.hits("/pokemon/pikachu")).isEqualTo(3);
+		assertThat(stub.hits("/pokemon/pikachu/encounters")).isEqualTo(2);
+		assertThat(count("pokeapi.retry.attempts", "attempt", "2")).isEqualTo(2);
+		assertThat(count("pokeapi.retry.attempts", "attempt", "3")).isEqualTo(1);
+	}
+
+	@Test
+	void persistentFailureGivesUpAfterMaxAttempts() {
+		stub.route("/pokemon/pikachu", 503, "{}");
+		PokeApiClient client = client(3, new TokenBudget(0.1, 10));
+
+		assertThatThrownBy(() -> client.getPokemon("pikachu", FetchPlan.BASE))
+				.isInstanceOf(RemoteClientException.class);
+		assertThat(stub.hits("/pokemon/pikachu")).isEqualTo(3);
+		assertThat(count("pokeapi.retry.exhausted")).isEqualTo(1);
+	}
+
+	@Test
+	void retriesStopWhenTheBudgetIsSpent() {
+		stub.route("/pokemon/pikachu", 503, "{}");
+		// Ráfaga de 2 reintentos y recarga despreciable
+		PokeApiClient client = client(3, new TokenBudget(0.01, 2));
+
+		for (int i = 0; i < 3; i++) {
+			assertThatThrownBy(() -> client.getPokemon("pikachu", FetchPlan.BASE))
+					.isInstanceOf(RemoteClientException.class);
+		}
+
+		// 3 intentos originales + 2 reintentos en total, no 3 × 3
+		assertThat(stub.hits("/pokemon/pikachu")).isEqualTo(5);
+		assertThat(count("pokeapi.retry.denied")).isEqualTo(2);
+	}
+
+	@Test
+	void notFoundIsNotRetried() {
+		PokeApiClient client = client(3, new TokenBudget(0.1, 10));
+
+		assertThatThrownBy(() -> client.getPokemon("missingno", FetchPlan.BASE))
+				.isInstanceOf(PokemonNotFoundException.class);
+		assertThat(stub.hits("/pokemon/missingno")).isEqualTo(1);
+	}
+
+}
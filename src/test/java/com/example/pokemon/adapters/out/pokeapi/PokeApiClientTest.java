@@ -0,0 +1,164 @@
+package com.example.pokemon.adapters.out.pokeapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.pokemon.adapters.out.pokeapi.diskcache.PokeApiDiskCache;
+import com.example.pokemon.adapters.out.pokeapi.resilience.PokeApiResilience;
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.common.exceptions.RemoteClientException;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+
+class PokeApiClientTest {
+
+	/** Payloads con la forma real de PokeAPI (moves, sprites, URL de encounters...). */
+	static final String PIKACHU = PokeApiFixtures.json("pokemon-pikachu.json");
+
+	static final String PIKACHU_ENCOUNTERS = PokeApiFixtures.json("encounters-pikachu.json");
+
+	private PokeApiStubServer stub;
+	private PokeApiClient client;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		stub = new PokeApiStubServer()
+				.route("/pokemon/pikachu", 200, PIKACHU)
+				.route("/pokemon/pikachu/encounters", 200, PIKACHU_ENCOUNTERS);
+		client = new PokeApiClient(WebClient.builder().baseUrl(stub.baseUrl()).build(), PokeApiDiskCache.disabled(),
+				PokeApiResilience.disabled());
+	}
+
+	@AfterEach
+	void tearDown() {
+		stub.close();
+	}
+
+	@Test
+	void combinesBaseDataAndEncounters() {
+		Pokemon pokemon = client.getPokemon("pikachu");
+
+		assertThat(pokemon.getId()).isEqualTo(25);
+		assertThat(pokemon.getName()).isEqualTo("pikachu");
+		assertThat(pokemon.getBaseExperience()).isEqualTo(112);
+		assertThat(pokemon.getAbilities()).containsExactly("static", "lightning-rod");
+		assertThat(pokemon.getHeldItems()).containsExactly("oran-berry", "light-ball");
+		assertThat(pokemon.getLocationAreaEncounters()).hasSize(6).first().isEqualTo("viridian-forest-area");
+	}
+
+	@Test
+	void basePlanSkipsEncountersEndpoint() {
+		Pokemon pokemon = client.getPokemon("pikachu", FetchPlan.BASE);
+
+		assertThat(pokemon.getId()).isEqualTo(25);
+		assertThat(pokemon.getLocationAreaEncounters()).isEmpty();
+		assertThat(stub.hits("/pokemon/pikachu")).isEqualTo(1);
+		assertThat(stub.hits("/pokemon/pikachu/encounters")).isZero();
+	}
+
+	@Test
+	void notFoundIsMappedToPokemonNotFoundException() {
+		assertThatThrownBy(() -> client.getPokemon("missingno")).isInstanceOf(PokemonNotFoundException.class);
+	}
+
+	@Test
+	void serverErrorIsMappedToRemoteClientException() {
+		stub.route("/pokemon/pikachu", 503, "{}");
+
+		assertThatThrownBy(() -> client.getPokemon("pikachu")).isInstanceOf(RemoteClientException.class);
+	}
+
+	@Test
+	void baseDataAndEncountersAreFetchedConcurrently() {
+		long rttMs = 200;
+		stub.latency(rttMs);
+		client.getPokemon("pikachu"); // calentamiento (conexiones, codecs)
+
+		long[] samples = new long[7];
+		for (int i = 0; i < samples.length; i++) {
+			long start = System.nanoTime();
+			client.getPokemon("pikachu");
+			samples[i] = (System.nanoTime() - start) / 1_000_000;
+		}
+		Arrays.sort(samples);
+		long p50 = samples[samples.length / 2];
+
+		// Secuencial: ~2×RTT. Concurrente: ~1×RTT más la sobrecarga local.
+		assertThat(p50).isGreaterThanOrEqualTo(rttMs).isLessThan(rttMs * 3 / 2);
+	}
+
+	@Test
+	void concurrentLookupsOfSameNameShareOneOutboundRequest() throws Exception {
+		stub.latency(300);
+		List<Pokemon> results = burst(32, i -> i % 2 == 0 ? "pikachu" : " Pikachu ");
+
+		assertThat(results).hasSize(32).allSatisfy(pokemon -> assertThat(pokemon.getId()).isEqualTo(25));
+		assertThat(stub.hits("/pokemon/pikachu")).isEqualTo(1);
+		assertThat(stub.hits("/pokemon/pikachu/encounters")).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentLookupsShareTheSameFailure() throws Exception {
+		stub.latency(300);
+		List<Object> outcomes = burstOutcomes(16, i -> "missingno");
+
+		assertThat(outcomes).hasSize(16).allSatisfy(o -> assertThat(o).isInstanceOf(PokemonNotFoundException.class));
+		assertThat(stub.hits("/pokemon/missingno")).isEqualTo(1);
+	}
+
+	private List<Pokemon> burst(int callers, IntFunction<String> names)
+			throws Exception {
+		List<Pokemon> results = new ArrayList<>();
+		for (Object outcome : burstOutcomes(callers, names)) {
+			if (outcome instanceof Throwable t) {
+				throw new AssertionError("Unexpected failure", t);
+			}
+			results.add((Pokemon) outcome);
+		}
+		return results;
+	}
+
+	/** Lanza {@code callers} consultas a la vez y devuelve el DTO o la excepción de cada una. */
+	private List<Object> burstOutcomes(int callers, IntFunction<String> names)
+			throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(callers);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Object>> futures = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				String name = names.apply(i);
+				futures.add(pool.submit(() -> {
+					start.await();
+					try {
+						return (Object) client.getPokemon(name);
+					} catch (RuntimeException e) {
+						return e;
+					}
+				}));
+			}
+			start.countDown();
+			List<Object> outcomes = new ArrayList<>();
+			for (Future<Object> future : futures) {
+				outcomes.add(future.get());
+			}
+			return outcomes;
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.example.pokemon.adapters.out.pokeapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Acceso a los payloads de ejemplo de PokeAPI en
+ * {@code src/test/resources/fixtures/pokeapi}, con la forma de las respuestas
+ * reales de /pokemon/{name} (incluidos moves, sprites, game_indices...).
+ */
+public final class PokeApiFixtures {
+
+	private PokeApiFixtures() {
+	}
+
+	public static byte[] bytes(String fixture) {
+		try (InputStream in = PokeApiFixtures.class.getResourceAsStream("/fixtures/pokeapi/" + fixture)) {
+			if (in == null) {
+				throw new IllegalArgumentException("Fixture not found: " + fixture);
+			}
+			return in.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public static String json(String fixture) {
+		return new String(bytes(fixture), StandardCharsets.UTF_8);
+	}
+
+	/** Trocea el payload en buffers de {@code chunkSize} bytes, como llegan por la red. */
+	public static Flux<DataBuffer> chunks(byte[] payload, int chunkSize) {
+		return chunks(slices(payload, chunkSize));
+	}
+
+	/** Envuelve trozos ya cortados (sin copiar) como flujo de buffers. */
+	public static Flux<DataBuffer> chunks(List<byte[]> slices) {
+		return Flux.fromIterable(slices).map(DefaultDataBufferFactory.sharedInstance::wrap);
+	}
+
+	public static List<byte[]> slices(byte[] payload, int chunkSize) {
+		List<byte[]> slices = new ArrayList<>();
+		for (int offset = 0; offset < payload.length; offset += chunkSize) {
+			slices.add(Arrays.copyOfRange(payload, offset, Math.min(payload.length, offset + chunkSize)));
+		}
+		return slices;
+	}
+
+}
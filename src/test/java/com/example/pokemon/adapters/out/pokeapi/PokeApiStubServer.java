@@ -0,0 +1,201 @@
+package com.example.pokemon.adapters.out.pokeapi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stub HTTP local que imita los endpoints de PokeAPI usados por
+ * {@link PokeApiClient}.
+ *
+ * - Cada ruta responde con un status y un cuerpo JSON configurables. Una ruta
+ *   puede incluir query string ({@code /pokemon?offset=0&limit=20}); las
+ *   peticiones con query se identifican por ruta + query en todos los métodos.
+ * - Permite añadir una latencia fija por petición para simular el RTT remoto, y
+ *   una latencia extra para las primeras peticiones de una ruta (cola lenta).
+ * - Cuenta las peticiones recibidas por ruta para verificar el tráfico saliente.
+ * - Opcionalmente envía validadores (ETag / Last-Modified) y responde 304 a los
+ *   GET condicionales que coinciden.
+ * - Puede fallar las próximas N peticiones de una ruta con un status dado o
+ *   cortando la conexión sin responder (fallos intermitentes).
+ * - Comprime con gzip si el cliente envía {@code Accept-Encoding: gzip}, como
+ *   hace la CDN de PokeAPI.
+ */
+public final class PokeApiStubServer implements AutoCloseable {
+
+	/** Status especial para {@link #failRequests}: corta la conexión sin respuesta. */
+	public static final int DROP_CONNECTION = -1;
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final Map<String, StubResponse> routes = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> notModified = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> gzipped = new ConcurrentHashMap<>();
+	private final Map<String, Validators> validators = new ConcurrentHashMap<>();
+	private final Map<String, SlowRequests> slowRequests = new ConcurrentHashMap<>();
+	private final Map<String, FailingRequests> failingRequests = new ConcurrentHashMap<>();
+	private volatile long latencyMs;
+
+	public PokeApiStubServer() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.createContext("/", this::handle);
+		this.server.setExecutor(executor);
+		this.server.start();
+	}
+
+	/** URL base equivalente a https://pokeapi.co/api/v2. */
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	public PokeApiStubServer latency(long millis) {
+		this.latencyMs = millis;
+		return this;
+	}
+
+	/** Las próximas {@code count} peticiones a la ruta tardan {@code millis} más. */
+	public PokeApiStubServer slowRequests(String path, int count, long millis) {
+		slowRequests.put(path, new SlowRequests(new AtomicInteger(count), millis));
+		return this;
+	}
+
+	/**
+	 * Las próximas {@code count} peticiones a la ruta fallan con {@code status}
+	 * (p.ej. 503); con {@link #DROP_CONNECTION} se cierra la conexión sin responder.
+	 */
+	public PokeApiStubServer failRequests(String path, int count, int status) {
+		failingRequests.put(path, new FailingRequests(new AtomicInteger(count), status));
+		return this;
+	}
+
+	public PokeApiStubServer route(String path, int status, String body) {
+		routes.put(path, new StubResponse(status, body));
+		return this;
+	}
+
+	/** Envía estos validadores en la ruta y responde 304 si el cliente los repite. */
+	public PokeApiStubServer validators(String path, String etag, String lastModified) {
+		validators.put(path, new Validators(etag, lastModified));
+		return this;
+	}
+
+	/** Número de respuestas 304 enviadas para la ruta indicada. */
+	public int notModified(String path) {
+		AtomicInteger counter = notModified.get(path);
+		return counter == null ? 0 : counter.get();
+	}
+
+	/** Número de respuestas enviadas comprimidas con gzip para la ruta indicada. */
+	public int gzipped(String path) {
+		AtomicInteger counter = gzipped.get(path);
+		return counter == null ? 0 : counter.get();
+	}
+
+	/** Número de peticiones recibidas para la ruta indicada. */
+	public int hits(String path) {
+		AtomicInteger counter = hits.get(path);
+		return counter == null ? 0 : counter.get();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String query = exchange.getRequestURI().getRawQuery();
+		String path = query == null ? exchange.getRequestURI().getPath()
+				: exchange.getRequestURI().getPath() + "?" + query;
+		hits.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+		try {
+			if (latencyMs > 0) {
+				Thread.sleep(latencyMs);
+			}
+			SlowRequests slow = slowRequests.get(path);
+			if (slow != null && slow.remaining().getAndDecrement() > 0) {
+				Thread.sleep(slow.millis());
+			}
+			FailingRequests failing = failingRequests.get(path);
+			if (failing != null && failing.remaining().getAndDecrement() > 0) {
+				if (failing.status() != DROP_CONNECTION) {
+					exchange.sendResponseHeaders(failing.status(), -1);
+				}
+				return;
+			}
+			StubResponse response = routes.getOrDefault(path, new StubResponse(404, "{\"detail\":\"Not found.\"}"));
+			Validators current = validators.get(path);
+			if (current != null) {
+				if (current.matches(exchange.getRequestHeaders().getFirst("If-None-Match"),
+						exchange.getRequestHeaders().getFirst("If-Modified-Since"))) {
+					notModified.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+					exchange.sendResponseHeaders(304, -1);
+					return;
+				}
+				if (current.etag() != null) {
+					exchange.getResponseHeaders().add("ETag", current.etag());
+				}
+				if (current.lastModified() != null) {
+					exchange.getResponseHeaders().add("Last-Modified", current.lastModified());
+				}
+			}
+			byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+			String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+			if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+				bytes = gzip(bytes);
+				exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+				gzipped.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+			}
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(response.status(), bytes.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(bytes);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private static byte[] gzip(byte[] bytes) throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+			out.write(bytes);
+		}
+		return compressed.toByteArray();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private record StubResponse(int status, String body) {
+	}
+
+	private record SlowRequests(AtomicInteger remaining, long millis) {
+	}
+
+	private record FailingRequests(AtomicInteger remaining, int status) {
+	}
+
+	private record Validators(String etag, String lastModified) {
+
+		/** If-None-Match tiene prioridad sobre If-Modified-Since (RFC 9110). */
+		boolean matches(String ifNoneMatch, String ifModifiedSince) {
+			if (ifNoneMatch != null) {
+				return ifNoneMatch.equals(etag);
+			}
+			return ifModifiedSince != null && ifModifiedSince.equals(lastModified);
+		}
+	}
+
+}
@@ -0,0 +1,138 @@
+package com.example.pokemon.adapters.out.pokeapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.pokemon.adapters.out.pokeapi.diskcache.PokeApiDiskCache;
+import com.example.pokemon.adapters.out.pokeapi.resilience.PokeApiResilience;
+import com.example.pokemon.domain.model.FetchPlan;
+
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Concurrencia sostenida del camino bloqueante de una petición SOAP
+ * ({@link PokeApiClient#getPokemon(String, FetchPlan)} con {@code block()})
+ * con hilos de plataforma (pool de 200, el máximo por defecto de Tomcat) frente
+ * a un hilo virtual por petición, contra un PokeAPI local con latencia alta.
+ *
+ * Mide tiempo total, peticiones/s, pico de hilos vivos y heap usado. La
+ * variante virtual se omite si la JVM no es 21+.
+ *
+ * Ejecutar con: {@code mvn test -Pbenchmark,virtual-threads -Dtest=VirtualThreadsLoadBenchmark}
+ */
+@Tag("benchmark")
+class VirtualThreadsLoadBenchmark {
+
+	private static final int REQUESTS = 2_000;
+	private static final long REMOTE_LATENCY_MS = 200;
+	private static final int TOMCAT_MAX_THREADS = 200;
+
+	private PokeApiStubServer stub;
+	private ConnectionProvider connections;
+	private PokeApiClient client;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		stub = new PokeApiStubServer().latency(REMOTE_LATENCY_MS);
+		// Cuerpo mínimo: se mide la espera remota, no el parseo de JSON
+		String pikachu = "{\"id\":25,\"name\":\"pikachu\",\"base_experience\":112,"
+				+ "\"abilities\":[{\"ability\":{\"name\":\"static\"}}],\"held_items\":[]}";
+		for (int i = 0; i < REQUESTS; i++) {
+			// Nombres distintos: sin coalescencia de peticiones en el cliente
+			stub.route("/pokemon/p-" + i, 200, pikachu);
+		}
+		connections = ConnectionProvider.builder("benchmark").maxConnections(REQUESTS)
+				.pendingAcquireMaxCount(-1).build();
+		client = new PokeApiClient(WebClient.builder().baseUrl(stub.baseUrl())
+				.clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections))).build(),
+				PokeApiDiskCache.disabled(), PokeApiResilience.disabled());
+	}
+
+	@AfterEach
+	void tearDown() {
+		connections.dispose();
+		stub.close();
+	}
+
+	@Test
+	void platformThreads() throws Exception {
+		Result result = run("plataforma (" + TOMCAT_MAX_THREADS + ")",
+				Executors.newFixedThreadPool(TOMCAT_MAX_THREADS));
+
+		// Acotado por el pool: ~REQUESTS / 200 rondas de REMOTE_LATENCY_MS
+		assertThat(result.millis()).isGreaterThanOrEqualTo(REQUESTS / TOMCAT_MAX_THREADS * REMOTE_LATENCY_MS);
+	}
+
+	@Test
+	void virtualThreads() throws Exception {
+		assumeTrue(Runtime.version().feature() >= 21, "Hilos virtuales: requiere JDK 21+");
+		ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+				.invoke(null);
+
+		Result result = run("virtuales", executor);
+
+		// Acotado por PokeAPI, no por los hilos
+		assertThat(result.millis()).isLessThan(REQUESTS / TOMCAT_MAX_THREADS * REMOTE_LATENCY_MS);
+	}
+
+	private Result run(String mode, ExecutorService executor) throws Exception {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		Runtime runtime = Runtime.getRuntime();
+		// Calentamiento de conexiones y decoders
+		client.getPokemon("p-0", FetchPlan.BASE);
+		System.gc();
+		threads.resetPeakThreadCount();
+		long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+		AtomicInteger failures = new AtomicInteger();
+
+		long start = System.nanoTime();
+		List<Future<?>> futures = new ArrayList<>(REQUESTS);
+		try {
+			for (int i = 0; i < REQUESTS; i++) {
+				String name = "p-" + i;
+				futures.add(executor.submit(() -> {
+					try {
+						client.getPokemon(name, FetchPlan.BASE);
+					} catch (RuntimeException e) {
+						failures.incrementAndGet();
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		long millis = (System.nanoTime() - start) / 1_000_000;
+		long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+
+		System.out.printf("Hilos %s: %,d peticiones en %,d ms (%,.0f/s), pico de hilos de plataforma %d,"
+				+ " heap +%,d KB, fallos %d%n", mode, REQUESTS, millis, REQUESTS * 1000.0 / millis,
+				threads.getPeakThreadCount(), (heapAfter - heapBefore) / 1024, failures.get());
+
+		assertThat(failures.get()).isZero();
+		return new Result(millis);
+	}
+
+	private record Result(long millis) {
+	}
+
+}
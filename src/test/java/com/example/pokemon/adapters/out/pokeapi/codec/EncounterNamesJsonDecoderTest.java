@@ -0,0 +1,44 @@
+package com.example.pokemon.adapters.out.pokeapi.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+
+import com.example.pokemon.adapters.out.pokeapi.PokeApiFixtures;
+import com.fasterxml.jackson.core.JsonFactory;
+
+class EncounterNamesJsonDecoderTest {
+
+	private final EncounterNamesJsonDecoder decoder = new EncounterNamesJsonDecoder(new JsonFactory());
+
+	@Test
+	void collectsLocationAreaNamesOnly() {
+		byte[] payload = PokeApiFixtures.bytes("encounters-pikachu.json");
+
+		for (int chunkSize : new int[] { 1, 64, payload.length }) {
+			assertThat(decoder.decode(PokeApiFixtures.chunks(payload, chunkSize)).block())
+					.hasSize(6)
+					.first().isEqualTo("viridian-forest-area");
+		}
+	}
+
+	@Test
+	void emptyArrayGivesEmptyList() {
+		byte[] payload = "[]".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(decoder.decode(PokeApiFixtures.chunks(payload, 1)).block()).isEmpty();
+	}
+
+	@Test
+	void objectRootFails() {
+		byte[] payload = "{\"detail\":\"Not found.\"}".getBytes(StandardCharsets.UTF_8);
+
+		assertThatThrownBy(() -> decoder.decode(PokeApiFixtures.chunks(payload, 4)).block())
+				.isInstanceOf(DecodingException.class);
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.example.pokemon.adapters.out.pokeapi.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.pokemon.adapters.out.pokeapi.PokeApiFixtures;
+import com.example.pokemon.adapters.out.pokeapi.dto.EncounterDTO;
+import com.example.pokemon.adapters.out.pokeapi.dto.PokeApiPokemonDTO;
+import com.example.pokemon.adapters.out.pokeapi.mapper.PokeApiMapper;
+import com.example.pokemon.adapters.out.pokeapi.mapper.PokeApiMapperImpl;
+import com.example.pokemon.domain.model.Pokemon;
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * Asignación de memoria por consulta completa (/pokemon/{name} +
+ * /pokemon/{name}/encounters) hasta obtener el {@link Pokemon} de dominio:
+ * cadena DTO → {@link PokeApiMapper} → {@code toBuilder()} frente a la
+ * decodificación directa con {@link PokemonJsonDecoder} y
+ * {@link EncounterNamesJsonDecoder}.
+ *
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=PokemonJsonDecoderBenchmark}
+ */
+@Tag("benchmark")
+class PokemonJsonDecoderBenchmark {
+
+	private static final int CHUNK_SIZE = 8192;
+	private static final int WARMUP = 1500;
+	private static final int ITERATIONS = 1000;
+
+	@Test
+	void allocationPerLookup() {
+		List<byte[]> pokemonSlices = PokeApiFixtures.slices(PokeApiFixtures.bytes("pokemon-pikachu.json"),
+				CHUNK_SIZE);
+		List<byte[]> encounterSlices = PokeApiFixtures.slices(PokeApiFixtures.bytes("encounters-pikachu.json"),
+				CHUNK_SIZE);
+
+		// Cadena anterior: DTO proyectado + Flux<EncounterDTO> + MapStruct + copia null-safe
+		ProjectingJsonDecoder<PokeApiPokemonDTO> projecting = new ProjectingJsonDecoder<>(
+				Jackson2ObjectMapperBuilder.json().build(), PokeApiPokemonDTO.class,
+				Set.of("id", "name", "base_experience", "abilities", "held_items"));
+		Jackson2JsonDecoder encountersJackson = new Jackson2JsonDecoder(Jackson2ObjectMapperBuilder.json().build());
+		ResolvableType encounterType = ResolvableType.forClass(EncounterDTO.class);
+		PokeApiMapper mapper = new PokeApiMapperImpl();
+
+		Supplier<Pokemon> dtoChain = () -> {
+			PokeApiPokemonDTO base = projecting.decode(PokeApiFixtures.chunks(pokemonSlices)).block();
+			List<EncounterDTO> encounters = encountersJackson
+					.decode(PokeApiFixtures.chunks(encounterSlices), encounterType, null, Map.of())
+					.cast(EncounterDTO.class).collectList().block();
+			PokeApiPokemonDTO combined = new PokeApiPokemonDTO(base.id(), base.name(), base.base_experience(),
+					base.abilities(), base.held_items(), encounters);
+			Pokemon domain = mapper.toDomain(combined);
+			return domain.toBuilder()
+					.abilities(nullSafe(domain.getAbilities()))
+					.heldItems(nullSafe(domain.getHeldItems()))
+					.locationAreaEncounters(nullSafe(domain.getLocationAreaEncounters()))
+					.build();
+		};
+
+		// Decodificación directa al builder del dominio
+		JsonFactory jsonFactory = new JsonFactory();
+		PokemonJsonDecoder pokemonDecoder = new PokemonJsonDecoder(jsonFactory);
+		EncounterNamesJsonDecoder encountersDecoder = new EncounterNamesJsonDecoder(jsonFactory);
+
+		Supplier<Pokemon> direct = () -> pokemonDecoder.decode(PokeApiFixtures.chunks(pokemonSlices)).block()
+				.locationAreaEncounters(encountersDecoder.decode(PokeApiFixtures.chunks(encounterSlices)).block())
+				.build();
+
+		// La cadena anterior duplicaba las listas: los setters @Singular de
+		// toBuilder() añaden a las ya copiadas en lugar de reemplazarlas
+		assertThat(dtoChain.get().getAbilities()).hasSize(4);
+		assertThat(direct.get().getAbilities()).containsExactly("static", "lightning-rod");
+
+		Result baseline = measure(dtoChain);
+		Result decoded = measure(direct);
+
+		System.out.printf("DTO + PokeApiMapper + toBuilder: %,d bytes/op, %.1f us/op%n", baseline.bytesPerOp,
+				baseline.microsPerOp);
+		System.out.printf("PokemonJsonDecoder (directo)   : %,d bytes/op, %.1f us/op%n", decoded.bytesPerOp,
+				decoded.microsPerOp);
+
+		assertThat(decoded.bytesPerOp).isLessThan(baseline.bytesPerOp);
+	}
+
+	private static <T> List<T> nullSafe(List<T> list) {
+		return (list == null) ? Collections.emptyList() : list;
+	}
+
+	private static Result measure(Supplier<Pokemon> lookup) {
+		for (int i = 0; i < WARMUP; i++) {
+			assertThat(lookup.get().getId()).isEqualTo(25);
+		}
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			lookup.get();
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+		return new Result(allocated / ITERATIONS, elapsed / 1_000.0 / ITERATIONS);
+	}
+
+	private record Result(long bytesPerOp, double microsPerOp) {
+	}
+
+}
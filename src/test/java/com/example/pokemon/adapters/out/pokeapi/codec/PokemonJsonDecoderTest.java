@@ -0,0 +1,56 @@
+package com.example.pokemon.adapters.out.pokeapi.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+
+import com.example.pokemon.adapters.out.pokeapi.PokeApiFixtures;
+import com.example.pokemon.domain.model.Pokemon;
+import com.fasterxml.jackson.core.JsonFactory;
+
+class PokemonJsonDecoderTest {
+
+	private final PokemonJsonDecoder decoder = new PokemonJsonDecoder(new JsonFactory());
+
+	@Test
+	void decodesDomainFieldsAcrossChunkBoundaries() {
+		byte[] payload = PokeApiFixtures.bytes("pokemon-pikachu.json");
+
+		for (int chunkSize : new int[] { 1, 7, 8192, payload.length }) {
+			Pokemon pokemon = decoder.decode(PokeApiFixtures.chunks(payload, chunkSize)).block().build();
+
+			assertThat(pokemon.getId()).isEqualTo(25);
+			assertThat(pokemon.getName()).isEqualTo("pikachu");
+			assertThat(pokemon.getBaseExperience()).isEqualTo(112);
+			assertThat(pokemon.getAbilities()).containsExactly("static", "lightning-rod");
+			assertThat(pokemon.getHeldItems()).containsExactly("oran-berry", "light-ball");
+			// Los "name" de moves/sprites/version_details no deben colarse
+			assertThat(pokemon.getLocationAreaEncounters()).isEmpty();
+		}
+	}
+
+	@Test
+	void missingListsBuildAsEmptyImmutableLists() {
+		byte[] payload = "{\"id\":132,\"name\":\"ditto\",\"base_experience\":null}".getBytes(StandardCharsets.UTF_8);
+
+		Pokemon pokemon = decoder.decode(PokeApiFixtures.chunks(payload, 5)).block().build();
+
+		assertThat(pokemon.getId()).isEqualTo(132);
+		assertThat(pokemon.getBaseExperience()).isNull();
+		assertThat(pokemon.getAbilities()).isEmpty();
+		assertThatThrownBy(() -> pokemon.getHeldItems().add("x")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void nonObjectRootFails() {
+		byte[] payload = "[1,2,3]".getBytes(StandardCharsets.UTF_8);
+
+		assertThatThrownBy(() -> decoder.decode(PokeApiFixtures.chunks(payload, 4)).block())
+				.isInstanceOf(DecodingException.class);
+	}
+
+}
@@ -0,0 +1,105 @@
+/**
+ * 
+ */
+package com.example.pokemon.adapters.out.pokeapi.codec;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.springframework.core.codec.DecodingException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * ProjectingJsonDecoder
+ *
+ * Decodificador JSON en streaming que solo conserva un subconjunto de campos de
+ * primer nivel de un objeto raíz y los enlaza a un tipo con Jackson.
+ *
+ * - Los campos incluidos en la proyección se copian a un {@link TokenBuffer}
+ *   pequeño; el resto de subárboles (p.ej. {@code moves}, {@code sprites},
+ *   {@code game_indices} en /pokemon/{name}) se saltan sin materializar nada.
+ * - Al terminar el cuerpo se enlaza el {@link TokenBuffer} al tipo destino con
+ *   el {@link ObjectMapper}.
+ *
+ * Para /pokemon/{name} el cliente usa {@link PokemonJsonDecoder}, que además
+ * evita los DTOs intermedios; este decodificador sirve para cualquier tipo
+ * enlazable por Jackson.
+ *
+ * @param <T> tipo destino
+ */
+public final class ProjectingJsonDecoder<T> extends StreamingJsonDecoder<T> {
+
+	private final ObjectMapper objectMapper;
+	private final JavaType targetType;
+	private final Set<String> fields;
+
+	/**
+	 * @param objectMapper mapper usado para crear el parser y enlazar el resultado
+	 * @param targetType   tipo destino
+	 * @param fields       nombres de campos de primer nivel a conservar
+	 */
+	public ProjectingJsonDecoder(ObjectMapper objectMapper, Class<T> targetType, Set<String> fields) {
+		super(objectMapper.getFactory());
+		this.objectMapper = objectMapper;
+		this.targetType = objectMapper.constructType(targetType);
+		this.fields = Set.copyOf(fields);
+	}
+
+	@Override
+	protected TokenSink<T> newSink() {
+		return new Projection();
+	}
+
+	/**
+	 * Copia los campos proyectados a un {@link TokenBuffer}.
+	 */
+	private final class Projection implements TokenSink<T> {
+
+		private final TokenBuffer projected = new TokenBuffer(objectMapper, false);
+
+		/** true mientras el valor del campo de primer nivel actual se conserva. */
+		private boolean capturing;
+
+		@Override
+		public void accept(JsonToken token, JsonParser parser, int depth) throws IOException {
+			if (depth == 1) {
+				switch (token) {
+				case START_OBJECT -> projected.writeStartObject();
+				case END_OBJECT -> projected.writeEndObject();
+				case START_ARRAY -> throw new DecodingException("Expected JSON object but found: " + token);
+				case FIELD_NAME -> {
+					String name = parser.currentName();
+					capturing = fields.contains(name);
+					if (capturing) {
+						projected.writeFieldName(name);
+					}
+				}
+				default -> copyIfCapturing(parser);
+				}
+				return;
+			}
+			// Valor (o parte de él) de un campo de primer nivel
+			copyIfCapturing(parser);
+		}
+
+		private void copyIfCapturing(JsonParser parser) throws IOException {
+			if (capturing) {
+				projected.copyCurrentEvent(parser);
+			}
+		}
+
+		@Override
+		public T finish() throws IOException {
+			try (JsonParser result = projected.asParser(objectMapper)) {
+				return objectMapper.readValue(result, targetType);
+			}
+		}
+
+	}
+
+}
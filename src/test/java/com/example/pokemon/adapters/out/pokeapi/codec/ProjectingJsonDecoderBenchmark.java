@@ -0,0 +1,92 @@
+package com.example.pokemon.adapters.out.pokeapi.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.pokemon.adapters.out.pokeapi.PokeApiFixtures;
+import com.example.pokemon.adapters.out.pokeapi.dto.PokeApiPokemonDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Asignación de memoria por decodificación de /pokemon/{name}:
+ * {@code bodyToMono(PokeApiPokemonDTO.class)} (Jackson2JsonDecoder: junta todo
+ * el cuerpo y lo enlaza completo) frente a {@link ProjectingJsonDecoder}.
+ *
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=ProjectingJsonDecoderBenchmark}
+ */
+@Tag("benchmark")
+class ProjectingJsonDecoderBenchmark {
+
+	private static final int CHUNK_SIZE = 8192;
+	private static final int WARMUP = 1500;
+	private static final int ITERATIONS = 1000;
+
+	/**
+	 * El DTO tipa location_area_encounters como lista, pero en /pokemon/{name} es
+	 * una URL; se ignora para que la ruta de referencia pueda decodificar el
+	 * payload real.
+	 */
+	@JsonIgnoreProperties("location_area_encounters")
+	private interface IgnoreEncountersUrl {
+	}
+
+	@Test
+	void allocationPerDecode() {
+		byte[] payload = PokeApiFixtures.bytes("pokemon-pikachu.json");
+		List<byte[]> slices = PokeApiFixtures.slices(payload, CHUNK_SIZE);
+
+		ObjectMapper baselineMapper = Jackson2ObjectMapperBuilder.json()
+				.mixIn(PokeApiPokemonDTO.class, IgnoreEncountersUrl.class).build();
+		Jackson2JsonDecoder bodyToMono = new Jackson2JsonDecoder(baselineMapper);
+		bodyToMono.setMaxInMemorySize(16 * 1024 * 1024);
+		ResolvableType type = ResolvableType.forClass(PokeApiPokemonDTO.class);
+
+		ProjectingJsonDecoder<PokeApiPokemonDTO> projecting = new ProjectingJsonDecoder<>(
+				Jackson2ObjectMapperBuilder.json().build(), PokeApiPokemonDTO.class,
+				Set.of("id", "name", "base_experience", "abilities", "held_items"));
+
+		Result baseline = measure(() -> (PokeApiPokemonDTO) bodyToMono
+				.decodeToMono(PokeApiFixtures.chunks(slices), type, null, Map.of()).block());
+		Result streaming = measure(() -> projecting.decode(PokeApiFixtures.chunks(slices)).block());
+
+		System.out.printf("payload=%d bytes, chunk=%d bytes%n", payload.length, CHUNK_SIZE);
+		System.out.printf("bodyToMono(PokeApiPokemonDTO): %,d bytes/op, %.1f us/op%n", baseline.bytesPerOp,
+				baseline.microsPerOp);
+		System.out.printf("ProjectingJsonDecoder       : %,d bytes/op, %.1f us/op%n", streaming.bytesPerOp,
+				streaming.microsPerOp);
+
+		assertThat(streaming.bytesPerOp).isLessThan(baseline.bytesPerOp);
+	}
+
+	private static Result measure(Supplier<PokeApiPokemonDTO> decode) {
+		for (int i = 0; i < WARMUP; i++) {
+			assertThat(decode.get().id()).isEqualTo(25);
+		}
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			decode.get();
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+		return new Result(allocated / ITERATIONS, elapsed / 1_000.0 / ITERATIONS);
+	}
+
+	private record Result(long bytesPerOp, double microsPerOp) {
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.example.pokemon.adapters.out.pokeapi.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.pokemon.adapters.out.pokeapi.PokeApiFixtures;
+import com.example.pokemon.adapters.out.pokeapi.dto.PokeApiPokemonDTO;
+
+import reactor.core.publisher.Flux;
+
+class ProjectingJsonDecoderTest {
+
+	private final ProjectingJsonDecoder<PokeApiPokemonDTO> decoder = new ProjectingJsonDecoder<>(
+			Jackson2ObjectMapperBuilder.json().build(), PokeApiPokemonDTO.class,
+			Set.of("id", "name", "base_experience", "abilities", "held_items"));
+
+	@Test
+	void decodesProjectedFieldsAcrossChunkBoundaries() {
+		byte[] payload = PokeApiFixtures.bytes("pokemon-pikachu.json");
+
+		for (int chunkSize : new int[] { 1, 7, 8192, payload.length }) {
+			PokeApiPokemonDTO dto = decoder.decode(PokeApiFixtures.chunks(payload, chunkSize)).block();
+
+			assertThat(dto.id()).isEqualTo(25);
+			assertThat(dto.name()).isEqualTo("pikachu");
+			assertThat(dto.base_experience()).isEqualTo(112);
+			assertThat(dto.abilities()).extracting(a -> a.ability().name()).containsExactly("static",
+					"lightning-rod");
+			assertThat(dto.held_items()).extracting(h -> h.item().name()).containsExactly("oran-berry",
+					"light-ball");
+			// La URL "location_area_encounters" del recurso se descarta
+			assertThat(dto.location_area_encounters()).isNull();
+		}
+	}
+
+	@Test
+	void emptyBodyCompletesEmpty() {
+		assertThat(decoder.decode(Flux.empty()).blockOptional()).isEmpty();
+	}
+
+	@Test
+	void truncatedBodyFails() {
+		byte[] payload = "{\"id\":25,\"moves\":[{\"move\":".getBytes(StandardCharsets.UTF_8);
+
+		assertThatThrownBy(() -> decoder.decode(PokeApiFixtures.chunks(payload, 4)).block())
+				.isInstanceOf(DecodingException.class);
+	}
+
+	@Test
+	void nonObjectRootFails() {
+		byte[] payload = "[1,2,3]".getBytes(StandardCharsets.UTF_8);
+
+		assertThatThrownBy(() -> decoder.decode(PokeApiFixtures.chunks(payload, 4)).block())
+				.isInstanceOf(DecodingException.class);
+	}
+
+}
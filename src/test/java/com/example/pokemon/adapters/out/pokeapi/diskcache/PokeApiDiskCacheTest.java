@@ -0,0 +1,83 @@
+package com.example.pokemon.adapters.out.pokeapi.diskcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.pokemon.domain.model.Pokemon;
+
+class PokeApiDiskCacheTest {
+
+	private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+	@TempDir
+	Path directory;
+
+	private PokeApiDiskCache cache(Instant now) {
+		return new PokeApiDiskCache(directory, Duration.ofHours(1), Clock.fixed(now, ZoneOffset.UTC));
+	}
+
+	@Test
+	void roundTripsProjectedPokemonAndValidators() {
+		Pokemon pikachu = Pokemon.builder().id(25).name("pikachu").baseExperience(112)
+				.ability("static").ability("lightning-rod").heldItem("oran-berry").build();
+
+		cache(NOW).write("/pokemon/pikachu", new CachedResponse<>(pikachu, "\"v1\"", null, NOW),
+				RecordCodec.POKEMON_BASE);
+		CachedResponse<Pokemon> read = cache(NOW).read("/pokemon/pikachu", RecordCodec.POKEMON_BASE).orElseThrow();
+
+		assertThat(read.value()).isEqualTo(pikachu);
+		assertThat(read.etag()).isEqualTo("\"v1\"");
+		assertThat(read.lastModified()).isNull();
+		assertThat(read.fetchedAt()).isEqualTo(NOW);
+	}
+
+	@Test
+	void freshnessFollowsTtl() {
+		cache(NOW).write("/pokemon/pikachu/encounters", new CachedResponse<>(List.of("viridian-forest-area"), null,
+				"Wed, 01 Jan 2025 00:00:00 GMT", NOW), RecordCodec.NAMES);
+
+		PokeApiDiskCache later = cache(NOW.plus(Duration.ofMinutes(61)));
+		CachedResponse<List<String>> entry = later.read("/pokemon/pikachu/encounters", RecordCodec.NAMES)
+				.orElseThrow();
+
+		assertThat(cache(NOW.plus(Duration.ofMinutes(59))).isFresh(entry)).isTrue();
+		assertThat(later.isFresh(entry)).isFalse();
+		assertThat(later.isFresh(entry.revalidated(later.now()))).isTrue();
+	}
+
+	@Test
+	void corruptFileIsDiscarded() throws IOException {
+		cache(NOW).write("/pokemon/ditto/encounters", new CachedResponse<>(List.of("a"), null, null, NOW),
+				RecordCodec.NAMES);
+		try (var files = Files.list(directory)) {
+			Files.write(files.findFirst().orElseThrow(), new byte[] { 1, 2, 3 });
+		}
+
+		assertThat(cache(NOW).read("/pokemon/ditto/encounters", RecordCodec.NAMES)).isEmpty();
+		try (var files = Files.list(directory)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	void disabledCacheNeverStores() {
+		PokeApiDiskCache disabled = PokeApiDiskCache.disabled();
+		disabled.write("/pokemon/pikachu/encounters", new CachedResponse<>(List.of("a"), null, null, NOW),
+				RecordCodec.NAMES);
+
+		assertThat(disabled.isEnabled()).isFalse();
+		assertThat(disabled.read("/pokemon/pikachu/encounters", RecordCodec.NAMES)).isEmpty();
+	}
+
+}
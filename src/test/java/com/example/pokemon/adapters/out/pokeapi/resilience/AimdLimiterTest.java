@@ -0,0 +1,64 @@
+package com.example.pokemon.adapters.out.pokeapi.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class AimdLimiterTest {
+
+	private static final long FAST = Duration.ofMillis(10).toNanos();
+	private static final long SLOW = Duration.ofMillis(500).toNanos();
+
+	private final AimdLimiter limiter = new AimdLimiter(4, 1, 8, Duration.ofMillis(100), 0.5);
+
+	@Test
+	void rejectsBeyondLimitWithoutQueueing() {
+		for (int i = 0; i < 4; i++) {
+			assertThat(limiter.tryAcquire()).isTrue();
+		}
+		assertThat(limiter.tryAcquire()).isFalse();
+		assertThat(limiter.getInFlight()).isEqualTo(4);
+
+		limiter.onIgnore();
+		assertThat(limiter.tryAcquire()).isTrue();
+	}
+
+	@Test
+	void slowResponsesShrinkTheLimitMultiplicatively() {
+		limiter.tryAcquire();
+		limiter.onSuccess(SLOW);
+		assertThat(limiter.getLimit()).isEqualTo(2);
+
+		limiter.tryAcquire();
+		limiter.onDropped();
+		limiter.tryAcquire();
+		limiter.onDropped();
+		assertThat(limiter.getLimit()).isEqualTo(1);
+	}
+
+	@Test
+	void fastResponsesUnderLoadGrowTheLimitAdditively() {
+		// Una ventana completa (4 llamadas) en uso a plena carga: +1
+		for (int round = 0; round < 4; round++) {
+			for (int i = 0; i < 4; i++) {
+				limiter.tryAcquire();
+			}
+			for (int i = 0; i < 4; i++) {
+				limiter.onSuccess(FAST);
+			}
+		}
+		assertThat(limiter.getLimit()).isBetween(5, 8);
+	}
+
+	@Test
+	void idleTrafficDoesNotGrowTheLimit() {
+		for (int i = 0; i < 100; i++) {
+			limiter.tryAcquire();
+			limiter.onSuccess(FAST);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(4);
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.example.pokemon.adapters.out.pokeapi.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.pokemon.adapters.out.pokeapi.resilience.CircuitBreaker.State;
+
+class CircuitBreakerTest {
+
+	private final AtomicLong clock = new AtomicLong();
+	private final CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, Duration.ofSeconds(30), 2, clock::get);
+
+	private void call(boolean failure) {
+		assertThat(breaker.tryAcquire()).isTrue();
+		if (failure) {
+			breaker.onFailure();
+		} else {
+			breaker.onSuccess();
+		}
+	}
+
+	@Test
+	void opensWhenFailureRateReachesThreshold() {
+		call(true);
+		call(true);
+		call(false);
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED); // 3 < minimumCalls
+
+		call(false);
+		assertThat(breaker.getState()).isEqualTo(State.OPEN); // 2/4 = 50 %
+		assertThat(breaker.tryAcquire()).isFalse();
+		assertThat(breaker.retryAfter()).isEqualTo(Duration.ofSeconds(30));
+
+		clock.addAndGet(Duration.ofSeconds(10).toNanos());
+		assertThat(breaker.retryAfter()).isEqualTo(Duration.ofSeconds(20));
+	}
+
+	@Test
+	void halfOpenClosesAfterSuccessfulProbes() {
+		for (int i = 0; i < 4; i++) {
+			call(true);
+		}
+		clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+		assertThat(breaker.tryAcquire()).isTrue();
+		assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+		assertThat(breaker.tryAcquire()).isTrue();
+		assertThat(breaker.tryAcquire()).isFalse(); // solo 2 llamadas de prueba
+		breaker.onSuccess();
+		breaker.onSuccess();
+
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+		call(true); // ventana reiniciada: un fallo no vuelve a abrir
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	void halfOpenReopensOnFailure() {
+		for (int i = 0; i < 4; i++) {
+			call(true);
+		}
+		clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+		call(true);
+
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+		assertThat(breaker.retryAfter()).isEqualTo(Duration.ofSeconds(30));
+	}
+
+}
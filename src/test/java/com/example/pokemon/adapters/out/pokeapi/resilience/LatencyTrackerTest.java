@@ -0,0 +1,30 @@
+package com.example.pokemon.adapters.out.pokeapi.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyTrackerTest {
+
+	@Test
+	void reportsPercentileOverTheRecentWindow() {
+		LatencyTracker tracker = new LatencyTracker(100, 10);
+		for (int i = 1; i <= 9; i++) {
+			tracker.record(i);
+		}
+		assertThat(tracker.percentileNanos(0.95)).isEqualTo(-1); // < minSamples
+
+		for (int i = 10; i <= 100; i++) {
+			tracker.record(i);
+		}
+		assertThat(tracker.percentileNanos(0.95)).isEqualTo(95);
+		assertThat(tracker.percentileNanos(0.5)).isEqualTo(50);
+
+		// La ventana solo retiene las 100 últimas muestras
+		for (int i = 0; i < 100; i++) {
+			tracker.record(1_000);
+		}
+		assertThat(tracker.percentileNanos(0.5)).isEqualTo(1_000);
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.example.pokemon.adapters.out.pokeapi.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.common.exceptions.RemoteClientException;
+import com.example.pokemon.common.exceptions.RemoteServerException;
+import com.example.pokemon.common.exceptions.RemoteUnavailableException;
+
+class RetryPolicyTest {
+
+	@Test
+	void backoffIsFullJitterBelowTheExponentialCap() {
+		RetryPolicy policy = new RetryPolicy(5, Duration.ofMillis(100), Duration.ofMillis(350),
+				new TokenBudget(0.1, 10));
+
+		long[] caps = { 100, 200, 350, 350 };
+		for (int retry = 1; retry <= caps.length; retry++) {
+			long max = 0;
+			for (int i = 0; i < 500; i++) {
+				Duration delay = policy.backoff(retry);
+				assertThat(delay).isBetween(Duration.ZERO, Duration.ofMillis(caps[retry - 1]));
+				max = Math.max(max, delay.toMillis());
+			}
+			// Con jitter completo las esperas cubren todo el rango, no solo el tope
+			assertThat(max).as("retry " + retry).isGreaterThan(caps[retry - 1] / 2);
+		}
+	}
+
+	@Test
+	void onlyTransientErrorsAreRetryable() {
+		assertThat(RetryPolicy.isRetryable(new RemoteServerException("503", 503))).isTrue();
+		assertThat(RetryPolicy.isRetryable(new PokemonNotFoundException("missingno"))).isFalse();
+		assertThat(RetryPolicy.isRetryable(new RemoteClientException("Client error from PokeAPI: 400"))).isFalse();
+		assertThat(RetryPolicy.isRetryable(new RemoteUnavailableException("open", Duration.ofSeconds(1))))
+				.isFalse();
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.example.pokemon.adapters.out.pokeapi.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBudgetTest {
+
+	@Test
+	void extraRequestsAreCappedToTheConfiguredShareOfTraffic() {
+		TokenBudget budget = new TokenBudget(0.1, 2);
+
+		// Ráfaga inicial: el bucket empieza lleno
+		assertThat(budget.tryWithdraw()).isTrue();
+		assertThat(budget.tryWithdraw()).isTrue();
+		assertThat(budget.tryWithdraw()).isFalse();
+
+		int extra = 0;
+		for (int i = 0; i < 1000; i++) {
+			budget.deposit();
+			if (budget.tryWithdraw()) {
+				extra++;
+			}
+		}
+		assertThat(extra).isBetween(99, 100);
+	}
+
+	@Test
+	void depositsAreCappedAtBurst() {
+		TokenBudget budget = new TokenBudget(0.5, 1);
+		for (int i = 0; i < 10; i++) {
+			budget.deposit();
+		}
+		assertThat(budget.available()).isEqualTo(1.0);
+	}
+
+}
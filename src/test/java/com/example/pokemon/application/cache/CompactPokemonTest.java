@@ -0,0 +1,36 @@
+package com.example.pokemon.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.pokemon.domain.model.Pokemon;
+
+class CompactPokemonTest {
+
+	private final StringDictionary dictionary = new StringDictionary();
+
+	@Test
+	void materializesAnEqualPokemon() {
+		Pokemon pikachu = Pokemon.builder().id(25).name("pikachu").baseExperience(112)
+				.ability("static").ability("lightning-rod").heldItem("oran-berry").heldItem("light-ball")
+				.encounter("viridian-forest-area").encounter("kanto-route-2-south-towards-viridian-city")
+				.build();
+		Pokemon unknown = Pokemon.builder().name("missingno").build();
+
+		assertThat(CompactPokemon.encode(pikachu, dictionary).materialize(dictionary)).isEqualTo(pikachu);
+		assertThat(CompactPokemon.encode(unknown, dictionary).materialize(dictionary)).isEqualTo(unknown);
+	}
+
+	@Test
+	void repeatedStringsAreStoredOnce() {
+		CompactPokemon pikachu = CompactPokemon.encode(Pokemon.builder().id(25).name("pikachu")
+				.ability("static").encounter("viridian-forest-area").build(), dictionary);
+		CompactPokemon raichu = CompactPokemon.encode(Pokemon.builder().id(26).name("raichu")
+				.ability(new String("static")).encounter("power-plant-area").build(), dictionary);
+
+		assertThat(raichu.abilities()).containsExactly(pikachu.abilities()[0]);
+		assertThat(dictionary.size()).isEqualTo(3);
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.example.pokemon.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.pokemon.domain.model.FetchPlan;
+
+class OffHeapPokemonStoreTest {
+
+	private static OffHeapPokemonStore.Entry entry(int id) {
+		return new OffHeapPokemonStore.Entry(new CompactPokemon(id, "pokemon-" + id, 64, new int[] { 1, 2 },
+				new int[0], new int[] { 3, 4, 5 }), FetchPlan.FULL, 1_000L * id);
+	}
+
+	@Test
+	void takeReturnsTheStoredEntryOnce() {
+		OffHeapPokemonStore store = new OffHeapPokemonStore(64 * 1024, 4);
+
+		store.put("pikachu", entry(25));
+		OffHeapPokemonStore.Entry taken = store.take("pikachu");
+
+		assertThat(taken.plan()).isEqualTo(FetchPlan.FULL);
+		assertThat(taken.loadedAtNanos()).isEqualTo(25_000L);
+		assertThat(taken.pokemon().name()).isEqualTo("pokemon-25");
+		assertThat(taken.pokemon().encounters()).containsExactly(3, 4, 5);
+		assertThat(store.take("pikachu")).isNull();
+		assertThat(store.usedBytes()).isZero();
+	}
+
+	@Test
+	void fullStoreEvictsItsOldestSegment() {
+		// Ids de dos cifras: todas las entradas ocupan lo mismo; 4 segmentos de 10 entradas
+		int entryBytes = OffHeapPokemonStore.sizeOf(entry(10));
+		OffHeapPokemonStore store = new OffHeapPokemonStore(4L * 10 * entryBytes, 4);
+
+		for (int id = 10; id < 55; id++) {
+			store.put("pokemon-" + id, entry(id));
+		}
+
+		assertThat(store.evictions()).isEqualTo(10);
+		assertThat(store.size()).isEqualTo(35);
+		assertThat(store.take("pokemon-19")).isNull();
+		assertThat(store.take("pokemon-20")).isNotNull();
+		assertThat(store.usedBytes()).isLessThanOrEqualTo(store.capacityBytes());
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.example.pokemon.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.pokemon.domain.model.Pokemon;
+
+class PokemonAliasIndexTest {
+
+	private final PokemonAliasIndex index = new PokemonAliasIndex();
+
+	@Test
+	void canonicalFormIgnoresCaseWhitespaceAndLeadingZeros() {
+		assertThat(PokemonAliasIndex.canonical(" Pikachu ")).isEqualTo("pikachu");
+		assertThat(PokemonAliasIndex.canonical("025")).isEqualTo("25");
+		assertThat(PokemonAliasIndex.canonical("mr-mime")).isEqualTo("mr-mime");
+		assertThat(PokemonAliasIndex.canonical("porygon2")).isEqualTo("porygon2");
+	}
+
+	@Test
+	void knownIdsResolveToTheirName() {
+		assertThat(index.resolve("25")).isEqualTo("25");
+
+		index.record(Pokemon.builder().id(25).name("pikachu").build());
+
+		assertThat(index.resolve(" 025 ")).isEqualTo("pikachu");
+		assertThat(index.resolve("PIKACHU")).isEqualTo("pikachu");
+		assertThat(index.idOf(" Pikachu")).isEqualTo(25);
+		assertThat(index.idOf("raichu")).isEqualTo(-1);
+	}
+
+	@Test
+	void growsPastItsInitialCapacityAndReplacesReassignedIds() {
+		for (int id = 1; id <= 5000; id++) {
+			index.record(Pokemon.builder().id(id).name("poke-" + id).build());
+		}
+		index.record(Pokemon.builder().id(7).name("squirtle").build());
+
+		assertThat(index.size()).isEqualTo(5000);
+		assertThat(index.nameOf(4999)).isEqualTo("poke-4999");
+		assertThat(index.nameOf(7)).isEqualTo("squirtle");
+		assertThat(index.idOf("poke-7")).isEqualTo(-1);
+		assertThat(index.nameOf(5001)).isNull();
+	}
+
+}
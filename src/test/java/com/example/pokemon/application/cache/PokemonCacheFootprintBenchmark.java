@@ -0,0 +1,106 @@
+package com.example.pokemon.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * Memoria retenida por la caché con el catálogo completo (~1300 Pokémon
+ * FULL): caché de objetos {@link Pokemon} tal cual frente a
+ * {@link PokemonCache} con {@link CompactPokemon} y diccionario compartido.
+ *
+ * El catálogo es sintético pero con el vocabulario de PokeAPI (~300 abilities,
+ * ~200 held items, ~800 location areas con nombres largos) y, como al
+ * decodificar JSON, cada Pokémon trae sus propias instancias de String.
+ *
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=PokemonCacheFootprintBenchmark}
+ */
+@Tag("benchmark")
+class PokemonCacheFootprintBenchmark {
+
+	private static final int CATALOG_SIZE = 1300;
+
+	@Test
+	void heapFootprintAtFullCatalogSize() {
+		PokemonCacheProperties properties = new PokemonCacheProperties();
+		properties.setMaximumSize(CATALOG_SIZE * 2);
+
+		long plainBytes = retained(() -> {
+			Cache<String, Pokemon> plain = Caffeine.newBuilder().maximumSize(properties.getMaximumSize()).build();
+			for (Pokemon pokemon : catalog()) {
+				plain.put(pokemon.getName(), pokemon);
+			}
+			return plain;
+		});
+		long compactBytes = retained(() -> {
+			PokemonCache compact = new PokemonCache(properties, Ticker.systemTicker(), Runnable::run);
+			for (Pokemon pokemon : catalog()) {
+				compact.get(pokemon.getName(), FetchPlan.FULL, p -> pokemon);
+			}
+			return compact;
+		});
+
+		System.out.printf("Cache<String, Pokemon>       : %,d bytes (%,d bytes/entry)%n", plainBytes,
+				plainBytes / CATALOG_SIZE);
+		System.out.printf("PokemonCache (CompactPokemon): %,d bytes (%,d bytes/entry)%n", compactBytes,
+				compactBytes / CATALOG_SIZE);
+
+		assertThat(compactBytes).isLessThan(plainBytes);
+	}
+
+	/**
+	 * Heap usado tras GC con la estructura construida menos el heap usado sin
+	 * ella (la estructura se mantiene viva hasta la segunda medición).
+	 */
+	private static long retained(Supplier<Object> build) {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		long before = usedAfterGc(memory);
+		Object retained = build.get();
+		long after = usedAfterGc(memory);
+		assertThat(retained).isNotNull();
+		return after - before;
+	}
+
+	private static long usedAfterGc(MemoryMXBean memory) {
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+		}
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+
+	private static List<Pokemon> catalog() {
+		Random random = new Random(42);
+		List<Pokemon> catalog = new ArrayList<>(CATALOG_SIZE);
+		for (int id = 1; id <= CATALOG_SIZE; id++) {
+			Pokemon.PokemonBuilder builder = Pokemon.builder().id(id).name("pokemon-" + id)
+					.baseExperience(random.nextInt(400));
+			for (int i = 1 + random.nextInt(3); i > 0; i--) {
+				builder.ability(new String("ability-" + random.nextInt(300)));
+			}
+			for (int i = random.nextInt(3); i > 0; i--) {
+				builder.heldItem(new String("held-item-" + random.nextInt(200)));
+			}
+			for (int i = random.nextInt(40); i > 0; i--) {
+				builder.encounter(new String("kanto-route-" + random.nextInt(800) + "-south-towards-viridian-city-area"));
+			}
+			catalog.add(builder.build());
+		}
+		return catalog;
+	}
+
+}
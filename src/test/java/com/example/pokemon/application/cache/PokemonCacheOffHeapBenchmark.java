@@ -0,0 +1,145 @@
+package com.example.pokemon.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * Impacto en GC y throughput del nivel fuera del heap de {@link PokemonCache}.
+ *
+ * Compara una caché solo en heap que retiene todas las entradas con un nivel en
+ * heap pequeño más {@link OffHeapPokemonStore}. Para que el coste del old-gen
+ * sea visible se usan {@value #ENTRIES} entradas (varias veces el catálogo
+ * real, como con muchas variantes de clave) y, durante las consultas, se
+ * genera basura como la de un request SOAP.
+ *
+ * Mide por escenario: heap retenido, duración de un GC completo con la caché
+ * viva, tiempo/colecciones de GC durante la carga y consultas por segundo.
+ *
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=PokemonCacheOffHeapBenchmark}
+ */
+@Tag("benchmark")
+class PokemonCacheOffHeapBenchmark {
+
+	private static final int ENTRIES = 50_000;
+	private static final int LOOKUPS = 500_000;
+
+	@Test
+	void gcAndThroughputWithAndWithoutOffHeapTier() {
+		PokemonCacheProperties heapOnly = new PokemonCacheProperties();
+		heapOnly.setMaximumSize(ENTRIES);
+
+		PokemonCacheProperties tiered = new PokemonCacheProperties();
+		tiered.setMaximumSize(2_000);
+		tiered.getOffHeap().setEnabled(true);
+		tiered.getOffHeap().setCapacity(DataSize.ofMegabytes(128));
+
+		Result onHeap = run(heapOnly);
+		Result offHeap = run(tiered);
+
+		print("Solo heap            ", onHeap);
+		print("Heap 2000 + off-heap ", offHeap);
+
+		assertThat(offHeap.retainedBytes).isLessThan(onHeap.retainedBytes);
+	}
+
+	private static Result run(PokemonCacheProperties properties) {
+		long before = usedAfterGc();
+		PokemonCache cache = new PokemonCache(properties, Ticker.systemTicker(), Runnable::run);
+		for (Pokemon pokemon : catalog()) {
+			cache.get(pokemon.getName(), FetchPlan.FULL, p -> pokemon);
+		}
+		cache.cleanUp();
+		long retained = usedAfterGc() - before;
+
+		long fullGcStart = System.nanoTime();
+		System.gc();
+		long fullGcMillis = (System.nanoTime() - fullGcStart) / 1_000_000;
+
+		// Consultas sesgadas (los primeros Pokémon son los más pedidos) + basura por request
+		Random random = new Random(7);
+		long gcCountBefore = gcCount();
+		long gcMillisBefore = gcMillis();
+		long start = System.nanoTime();
+		long sink = 0;
+		for (int i = 0; i < LOOKUPS; i++) {
+			int id = (int) Math.min(ENTRIES - 1, Math.abs(random.nextGaussian()) * ENTRIES / 8);
+			String name = "pokemon-" + id;
+			sink += cache.get(name, FetchPlan.FULL, p -> {
+				throw new AssertionError("unexpected load of " + name);
+			}).getLocationAreaEncounters().size();
+			sink += new byte[2048].length;
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		assertThat(sink).isPositive();
+		return new Result(retained, fullGcMillis, gcCount() - gcCountBefore, gcMillis() - gcMillisBefore,
+				LOOKUPS / seconds, cache.offHeapSize());
+	}
+
+	private static void print(String label, Result result) {
+		System.out.printf("%s: heap retenido %,d KB, GC completo %d ms, %d GCs / %d ms en carga, %,.0f consultas/s"
+				+ " (%,d entradas fuera del heap)%n", label, result.retainedBytes / 1024, result.fullGcMillis,
+				result.gcCount, result.gcMillis, result.lookupsPerSecond, result.offHeapEntries);
+	}
+
+	private static long usedAfterGc() {
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+		}
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	private static long gcCount() {
+		long count = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, gc.getCollectionCount());
+		}
+		return count;
+	}
+
+	private static long gcMillis() {
+		long millis = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			millis += Math.max(0, gc.getCollectionTime());
+		}
+		return millis;
+	}
+
+	private static List<Pokemon> catalog() {
+		Random random = new Random(42);
+		List<Pokemon> catalog = new ArrayList<>(ENTRIES);
+		for (int id = 0; id < ENTRIES; id++) {
+			Pokemon.PokemonBuilder builder = Pokemon.builder().id(id + 1).name("pokemon-" + id)
+					.baseExperience(random.nextInt(400));
+			for (int i = 1 + random.nextInt(3); i > 0; i--) {
+				builder.ability("ability-" + random.nextInt(300));
+			}
+			for (int i = random.nextInt(3); i > 0; i--) {
+				builder.heldItem("held-item-" + random.nextInt(200));
+			}
+			for (int i = 1 + random.nextInt(40); i > 0; i--) {
+				builder.encounter("kanto-route-" + random.nextInt(800) + "-south-towards-viridian-city-area");
+			}
+			catalog.add(builder.build());
+		}
+		return catalog;
+	}
+
+	private record Result(long retainedBytes, long fullGcMillis, long gcCount, long gcMillis,
+			double lookupsPerSecond, int offHeapEntries) {
+	}
+
+}
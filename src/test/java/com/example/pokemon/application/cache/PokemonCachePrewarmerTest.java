@@ -0,0 +1,128 @@
+package com.example.pokemon.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.example.pokemon.application.service.QueryPokemonService;
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.ports.out.LoadPokemonPort;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+class PokemonCachePrewarmerTest {
+
+	private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneOffset.UTC);
+
+	private final Queue<String> loads = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+	private final PokemonCache cache = new PokemonCache(new PokemonCacheProperties(),
+			new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+	@Test
+	void loadsTheTopRequestedNamesFromHistory() {
+		List<String> history = List.of("pikachu", "eevee", "missingno", "bulbasaur");
+		OffsetDateTime[] since = new OffsetDateTime[1];
+		int[] limit = new int[1];
+		PokemonCacheProperties.Prewarm props = new PokemonCacheProperties.Prewarm();
+		props.setTopN(3);
+		props.setLookback(Duration.ofDays(7));
+		QueryPokemonService service = service(Duration.ZERO);
+		service.getPokemon("eevee", FetchPlan.BASE);
+
+		PokemonCachePrewarmer prewarmer = new PokemonCachePrewarmer(service, (from, top) -> {
+			since[0] = from;
+			limit[0] = top;
+			return history.subList(0, top);
+		}, props, true, CLOCK);
+
+		assertThat(prewarmer.prewarm()).isEqualTo(2);
+		assertThat(since[0]).isEqualTo(OffsetDateTime.parse("2025-05-25T00:00:00Z"));
+		assertThat(limit[0]).isEqualTo(3);
+		// eevee ya estaba en caché; missingno falla sin detener el resto
+		assertThat(loads).containsExactlyInAnyOrder("eevee", "pikachu", "missingno");
+		assertThat(cache.size()).isEqualTo(3);
+	}
+
+	@Test
+	void boundsTheNumberOfConcurrentLoads() {
+		PokemonCacheProperties.Prewarm props = new PokemonCacheProperties.Prewarm();
+		props.setConcurrency(3);
+		QueryPokemonService service = service(Duration.ofMillis(20));
+
+		PokemonCachePrewarmer prewarmer = new PokemonCachePrewarmer(service, (from, top) -> names(12), props, true,
+				CLOCK);
+
+		assertThat(prewarmer.prewarm()).isEqualTo(12);
+		assertThat(maxInFlight.get()).isBetween(2, 3);
+	}
+
+	@Test
+	void stopsWhenTheTimeBudgetIsExhausted() {
+		PokemonCacheProperties.Prewarm props = new PokemonCacheProperties.Prewarm();
+		props.setConcurrency(1);
+		props.setTimeBudget(Duration.ofMillis(250));
+		QueryPokemonService service = service(Duration.ofMillis(100));
+
+		PokemonCachePrewarmer prewarmer = new PokemonCachePrewarmer(service, (from, top) -> names(20), props, true,
+				CLOCK);
+
+		long start = System.nanoTime();
+		int loaded = prewarmer.prewarm();
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+		assertThat(loaded).isBetween(1, 3);
+	}
+
+	/** Carga remota asíncrona, como la de PokeApiClient: no ocupa un hilo mientras espera. */
+	private QueryPokemonService service(Duration latency) {
+		LoadPokemonPort port = new LoadPokemonPort() {
+			@Override
+			public Pokemon loadByName(String name, FetchPlan plan) {
+				return loadByNameReactive(name, plan).block();
+			}
+
+			@Override
+			public Mono<Pokemon> loadByNameReactive(String name, FetchPlan plan) {
+				return Mono.defer(() -> {
+					loads.add(name);
+					maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+					return Mono.delay(latency).map(tick -> {
+						inFlight.decrementAndGet();
+						return pokemon(name);
+					});
+				});
+			}
+		};
+		return new QueryPokemonService(port, cache, new PokemonAliasIndex());
+	}
+
+	private Pokemon pokemon(String name) {
+		if (name.equals("missingno")) {
+			throw new PokemonNotFoundException("Pokémon not found: " + name);
+		}
+		return Pokemon.builder().id(Math.abs(name.hashCode() % 1000) + 1).name(name).baseExperience(1).build();
+	}
+
+	private static List<String> names(int count) {
+		return IntStream.range(0, count).mapToObj(i -> "pokemon-" + i).toList();
+	}
+
+}
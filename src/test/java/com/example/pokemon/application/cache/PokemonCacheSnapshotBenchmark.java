@@ -0,0 +1,71 @@
+package com.example.pokemon.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * Tiempo de volcado y restauración de {@link PokemonCacheSnapshot} con el
+ * catálogo completo (~1300 Pokémon FULL, vocabulario sintético de PokeAPI).
+ *
+ * Ejecutar con: {@code mvn test -Pbenchmark -Dtest=PokemonCacheSnapshotBenchmark}
+ */
+@Tag("benchmark")
+class PokemonCacheSnapshotBenchmark {
+
+	private static final int CATALOG_SIZE = 1300;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void fullCatalogRestoresWellUnderOneSecond() throws IOException {
+		PokemonCacheProperties properties = new PokemonCacheProperties();
+		Path file = dir.resolve("pokemon-cache.snapshot");
+
+		PokemonCache before = new PokemonCache(properties, Ticker.systemTicker(), Runnable::run);
+		Random random = new Random(42);
+		for (int id = 1; id <= CATALOG_SIZE; id++) {
+			Pokemon.PokemonBuilder builder = Pokemon.builder().id(id).name("pokemon-" + id)
+					.baseExperience(random.nextInt(400));
+			for (int i = 1 + random.nextInt(3); i > 0; i--) {
+				builder.ability("ability-" + random.nextInt(300));
+			}
+			for (int i = random.nextInt(40); i > 0; i--) {
+				builder.encounter("kanto-route-" + random.nextInt(800) + "-south-towards-viridian-city-area");
+			}
+			Pokemon pokemon = builder.build();
+			before.get(pokemon.getName(), FetchPlan.FULL, p -> pokemon);
+		}
+
+		long saveStart = System.nanoTime();
+		int saved = new PokemonCacheSnapshot(before, new PokemonAliasIndex(), file, Clock.systemUTC()).save();
+		long saveMillis = (System.nanoTime() - saveStart) / 1_000_000;
+
+		// Arranque en frío: JVM sin calentar para este código, como tras un despliegue
+		PokemonCache after = new PokemonCache(properties, Ticker.systemTicker(), Runnable::run);
+		long restoreStart = System.nanoTime();
+		int restored = new PokemonCacheSnapshot(after, new PokemonAliasIndex(), file, Clock.systemUTC()).restore();
+		long restoreMillis = (System.nanoTime() - restoreStart) / 1_000_000;
+
+		System.out.printf("Snapshot: %,d entradas, %,d KB; volcado %d ms, restauración %d ms%n", saved,
+				Files.size(file) / 1024, saveMillis, restoreMillis);
+
+		assertThat(restored).isEqualTo(CATALOG_SIZE);
+		assertThat(restoreMillis).isLessThan(1_000);
+	}
+
+}
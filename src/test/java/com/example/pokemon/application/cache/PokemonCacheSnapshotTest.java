@@ -0,0 +1,122 @@
+package com.example.pokemon.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Freshness;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.model.PokemonLookup;
+
+class PokemonCacheSnapshotTest {
+
+	private static final Instant SHUTDOWN = Instant.parse("2026-01-01T10:00:00Z");
+
+	@TempDir
+	Path dir;
+
+	private final AtomicInteger loads = new AtomicInteger();
+	private PokemonCacheProperties properties;
+	private Path file;
+
+	@BeforeEach
+	void setUp() {
+		properties = new PokemonCacheProperties();
+		properties.setTtl(Duration.ofMinutes(10));
+		properties.setHardTtl(Duration.ofHours(1));
+		properties.setStaleIfError(Duration.ofHours(1));
+		file = dir.resolve("pokemon-cache.snapshot");
+	}
+
+	private Pokemon load(String name) {
+		loads.incrementAndGet();
+		return Pokemon.builder().id(25).name(name).baseExperience(112).ability("static")
+				.encounter("viridian-forest-area").build();
+	}
+
+	private static Clock at(Instant instant) {
+		return Clock.fixed(instant, ZoneOffset.UTC);
+	}
+
+	@Test
+	void restoredEntriesKeepTheirOriginalAge() {
+		AtomicLong oldNanos = new AtomicLong(1_000_000_000L);
+		PokemonCache before = new PokemonCache(properties, oldNanos::get, Runnable::run);
+		before.get("pikachu", FetchPlan.FULL, p -> load("pikachu"));
+		oldNanos.addAndGet(Duration.ofMinutes(8).toNanos());
+		assertThat(new PokemonCacheSnapshot(before, new PokemonAliasIndex(), file, at(SHUTDOWN)).save()).isEqualTo(1);
+
+		// Proceso nuevo: otro origen del ticker y 3 minutos después
+		AtomicLong newNanos = new AtomicLong(42L);
+		// Sin ejecutar el refresco en segundo plano: solo interesa lo restaurado
+		PokemonCache after = new PokemonCache(properties, newNanos::get, refresh -> {
+		});
+		int restored = new PokemonCacheSnapshot(after, new PokemonAliasIndex(), file,
+				at(SHUTDOWN.plus(Duration.ofMinutes(3)))).restore();
+		PokemonLookup lookup = after.lookup("pikachu", FetchPlan.FULL, p -> load("pikachu"));
+
+		assertThat(restored).isEqualTo(1);
+		assertThat(lookup.getFreshness()).isEqualTo(Freshness.STALE);
+		assertThat(lookup.getAge()).isEqualTo(Duration.ofMinutes(11));
+		assertThat(lookup.getPokemon().getAbilities()).containsExactly("static");
+		assertThat(lookup.getPokemon().getLocationAreaEncounters()).containsExactly("viridian-forest-area");
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void entriesPastTheirRetentionAreNotRestored() {
+		AtomicLong nanos = new AtomicLong();
+		PokemonCache before = new PokemonCache(properties, nanos::get, Runnable::run);
+		before.get("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+		new PokemonCacheSnapshot(before, new PokemonAliasIndex(), file, at(SHUTDOWN)).save();
+
+		PokemonCache after = new PokemonCache(properties, nanos::get, Runnable::run);
+		int restored = new PokemonCacheSnapshot(after, new PokemonAliasIndex(), file,
+				at(SHUTDOWN.plus(Duration.ofHours(3)))).restore();
+
+		assertThat(restored).isZero();
+		assertThat(after.size()).isZero();
+	}
+
+	@Test
+	void restoredEntriesFeedTheAliasIndex() {
+		AtomicLong nanos = new AtomicLong();
+		PokemonCache before = new PokemonCache(properties, nanos::get, Runnable::run);
+		before.get("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+		new PokemonCacheSnapshot(before, new PokemonAliasIndex(), file, at(SHUTDOWN)).save();
+
+		PokemonAliasIndex aliases = new PokemonAliasIndex();
+		new PokemonCacheSnapshot(new PokemonCache(properties, nanos::get, Runnable::run), aliases, file,
+				at(SHUTDOWN)).restore();
+
+		assertThat(aliases.resolve("025")).isEqualTo("pikachu");
+	}
+
+	@Test
+	void missingOrForeignFilesStartCold() throws IOException {
+		PokemonCache cache = new PokemonCache(properties, System::nanoTime, Runnable::run);
+		PokemonCacheSnapshot snapshot = new PokemonCacheSnapshot(cache, new PokemonAliasIndex(), file,
+				Clock.systemUTC());
+
+		assertThat(snapshot.restore()).isZero();
+
+		Files.write(file, new byte[] { 'P', 'K', 'C', 'S', 99 });
+		assertThat(snapshot.restore()).isZero();
+		assertThat(cache.size()).isZero();
+	}
+
+}
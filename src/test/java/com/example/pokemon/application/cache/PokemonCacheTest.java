@@ -0,0 +1,249 @@
+package com.example.pokemon.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.common.exceptions.RemoteClientException;
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Freshness;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.model.PokemonLookup;
+
+class PokemonCacheTest {
+
+	private final AtomicLong nanos = new AtomicLong();
+	private final AtomicInteger loads = new AtomicInteger();
+	/** Refrescos en segundo plano pendientes; el test decide cuándo ejecutarlos. */
+	private final List<Runnable> refreshes = new ArrayList<>();
+	private PokemonCacheProperties properties;
+
+	@BeforeEach
+	void setUp() {
+		properties = new PokemonCacheProperties();
+		properties.setTtl(Duration.ofMinutes(10));
+		properties.setHardTtl(Duration.ofHours(1));
+		properties.setStaleIfError(Duration.ofDays(1));
+		properties.setNegativeTtl(Duration.ofSeconds(30));
+	}
+
+	private PokemonCache newCache() {
+		return new PokemonCache(properties, nanos::get, refreshes::add);
+	}
+
+	private Pokemon load(String name) {
+		loads.incrementAndGet();
+		return Pokemon.builder().id(25).name(name).baseExperience(112).build();
+	}
+
+	@Test
+	void servesRepeatedLookupsFromMemory() {
+		PokemonCache cache = newCache();
+
+		cache.get("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+		Pokemon cached = cache.get("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+
+		assertThat(cached.getName()).isEqualTo("pikachu");
+		assertThat(loads).hasValue(1);
+		assertThat(cache.stats().hitCount()).isEqualTo(1);
+		assertThat(cache.stats().missCount()).isEqualTo(1);
+	}
+
+	@Test
+	void fullEntrySatisfiesBaseButNotTheOtherWayAround() {
+		PokemonCache cache = newCache();
+
+		cache.get("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+		cache.get("pikachu", FetchPlan.FULL, p -> load("pikachu"));
+		cache.get("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+
+		assertThat(loads).hasValue(2);
+		assertThat(cache.stats().missCount()).isEqualTo(2);
+	}
+
+	@Test
+	void versionIdentifiesTheLoadNotTheLookup() {
+		PokemonCache cache = newCache();
+
+		long loaded = cache.lookup("pikachu", FetchPlan.BASE, p -> load("pikachu")).getVersion();
+		long hit = cache.lookup("pikachu", FetchPlan.BASE, p -> load("pikachu")).getVersion();
+		long full = cache.lookup("pikachu", FetchPlan.FULL, p -> load("pikachu")).getVersion();
+
+		assertThat(loaded).isNotEqualTo(PokemonLookup.UNVERSIONED).isEqualTo(hit).isNotEqualTo(full);
+	}
+
+	@Test
+	void entriesPastHardTtlAreReloadedSynchronously() {
+		PokemonCache cache = newCache();
+
+		cache.get("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+		nanos.addAndGet(Duration.ofMinutes(61).toNanos());
+		PokemonLookup lookup = cache.lookup("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+
+		assertThat(lookup.getFreshness()).isEqualTo(Freshness.FRESH);
+		assertThat(loads).hasValue(2);
+		assertThat(refreshes).isEmpty();
+	}
+
+	@Test
+	void staleEntryIsServedImmediatelyWithOneBackgroundRefresh() {
+		PokemonCache cache = newCache();
+
+		cache.get("pikachu", FetchPlan.FULL, p -> load("pikachu"));
+		nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+		List<FetchPlan> refreshedPlans = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			PokemonLookup lookup = cache.lookup("pikachu", FetchPlan.BASE, p -> {
+				refreshedPlans.add(p);
+				return load("pikachu");
+			});
+			assertThat(lookup.getFreshness()).isEqualTo(Freshness.STALE);
+			assertThat(lookup.getAge()).isEqualTo(Duration.ofMinutes(11));
+		}
+
+		// Nada se ha cargado aún en el hilo del llamador, y solo hay un refresco
+		assertThat(loads).hasValue(1);
+		assertThat(refreshes).hasSize(1);
+
+		refreshes.remove(0).run();
+		PokemonLookup refreshed = cache.lookup("pikachu", FetchPlan.FULL, p -> load("pikachu"));
+
+		// El refresco conserva el plan de la entrada (FULL), no el de la petición
+		assertThat(refreshedPlans).containsExactly(FetchPlan.FULL);
+		assertThat(refreshed.getFreshness()).isEqualTo(Freshness.FRESH);
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void failedBackgroundRefreshKeepsServingStaleData() {
+		PokemonCache cache = newCache();
+
+		cache.get("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+		nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+		cache.lookup("pikachu", FetchPlan.BASE, p -> {
+			throw new RemoteClientException("Server error from PokeAPI: 503");
+		});
+		refreshes.remove(0).run();
+
+		PokemonLookup lookup = cache.lookup("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+		assertThat(lookup.getFreshness()).isEqualTo(Freshness.STALE);
+		assertThat(refreshes).hasSize(1); // se vuelve a intentar
+	}
+
+	@Test
+	void pastHardTtlWithPokeApiDownServesDegradedData() {
+		PokemonCache cache = newCache();
+
+		cache.get("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+		nanos.addAndGet(Duration.ofHours(5).toNanos());
+		PokemonLookup lookup = cache.lookup("pikachu", FetchPlan.BASE, p -> {
+			throw new RemoteClientException("PokeAPI circuit breaker is open");
+		});
+
+		assertThat(lookup.getFreshness()).isEqualTo(Freshness.DEGRADED);
+		assertThat(lookup.getPokemon().getName()).isEqualTo("pikachu");
+		assertThat(lookup.getAge()).isEqualTo(Duration.ofHours(5));
+
+		// Pasada la retención (hard-ttl + stale-if-error) ya no hay nada que servir
+		nanos.addAndGet(Duration.ofDays(1).toNanos());
+		assertThatThrownBy(() -> cache.lookup("pikachu", FetchPlan.BASE, p -> {
+			throw new RemoteClientException("PokeAPI circuit breaker is open");
+		})).isInstanceOf(RemoteClientException.class);
+	}
+
+	@Test
+	void notFoundIsCachedForNegativeTtl() {
+		PokemonCache cache = newCache();
+		Runnable lookup = () -> cache.get("pikachuu", FetchPlan.BASE, p -> {
+			loads.incrementAndGet();
+			throw new PokemonNotFoundException("Pokémon not found: pikachuu");
+		});
+
+		assertThatThrownBy(lookup::run).isInstanceOf(PokemonNotFoundException.class);
+		assertThatThrownBy(lookup::run).isInstanceOf(PokemonNotFoundException.class);
+		assertThat(loads).hasValue(1);
+
+		nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+		assertThatThrownBy(lookup::run).isInstanceOf(PokemonNotFoundException.class);
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void evictsWhenMaximumSizeIsExceeded() {
+		properties.setMaximumSize(10);
+		PokemonCache cache = newCache();
+
+		for (int i = 0; i < 50; i++) {
+			String name = "pokemon-" + i;
+			cache.get(name, FetchPlan.BASE, p -> load(name));
+		}
+		cache.cleanUp();
+
+		assertThat(cache.size()).isLessThanOrEqualTo(10);
+		assertThat(cache.stats().evictionCount()).isGreaterThanOrEqualTo(40);
+	}
+
+	@Test
+	void entriesEvictedFromHeapAreServedFromTheOffHeapTier() {
+		properties.setMaximumSize(10);
+		properties.getOffHeap().setEnabled(true);
+		properties.getOffHeap().setCapacity(DataSize.ofMegabytes(1));
+		PokemonCache cache = newCache();
+
+		for (int i = 0; i < 50; i++) {
+			String name = "pokemon-" + i;
+			cache.get(name, FetchPlan.BASE, p -> load(name));
+		}
+		cache.cleanUp();
+		assertThat(cache.offHeapSize()).isGreaterThanOrEqualTo(40);
+
+		for (int i = 0; i < 50; i++) {
+			String name = "pokemon-" + i;
+			assertThat(cache.get(name, FetchPlan.BASE, p -> load(name)).getName()).isEqualTo(name);
+		}
+		assertThat(loads).hasValue(50);
+	}
+
+	@Test
+	void offHeapEntriesKeepTheirOriginalAge() {
+		properties.setMaximumSize(1);
+		properties.getOffHeap().setEnabled(true);
+		properties.getOffHeap().setCapacity(DataSize.ofMegabytes(1));
+		PokemonCache cache = newCache();
+
+		cache.get("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+		nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+		for (int i = 0; i < 5; i++) {
+			String name = "pokemon-" + i;
+			cache.get(name, FetchPlan.BASE, p -> load(name));
+			cache.cleanUp();
+		}
+		PokemonLookup lookup = cache.lookup("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+
+		assertThat(lookup.getFreshness()).isEqualTo(Freshness.STALE);
+		assertThat(lookup.getAge()).isEqualTo(Duration.ofMinutes(11));
+	}
+
+	@Test
+	void disabledCacheAlwaysLoads() {
+		properties.setEnabled(false);
+		PokemonCache cache = newCache();
+
+		cache.get("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+		cache.get("pikachu", FetchPlan.BASE, p -> load("pikachu"));
+
+		assertThat(loads).hasValue(2);
+	}
+
+}
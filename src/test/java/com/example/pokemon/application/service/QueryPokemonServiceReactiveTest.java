@@ -0,0 +1,142 @@
+package com.example.pokemon.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.pokemon.adapters.out.pokeapi.PokeApiClient;
+import com.example.pokemon.adapters.out.pokeapi.PokeApiFixtures;
+import com.example.pokemon.adapters.out.pokeapi.PokeApiStubServer;
+import com.example.pokemon.adapters.out.pokeapi.diskcache.PokeApiDiskCache;
+import com.example.pokemon.adapters.out.pokeapi.resilience.PokeApiResilience;
+import com.example.pokemon.application.cache.PokemonAliasIndex;
+import com.example.pokemon.application.cache.PokemonCache;
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.config.PokeApiDiskCacheProperties;
+import com.example.pokemon.config.PokeApiProperties;
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.model.PokemonLookup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Camino reactivo de extremo a extremo (servicio → caché → PokeApiClient)
+ * contra el stub HTTP, con la caché en disco y la resiliencia activas como en
+ * application.yml.
+ *
+ * BlockHound hace fallar cualquier llamada bloqueante (E/S, {@code sleep},
+ * {@code join}, {@code block()}...) en hilos no bloqueantes (event loop de
+ * Netty, {@code Schedulers.parallel()}): al suscribirse desde {@code parallel}
+ * y completar en {@code reactor-http-*}, cualquier bloqueo en el camino haría
+ * fallar la consulta. Corre en su propia JVM ({@code @Tag("blockhound")}, ver
+ * pom.xml): BlockHound queda instalado para todo el proceso.
+ */
+@Tag("blockhound")
+class QueryPokemonServiceReactiveTest {
+
+	@TempDir
+	Path directory;
+
+	private PokeApiStubServer stub;
+	private PokemonCache cache;
+	private QueryPokemonService service;
+
+	@BeforeAll
+	static void installBlockHound() {
+		BlockHound.install();
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		stub = new PokeApiStubServer()
+				.route("/pokemon/pikachu", 200, PokeApiFixtures.json("pokemon-pikachu.json"))
+				.route("/pokemon/pikachu/encounters", 200, PokeApiFixtures.json("encounters-pikachu.json"));
+		PokeApiDiskCacheProperties diskCache = new PokeApiDiskCacheProperties();
+		diskCache.setDirectory(directory);
+		PokeApiClient client = new PokeApiClient(WebClient.builder().baseUrl(stub.baseUrl()).build(),
+				new PokeApiDiskCache(diskCache), new PokeApiResilience(new PokeApiProperties(),
+						new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)));
+		cache = new PokemonCache(new PokemonCacheProperties(),
+				new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+		service = new QueryPokemonService(client, cache, new PokemonAliasIndex());
+	}
+
+	@AfterEach
+	void tearDown() {
+		stub.close();
+	}
+
+	@Test
+	void blockingCallsOnNonBlockingThreadsFail() {
+		Mono<Object> sleeping = Mono.fromRunnable(() -> {
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}).subscribeOn(Schedulers.parallel());
+
+		assertThatThrownBy(sleeping::block).hasRootCauseInstanceOf(BlockingOperationError.class);
+	}
+
+	@Test
+	void remoteLoadCompletesWithoutBlocking() {
+		AtomicReference<Thread> completedOn = new AtomicReference<>();
+
+		Pokemon pokemon = service.getPokemonReactive("Pikachu")
+				.doOnNext(p -> completedOn.set(Thread.currentThread()))
+				.subscribeOn(Schedulers.parallel())
+				.block();
+
+		assertThat(pokemon.getId()).isEqualTo(25);
+		assertThat(pokemon.getLocationAreaEncounters()).isNotEmpty();
+		// Event loop o, tras guardar la respuesta en disco, boundedElastic: nunca el hilo suscriptor
+		assertThat(completedOn.get().getName()).matches("(reactor-http|boundedElastic).*");
+		assertThat(stub.hits("/pokemon/pikachu")).isEqualTo(1);
+	}
+
+	@Test
+	void cacheHitsCompleteOnTheSubscribingThread() {
+		service.lookupReactive("pikachu", FetchPlan.BASE).subscribeOn(Schedulers.parallel()).block();
+		AtomicReference<Thread> completedOn = new AtomicReference<>();
+		AtomicReference<Thread> subscribedOn = new AtomicReference<>();
+
+		PokemonLookup lookup = Mono.defer(() -> {
+			subscribedOn.set(Thread.currentThread());
+			return service.lookupReactive("25", FetchPlan.BASE);
+		}).doOnNext(l -> completedOn.set(Thread.currentThread())).subscribeOn(Schedulers.parallel()).block();
+
+		assertThat(lookup.getPokemon().getName()).isEqualTo("pikachu");
+		assertThat(completedOn.get()).isSameAs(subscribedOn.get());
+		assertThat(stub.hits("/pokemon/pikachu")).isEqualTo(1);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void notFoundIsSignalledAndCachedNegatively() {
+		Mono<PokemonLookup> missing = service.lookupReactive("missingno", FetchPlan.BASE)
+				.subscribeOn(Schedulers.parallel());
+
+		assertThatThrownBy(missing::block).isInstanceOf(PokemonNotFoundException.class);
+		assertThatThrownBy(missing::block).isInstanceOf(PokemonNotFoundException.class);
+		assertThat(stub.hits("/pokemon/missingno")).isEqualTo(1);
+	}
+
+}
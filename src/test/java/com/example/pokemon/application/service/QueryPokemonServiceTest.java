@@ -0,0 +1,96 @@
+package com.example.pokemon.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.example.pokemon.application.cache.PokemonAliasIndex;
+import com.example.pokemon.application.cache.PokemonCache;
+import com.example.pokemon.common.exceptions.PokemonNotFoundException;
+import com.example.pokemon.config.PokemonCacheProperties;
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+import com.example.pokemon.domain.ports.out.BlockingLoadPokemonPort;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+class QueryPokemonServiceTest {
+
+	private final List<String> loads = new ArrayList<>();
+	private PokemonCache cache;
+	private QueryPokemonService service;
+
+	@BeforeEach
+	void setUp() {
+		cache = new PokemonCache(new PokemonCacheProperties(),
+				new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+		service = service(new PokemonAliasIndex());
+	}
+
+	private QueryPokemonService service(PokemonAliasIndex aliases) {
+		BlockingLoadPokemonPort port = (name, plan) -> {
+			loads.add(name);
+			if (!name.equals("pikachu") && !name.equals("25")) {
+				throw new PokemonNotFoundException("Pokémon not found: " + name);
+			}
+			return Pokemon.builder().id(25).name("pikachu").baseExperience(112).build();
+		};
+		return new QueryPokemonService(port, cache, aliases);
+	}
+
+	@Test
+	void nameVariantsShareOneCanonicalLoad() {
+		service.getPokemon("Pikachu", FetchPlan.BASE);
+		service.getPokemon(" pikachu ", FetchPlan.BASE);
+		service.getPokemon("PIKACHU", FetchPlan.BASE);
+
+		assertThat(loads).containsExactly("pikachu");
+	}
+
+	@Test
+	void numericIdsShareTheEntryOfTheirName() {
+		assertThat(service.getPokemon("025", FetchPlan.BASE).getName()).isEqualTo("pikachu");
+		service.getPokemon("pikachu", FetchPlan.BASE);
+		service.getPokemon("25", FetchPlan.BASE);
+
+		assertThat(loads).containsExactly("25");
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void unknownIdsAreCachedAsNotFound() {
+		assertThatThrownBy(() -> service.getPokemon("9999", FetchPlan.BASE))
+				.isInstanceOf(PokemonNotFoundException.class);
+		assertThatThrownBy(() -> service.getPokemon("09999", FetchPlan.BASE))
+				.isInstanceOf(PokemonNotFoundException.class);
+
+		assertThat(loads).containsExactly("9999");
+	}
+
+	@Test
+	void cacheHitsFeedTheAliasIndex() {
+		service.getPokemon("pikachu", FetchPlan.BASE);
+		// Otro índice sobre la misma caché, como tras restaurar un snapshot
+		QueryPokemonService restarted = service(new PokemonAliasIndex());
+
+		restarted.getPokemon("pikachu", FetchPlan.BASE);
+		restarted.getPokemon("25", FetchPlan.BASE);
+
+		assertThat(loads).containsExactly("pikachu");
+	}
+
+	@Test
+	void idOfAKnownNameNeedsNoLookup() {
+		service.getPokemon("pikachu", FetchPlan.BASE);
+
+		assertThat(service.getId(" Pikachu ")).isEqualTo(25);
+		assertThat(loads).containsExactly("pikachu");
+	}
+
+}
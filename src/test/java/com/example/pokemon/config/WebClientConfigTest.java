@@ -0,0 +1,88 @@
+package com.example.pokemon.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.pokemon.adapters.out.pokeapi.PokeApiClient;
+import com.example.pokemon.adapters.out.pokeapi.PokeApiFixtures;
+import com.example.pokemon.adapters.out.pokeapi.PokeApiStubServer;
+import com.example.pokemon.adapters.out.pokeapi.diskcache.PokeApiDiskCache;
+import com.example.pokemon.adapters.out.pokeapi.resilience.PokeApiResilience;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.netty.resources.ConnectionProvider;
+
+class WebClientConfigTest {
+
+	private final WebClientConfig config = new WebClientConfig();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private PokeApiStubServer stub;
+	private ConnectionProvider provider;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Metrics.addRegistry(registry);
+		stub = new PokeApiStubServer()
+				.route("/pokemon/pikachu", 200, PokeApiFixtures.json("pokemon-pikachu.json"))
+				.route("/pokemon/pikachu/encounters", 200, PokeApiFixtures.json("encounters-pikachu.json"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		stub.close();
+		if (provider != null) {
+			provider.dispose();
+		}
+		Metrics.removeRegistry(registry);
+	}
+
+	private PokeApiClient client(PokeApiProperties properties) {
+		provider = config.pokeApiConnectionProvider(properties);
+		WebClient webClient = config.pokeApiWebClient(properties, provider);
+		return new PokeApiClient(webClient, PokeApiDiskCache.disabled(),
+				PokeApiResilience.disabled());
+	}
+
+	private PokeApiProperties properties(boolean compression) {
+		PokeApiProperties properties = new PokeApiProperties();
+		properties.setBaseUrl(stub.baseUrl());
+		properties.setCompression(compression);
+		// Ignorado en http: HTTP/2 solo se negocia sobre TLS
+		properties.setHttp2(true);
+		properties.getPool().setName("pokeapi-test");
+		return properties;
+	}
+
+	@Test
+	void compressionRequestsAndDecodesGzipBodies() {
+		assertThat(client(properties(true)).getPokemon("pikachu").getAbilities())
+				.containsExactly("static", "lightning-rod");
+
+		assertThat(stub.gzipped("/pokemon/pikachu")).isEqualTo(1);
+		assertThat(stub.gzipped("/pokemon/pikachu/encounters")).isEqualTo(1);
+	}
+
+	@Test
+	void compressionIsOptIn() {
+		client(properties(false)).getPokemon("pikachu");
+
+		assertThat(stub.gzipped("/pokemon/pikachu")).isZero();
+	}
+
+	@Test
+	void namedPoolPublishesConnectionMetrics() {
+		client(properties(false)).getPokemon("pikachu");
+
+		for (String gauge : new String[] { "active", "idle", "pending", "total" }) {
+			assertThat(registry.find("reactor.netty.connection.provider." + gauge + ".connections")
+					.tag("name", "pokeapi-test").gauge()).as(gauge).isNotNull();
+		}
+	}
+
+}
@@ -0,0 +1,21 @@
+package com.example.pokemon.domain.ports.out;
+
+import com.example.pokemon.domain.model.FetchPlan;
+import com.example.pokemon.domain.model.Pokemon;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link LoadPokemonPort} de prueba definido con una lambda: la variante
+ * reactiva ejecuta la carga en el hilo que se suscribe (los dobles de prueba no
+ * hacen E/S).
+ */
+@FunctionalInterface
+public interface BlockingLoadPokemonPort extends LoadPokemonPort {
+
+	@Override
+	default Mono<Pokemon> loadByNameReactive(String name, FetchPlan plan) {
+		return Mono.fromCallable(() -> loadByName(name, plan));
+	}
+
+}